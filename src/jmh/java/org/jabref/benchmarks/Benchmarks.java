@@ -3,11 +3,12 @@ package org.jabref.benchmarks;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.util.EnumSet;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Random;
-import java.util.stream.Collectors;
 
+import org.jabref.http.server.LibraryCache;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.exporter.BibWriter;
@@ -15,10 +16,10 @@ import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
-import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
@@ -32,7 +33,7 @@ import org.jabref.model.groups.GroupHierarchyType;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
-import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.JabRefPreferences;
 import org.jabref.preferences.PreferencesService;
 
@@ -53,6 +54,8 @@ public class Benchmarks {
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private Path libraryFile;
+    private final LibraryCache libraryCache = new LibraryCache();
 
     @Setup
     public void init() throws Exception {
@@ -73,6 +76,10 @@ public class Benchmarks {
 
         bibtexString = getOutputWriter().toString();
 
+        libraryFile = Files.createTempFile("benchmark", ".bib");
+        libraryFile.toFile().deleteOnExit();
+        Files.writeString(libraryFile, bibtexString);
+
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
@@ -98,23 +105,41 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    /**
+     * Simulates a request to the http server without caching: the library is parsed for each request
+     */
+    @Benchmark
+    public ParserResult serveLibraryWithoutCache() throws IOException {
+        return importLibrary(libraryFile);
+    }
+
+    /**
+     * Simulates a request to the http server serving an unchanged library from the {@link LibraryCache}
+     */
+    @Benchmark
+    public ParserResult serveLibraryWithCache() throws IOException {
+        return libraryCache.get(libraryFile, this::importLibrary);
+    }
+
+    private ParserResult importLibrary(Path library) throws IOException {
+        PreferencesService preferencesService = Injector.instantiateModelOrService(PreferencesService.class);
+        return new BibtexImporter(preferencesService.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
+    }
+
     @Benchmark
     public String write() throws Exception {
         return getOutputWriter().toString();
     }
 
     @Benchmark
-    public List<BibEntry> search() {
-        // FIXME: Reuse SearchWorker here
-        SearchQuery searchQuery = new SearchQuery("Journal Title 500", EnumSet.noneOf(SearchFlags.class));
-        return database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    public Optional<BibEntry> getEntryByCitationKey() {
+        // The last entry is the worst case for a scan over all entries
+        return database.getEntryByCitationKey("id999");
     }
 
     @Benchmark
-    public List<BibEntry> parallelSearch() {
-        // FIXME: Reuse SearchWorker here
-        SearchQuery searchQuery = new SearchQuery("Journal Title 500", EnumSet.noneOf(SearchFlags.class));
-        return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    public boolean isDuplicateCitationKeyExisting() {
+        return database.isDuplicateCitationKeyExisting("id999");
     }
 
     @Benchmark
@@ -0,0 +1,83 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.mockito.Answers;
+import org.openjdk.jol.info.GraphLayout;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Reports the memory needed per {@link BibEntry} using JOL. Run it on two commits to compare the entry representations.
+ * <p>
+ * The footprint is measured for entries created directly (as done by fetchers and importers), for entries of a parsed
+ * library (registered at their library and keeping their parsed serialization), and for the same entries after
+ * searching and displaying them filled their field caches. Objects shared between entries, such as the library
+ * itself, are counted once and spread over all entries.
+ */
+public class BibEntryFootprint {
+
+    private static final int NUMBER_OF_ENTRIES = 10000;
+
+    public static void main(String[] args) throws IOException {
+        List<BibEntry> createdEntries = new ArrayList<>();
+        StringBuilder bibtex = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = createEntry(i);
+            createdEntries.add(entry);
+            bibtex.append("@article{key").append(i).append(",\n");
+            entry.getFields().stream()
+                 .filter(field -> !field.equals(InternalField.KEY_FIELD))
+                 .forEach(field -> bibtex.append("  ").append(field.getName()).append(" = {").append(entry.getField(field).orElseThrow()).append("},\n"));
+            bibtex.append("}\n\n");
+        }
+        report("Created entries", createdEntries);
+
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        List<BibEntry> parsedEntries = new BibtexParser(importFormatPreferences).parse(new StringReader(bibtex.toString()))
+                                                                               .getDatabase()
+                                                                               .getEntries();
+        report("Entries of a parsed library", parsedEntries);
+
+        for (BibEntry entry : parsedEntries) {
+            for (Field field : entry.getFields()) {
+                entry.getFieldLatexFree(field);
+                entry.getFieldAsWords(field);
+            }
+            entry.getFieldAsKeywords(StandardField.KEYWORDS, ',');
+        }
+        report("Entries of a parsed library with filled caches", parsedEntries);
+    }
+
+    private static BibEntry createEntry(int number) {
+        return new BibEntry(StandardEntryType.Article)
+                .withCitationKey("key" + number)
+                .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB " + number)
+                .withField(StandardField.TITLE, "A {Title} with {\\\"u}mlauts " + number)
+                .withField(StandardField.JOURNAL, "Journal Title " + (number % 100))
+                .withField(StandardField.YEAR, String.valueOf(1900 + (number % 120)))
+                .withField(StandardField.PAGES, number + "--" + (number + 10))
+                .withField(StandardField.DOI, "10.1000/" + number)
+                .withField(StandardField.KEYWORDS, "keyword" + (number % 10) + ", testkeyword")
+                .withField(new UnknownField("custom"), "Custom value " + number);
+    }
+
+    private static void report(String description, List<BibEntry> entries) {
+        long totalSize = GraphLayout.parseInstance(entries.toArray()).totalSize();
+        System.out.printf("%s: %d bytes per entry%n", description, totalSize / entries.size());
+    }
+}
@@ -0,0 +1,49 @@
+package org.jabref.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Generation of citation keys for all entries of a library, as done by "Generate citation keys" on all entries
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CitationKeyBenchmarks {
+
+    @Param({"10000", "100000", "500000"})
+    public int numberOfEntries;
+
+    private BibDatabaseContext databaseContext;
+    private CitationKeyGenerator generator;
+
+    @Setup
+    public void setUp() {
+        databaseContext = SyntheticLibrary.generate(numberOfEntries);
+        generator = new CitationKeyGenerator(databaseContext, JabRefPreferences.getInstance().getCitationKeyPatternPreferences());
+    }
+
+    /**
+     * Generates the keys without setting them, so that each invocation works on the same library
+     */
+    @Benchmark
+    public void generateKeys(Blackhole blackhole) {
+        for (BibEntry entry : databaseContext.getEntries()) {
+            blackhole.consume(generator.generateKey(entry));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.citationstyle.CitationStyle;
+import org.jabref.logic.citationstyle.CitationStyleGenerator;
+import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Rendering entries with a citation style, as done by the preview and by "Copy citation"
+ * <p>
+ * The CSL engine renders a few hundred entries per second, thus only a selection of the library is rendered. The
+ * library size matters for entries inheriting fields by crossref.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CslBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 10000;
+
+    @Param({"10", "100", "1000"})
+    public int numberOfRenderedEntries;
+
+    @Param({"ieee.csl", "apa.csl"})
+    public String style;
+
+    private BibDatabaseContext databaseContext;
+    private List<BibEntry> renderedEntries;
+    private String styleSource;
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+
+    @Setup
+    public void setUp() {
+        databaseContext = SyntheticLibrary.generate(NUMBER_OF_ENTRIES);
+        renderedEntries = databaseContext.getEntries().subList(0, numberOfRenderedEntries);
+        styleSource = CitationStyle.createCitationStyleFromFile(style).orElseThrow().getSource();
+    }
+
+    /**
+     * Renders one bibliography of all selected entries
+     */
+    @Benchmark
+    public List<String> renderBibliography() {
+        return CitationStyleGenerator.generateCitations(renderedEntries, styleSource, CitationStyleOutputFormat.HTML, databaseContext, entryTypesManager);
+    }
+
+    /**
+     * Renders each selected entry on its own
+     */
+    @Benchmark
+    public List<String> renderEachEntry() {
+        return CitationStyleGenerator.generateCitationOfEachEntry(renderedEntries, styleSource, CitationStyleOutputFormat.HTML, databaseContext, entryTypesManager);
+    }
+}
@@ -0,0 +1,61 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.bibtex.comparator.BibDatabaseDiff;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Comparing a library with a changed version of it, as done when the library file is modified externally
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DatabaseDiffBenchmarks {
+
+    private static final int NUMBER_OF_ADDED_ENTRIES = 100;
+
+    @Param({"10000", "100000", "500000"})
+    public int numberOfEntries;
+
+    private BibDatabaseContext base;
+    private BibDatabaseContext changed;
+
+    @Setup
+    public void setUp() {
+        base = SyntheticLibrary.generate(numberOfEntries);
+
+        // Changes one percent of the entries, removes some, and adds some new ones
+        changed = SyntheticLibrary.generate(numberOfEntries);
+        List<BibEntry> entries = changed.getEntries();
+        List<BibEntry> removedEntries = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            if (i % 100 == 0) {
+                entry.setField(StandardField.TITLE, entry.getTitle().orElse("") + " (revised)");
+            } else if (i % 500 == 1) {
+                removedEntries.add(entry);
+            }
+        }
+        changed.getDatabase().removeEntries(removedEntries);
+        changed.getDatabase().insertEntries(SyntheticLibrary.generate(NUMBER_OF_ADDED_ENTRIES, SyntheticLibrary.DEFAULT_SEED + 1).getEntries());
+    }
+
+    @Benchmark
+    public BibDatabaseDiff compare() {
+        return BibDatabaseDiff.compare(base, changed);
+    }
+}
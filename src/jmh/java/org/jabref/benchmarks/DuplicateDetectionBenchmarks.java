@@ -0,0 +1,81 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.database.DuplicateCandidateIndex;
+import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Duplicate detection within a library ("Find duplicates") and of imported entries against a library
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DuplicateDetectionBenchmarks {
+
+    private static final int NUMBER_OF_IMPORTED_ENTRIES = 1000;
+
+    // Finding all duplicates of a library with 500,000 entries takes too long for repeated measurements
+    @Param({"10000", "100000"})
+    public int numberOfEntries;
+
+    private List<BibEntry> entries;
+    private List<BibEntry> importedEntries;
+    private DuplicateCheck duplicateCheck;
+    private DuplicateCandidateIndex candidateIndex;
+
+    @Setup
+    public void setUp() {
+        BibDatabaseContext databaseContext = SyntheticLibrary.generate(numberOfEntries);
+        entries = databaseContext.getEntries();
+        // Another seed creates other entries, which still resemble some entries of the library
+        importedEntries = SyntheticLibrary.generate(NUMBER_OF_IMPORTED_ENTRIES, SyntheticLibrary.DEFAULT_SEED + 1).getEntries();
+        duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        candidateIndex = new DuplicateCandidateIndex(entries);
+    }
+
+    /**
+     * Compares all pairs of candidates, as done by the duplicate finder
+     */
+    @Benchmark
+    public int findDuplicatesInLibrary() {
+        int duplicates = 0;
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(entries);
+        for (BibEntry first : entries) {
+            for (BibEntry second : index.getCandidatesAddedAfter(first)) {
+                if (duplicateCheck.isDuplicate(first, second, BibDatabaseMode.BIBTEX)) {
+                    duplicates++;
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Checks entries for duplicates in the library, as done when importing entries
+     */
+    @Benchmark
+    public int checkImportedEntries() {
+        int duplicates = 0;
+        for (BibEntry entry : importedEntries) {
+            if (duplicateCheck.containsDuplicate(candidateIndex, entry, BibDatabaseMode.BIBTEX).isPresent()) {
+                duplicates++;
+            }
+        }
+        return duplicates;
+    }
+}
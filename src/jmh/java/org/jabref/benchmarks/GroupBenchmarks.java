@@ -0,0 +1,84 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.GroupMembershipCache;
+import org.jabref.model.groups.GroupTreeNode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Matching the entries of a library against its group tree, as done for showing the number of entries per group
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GroupBenchmarks {
+
+    @Param({"10000", "100000", "500000"})
+    public int numberOfEntries;
+
+    private BibDatabase database;
+    private List<GroupTreeNode> nodes;
+    private GroupMembershipCache filledCache;
+    private BibEntry changedEntry;
+    private boolean keywordAdded;
+
+    @Setup
+    public void setUp() {
+        BibDatabaseContext databaseContext = SyntheticLibrary.generate(numberOfEntries);
+        database = databaseContext.getDatabase();
+        nodes = databaseContext.getMetaData().getGroups().orElseThrow().iterateOverTree().toList();
+        filledCache = new GroupMembershipCache(database);
+        nodes.forEach(filledCache::numberOfMatchesProperty);
+        changedEntry = database.getEntries().get(numberOfEntries / 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.unregisterListener(filledCache);
+    }
+
+    /**
+     * Evaluates all groups for all entries
+     */
+    @Benchmark
+    public int findMatchesOfAllGroups() {
+        return nodes.stream().mapToInt(node -> node.findMatches(database).size()).sum();
+    }
+
+    /**
+     * Fills a new cache of group matches, as done when a library is opened
+     */
+    @Benchmark
+    public int fillMembershipCache() {
+        GroupMembershipCache cache = new GroupMembershipCache(database);
+        int matches = nodes.stream().mapToInt(node -> cache.numberOfMatchesProperty(node).get()).sum();
+        database.unregisterListener(cache);
+        return matches;
+    }
+
+    /**
+     * Changes the keywords of one entry, which updates the matches of the keyword groups
+     */
+    @Benchmark
+    public int updateMembershipCacheAfterEdit() {
+        keywordAdded = !keywordAdded;
+        String keywords = changedEntry.getField(StandardField.KEYWORDS).orElse("");
+        changedEntry.setField(StandardField.KEYWORDS, keywordAdded ? keywords + ", security" : keywords.substring(0, keywords.length() - ", security".length()));
+        return nodes.stream().mapToInt(node -> filledCache.numberOfMatchesProperty(node).get()).sum();
+    }
+}
@@ -0,0 +1,80 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.preferences.JabRefPreferences;
+import org.jabref.preferences.PreferencesService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Checking the integrity of all entries of a library ("Check integrity")
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IntegrityBenchmarks {
+
+    @Param({"10000", "100000", "500000"})
+    public int numberOfEntries;
+
+    private BibDatabaseContext databaseContext;
+    private PreferencesService preferencesService;
+    private JournalAbbreviationRepository abbreviationRepository;
+
+    @Setup
+    public void setUp() {
+        databaseContext = SyntheticLibrary.generate(numberOfEntries);
+        preferencesService = JabRefPreferences.getInstance();
+        abbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+    }
+
+    private IntegrityCheck createIntegrityCheck() {
+        return new IntegrityCheck(databaseContext,
+                preferencesService.getFilePreferences(),
+                preferencesService.getCitationKeyPatternPreferences(),
+                abbreviationRepository,
+                false);
+    }
+
+    /**
+     * Checks all entries one after the other
+     */
+    @Benchmark
+    public List<IntegrityMessage> checkEntries() {
+        IntegrityCheck integrityCheck = createIntegrityCheck();
+        List<IntegrityMessage> messages = new ArrayList<>();
+        for (BibEntry entry : databaseContext.getEntries()) {
+            messages.addAll(integrityCheck.checkEntry(entry));
+        }
+        messages.addAll(integrityCheck.checkDatabase(databaseContext.getDatabase()));
+        return messages;
+    }
+
+    /**
+     * Checks the entries in parallel, as done by the integrity check dialog
+     */
+    @Benchmark
+    public List<IntegrityMessage> checkEntriesInParallel() {
+        IntegrityCheck integrityCheck = createIntegrityCheck();
+        List<IntegrityMessage> messages = new ArrayList<>(integrityCheck.checkEntriesInParallel(databaseContext.getEntries(), () -> false, checked -> {
+        }));
+        messages.addAll(integrityCheck.checkDatabase(databaseContext.getDatabase()));
+        return messages;
+    }
+}
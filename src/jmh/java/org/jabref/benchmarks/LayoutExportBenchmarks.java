@@ -0,0 +1,72 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.exporter.TemplateExporter;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
+import org.jabref.preferences.JabRefPreferences;
+import org.jabref.preferences.PreferencesService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Exporting a library using the layout files of the built-in template exporters
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LayoutExportBenchmarks {
+
+    @Param({"10000", "100000", "500000"})
+    public int numberOfEntries;
+
+    @Param({"html", "docbook5", "yaml"})
+    public String layout;
+
+    private BibDatabaseContext databaseContext;
+    private TemplateExporter exporter;
+    private Path exportFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        PreferencesService preferencesService = JabRefPreferences.getInstance();
+        databaseContext = SyntheticLibrary.generate(numberOfEntries);
+        StandardFileType fileType = switch (layout) {
+            case "html" -> StandardFileType.HTML;
+            case "docbook5" -> StandardFileType.XML;
+            default -> StandardFileType.YAML;
+        };
+        exporter = new TemplateExporter(layout, layout, layout, null, fileType,
+                preferencesService.getLayoutFormatterPreferences(),
+                SelfContainedSaveOrder.of(preferencesService.getSelfContainedExportConfiguration().getSaveOrder()));
+        exportFile = Files.createTempFile("benchmark", "." + fileType.getExtensions().getFirst());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(exportFile);
+    }
+
+    @Benchmark
+    public long export() throws Exception {
+        exporter.export(databaseContext, exportFile, databaseContext.getEntries(), List.of(), mock(JournalAbbreviationRepository.class));
+        return Files.size(exportFile);
+    }
+}
@@ -0,0 +1,60 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.importer.fileformat.ParallelBibtexParser;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.JabRefPreferences;
+import org.jabref.preferences.PreferencesService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reading and writing of BibTeX libraries
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParserBenchmarks {
+
+    @Param({"10000", "100000", "500000"})
+    public int numberOfEntries;
+
+    private PreferencesService preferencesService;
+    private BibDatabaseContext databaseContext;
+    private String bibtex;
+
+    @Setup
+    public void setUp() throws IOException {
+        preferencesService = JabRefPreferences.getInstance();
+        databaseContext = SyntheticLibrary.generate(numberOfEntries);
+        bibtex = SyntheticLibrary.toBibtex(databaseContext, preferencesService);
+    }
+
+    @Benchmark
+    public ParserResult parse() throws IOException {
+        return new BibtexParser(preferencesService.getImportFormatPreferences()).parse(new StringReader(bibtex));
+    }
+
+    @Benchmark
+    public ParserResult parseInParallel() throws IOException {
+        return new ParallelBibtexParser(preferencesService.getImportFormatPreferences(), new DummyFileUpdateMonitor()).parse(bibtex);
+    }
+
+    @Benchmark
+    public String write() throws IOException {
+        return SyntheticLibrary.toBibtex(databaseContext, preferencesService);
+    }
+}
@@ -0,0 +1,68 @@
+package org.jabref.benchmarks;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.search.DatabaseSearcher;
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.FieldTokenIndex;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Searching a library with the queries of the search bar, with and without the index of field tokens
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SearchBenchmarks {
+
+    @Param({"10000", "100000", "500000"})
+    public int numberOfEntries;
+
+    @Param({"Nature", "author=Müller and year=2020", "title=\"neural graphs\"", "keywords==security"})
+    public String query;
+
+    private BibDatabase database;
+    private FieldTokenIndex index;
+    private SearchQuery searchQuery;
+
+    @Setup
+    public void setUp() {
+        database = SyntheticLibrary.generate(numberOfEntries).getDatabase();
+        index = new FieldTokenIndex(database);
+        searchQuery = new SearchQuery(query, EnumSet.noneOf(SearchFlags.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        index.shutdown();
+    }
+
+    @Benchmark
+    public List<BibEntry> search() {
+        return new DatabaseSearcher(searchQuery, database).getMatches();
+    }
+
+    @Benchmark
+    public List<BibEntry> searchWithFieldTokenIndex() {
+        return new DatabaseSearcher(searchQuery, database, index).getMatches();
+    }
+
+    @Benchmark
+    public List<BibEntry> searchInParallel() {
+        return database.getEntries().parallelStream().filter(searchQuery::isMatch).toList();
+    }
+}
@@ -0,0 +1,331 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.util.OS;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.groups.AllEntriesGroup;
+import org.jabref.model.groups.ExplicitGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.RegexKeywordGroup;
+import org.jabref.model.groups.SearchGroup;
+import org.jabref.model.groups.WordKeywordGroup;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.preferences.PreferencesService;
+
+/**
+ * Generates libraries resembling real ones for the benchmarks.
+ * <p>
+ * Synthetic entries that differ only in a counter are unrealistically easy for most algorithms: all titles share the
+ * same words, there are no LaTeX commands to convert, and no two entries look alike. Instead, the entries are
+ * assembled from pools of names, words, and journals, so that values repeat with a realistic frequency. The library
+ * contains articles, proceedings with papers referring to them by crossref, books and theses, linked files, explicit
+ * group assignments, near duplicates, and a group tree of all kinds of groups. The same seed always creates the same
+ * library, so results of different versions can be compared.
+ */
+public final class SyntheticLibrary {
+
+    public static final long DEFAULT_SEED = 42;
+
+    /**
+     * The keywords each entry draws its keywords from, also used for the keyword groups
+     */
+    public static final List<String> KEYWORDS = List.of(
+            "machine learning", "software engineering", "databases", "information retrieval", "security",
+            "networks", "formal methods", "human-computer interaction", "bioinformatics", "quantum computing",
+            "distributed systems", "programming languages", "computer vision", "robotics", "digital libraries");
+
+    private static final List<String> FIRST_NAMES = List.of(
+            "Anna", "Bernd", "Carla", "David", "Emma", "Felix", "Greta", "Hiroshi", "Ingrid", "Jan", "Karin", "Li",
+            "Maria", "Nikolai", "Olga", "Pierre", "Qiang", "Rosa", "Sven", "Tomás", "Ursula", "Viktor", "Wei", "Yuki",
+            "Zoë", "J. R. R.", "A.", "Jean-Luc", "Fran{\\c{c}}ois", "J{\\\"o}rg", "Ren{\\'e}e", "{\\O}ystein");
+
+    private static final List<String> LAST_NAMES = List.of(
+            "Müller", "Schmidt", "Smith", "Johnson", "Nguyen", "Wang", "Kim", "Garcia", "Rossi", "Novák", "Kowalski",
+            "Ivanov", "Tanaka", "Dubois", "Jensen", "Silva", "Cohen", "Andersson", "Papadopoulos", "O'Brien",
+            "M{\\\"u}ller", "Gonz{\\'a}lez", "Erd{\\H{o}}s", "Schr{\\\"o}dinger", "{\\v{C}}apek", "Sch{\\\"a}fer",
+            "van der Aalst", "de la Cruz", "von Neumann", "di Stefano", "{Le Gall}", "Smith, Jr.");
+
+    private static final List<String> CORPORATE_AUTHORS = List.of(
+            "{World Health Organization}", "{IEEE Computer Society}", "{The JabRef Developers}", "{European Commission}");
+
+    private static final List<String> TITLE_WORDS = List.of(
+            "analysis", "approach", "towards", "efficient", "scalable", "novel", "framework", "evaluation", "model",
+            "learning", "graphs", "queries", "verification", "optimization", "algorithms", "data", "systems",
+            "distributed", "secure", "adaptive", "semantic", "neural", "probabilistic", "incremental", "robust",
+            "benchmarking", "case study", "survey", "empirical", "large-scale", "real-time", "parallel", "indexing");
+
+    private static final List<String> TITLE_DECORATIONS = List.of(
+            "{DNA}", "{LaTeX}", "{B}ayesian", "{\\em in vivo}", "$O(n \\log n)$", "{\\textbf{fast}}",
+            "{M}arkov", "$\\lambda$-calculus", "{\\\"U}bersicht", "{SQL}", "{\\&} beyond", "{Java}");
+
+    private static final List<String> JOURNALS = List.of(
+            "Communications of the ACM", "IEEE Transactions on Software Engineering", "Nature", "Science",
+            "Journal of the ACM", "ACM Computing Surveys", "Information Systems", "Bioinformatics",
+            "Empirical Software Engineering", "The VLDB Journal", "Artificial Intelligence", "Physical Review Letters",
+            "J. Comput. Phys.", "Proc. Natl. Acad. Sci. USA", "Zeitschrift f{\\\"u}r Physik", "Acta Informatica");
+
+    private static final List<String> PUBLISHERS = List.of(
+            "Springer", "ACM", "IEEE", "Elsevier", "Wiley", "MIT Press", "Cambridge University Press", "O'Reilly");
+
+    private static final List<String> SCHOOLS = List.of(
+            "University of Stuttgart", "Technische Universit{\\\"a}t M{\\\"u}nchen", "ETH Z{\\\"u}rich", "MIT",
+            "Stanford University", "University of Tokyo");
+
+    private static final List<String> EXPLICIT_GROUPS = List.of("To read", "Important", "Cited in thesis");
+
+    private SyntheticLibrary() {
+    }
+
+    public static BibDatabaseContext generate(int numberOfEntries) {
+        return generate(numberOfEntries, DEFAULT_SEED);
+    }
+
+    /**
+     * Generates a BibTeX library with the given number of entries
+     */
+    public static BibDatabaseContext generate(int numberOfEntries, long seed) {
+        Random random = new Random(seed);
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        List<String> proceedingsKeys = new ArrayList<>();
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry;
+            int kind = random.nextInt(100);
+            if ((kind < 2) && !entries.isEmpty()) {
+                entry = createNearDuplicate(entries.get(random.nextInt(entries.size())), random);
+            } else if ((kind < 7) || proceedingsKeys.isEmpty()) {
+                entry = createProceedings(i, random);
+                proceedingsKeys.add(entry.getCitationKey().orElseThrow());
+            } else if (kind < 32) {
+                entry = createInProceedings(i, proceedingsKeys.get(random.nextInt(proceedingsKeys.size())), random);
+            } else if (kind < 40) {
+                entry = createBook(i, random);
+            } else if (kind < 43) {
+                entry = createThesis(i, random);
+            } else {
+                entry = createArticle(i, random);
+            }
+            entries.add(entry);
+        }
+
+        MetaData metaData = new MetaData();
+        metaData.setMode(BibDatabaseMode.BIBTEX);
+        metaData.setGroups(createGroups());
+        return new BibDatabaseContext(new BibDatabase(entries), metaData);
+    }
+
+    /**
+     * Serializes the given library as it would be saved by JabRef
+     */
+    public static String toBibtex(BibDatabaseContext databaseContext, PreferencesService preferencesService) throws IOException {
+        StringWriter writer = new StringWriter();
+        BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
+                new BibWriter(writer, OS.NEWLINE),
+                preferencesService.getSelfContainedExportConfiguration(),
+                preferencesService.getFieldPreferences(),
+                preferencesService.getCitationKeyPatternPreferences(),
+                preferencesService.getCustomEntryTypesRepository());
+        databaseWriter.saveDatabase(databaseContext);
+        return writer.toString();
+    }
+
+    private static GroupTreeNode createGroups() {
+        GroupTreeNode root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        GroupTreeNode topics = root.addSubgroup(new ExplicitGroup("Topics", GroupHierarchyType.INDEPENDENT, ','));
+        for (String keyword : KEYWORDS) {
+            topics.addSubgroup(new WordKeywordGroup(keyword, GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, keyword, false, ',', true));
+        }
+        for (String name : EXPLICIT_GROUPS) {
+            root.addSubgroup(new ExplicitGroup(name, GroupHierarchyType.INDEPENDENT, ','));
+        }
+        GroupTreeNode recent = root.addSubgroup(new RegexKeywordGroup("Since 2020", GroupHierarchyType.INDEPENDENT, StandardField.YEAR, "20[2-9][0-9]", false));
+        recent.addSubgroup(new SearchGroup("Recent learning papers", GroupHierarchyType.REFINING, "keywords=learning", EnumSet.noneOf(SearchFlags.class)));
+        root.addSubgroup(new SearchGroup("Nature and Science", GroupHierarchyType.INDEPENDENT, "journal=Nature or journal=Science", EnumSet.noneOf(SearchFlags.class)));
+        root.addSubgroup(new SearchGroup("German authors", GroupHierarchyType.INDEPENDENT, "author=Müller or author=Schmidt", EnumSet.noneOf(SearchFlags.class)));
+        return root;
+    }
+
+    private static BibEntry createArticle(int number, Random random) {
+        return addCommonFields(new BibEntry(StandardEntryType.Article), number, random)
+                .withField(StandardField.JOURNAL, pick(JOURNALS, random))
+                .withField(StandardField.VOLUME, String.valueOf(1 + random.nextInt(80)))
+                .withField(StandardField.NUMBER, String.valueOf(1 + random.nextInt(12)))
+                .withField(StandardField.PAGES, pages(random));
+    }
+
+    private static BibEntry createProceedings(int number, Random random) {
+        String year = year(random);
+        return new BibEntry(StandardEntryType.Proceedings)
+                .withCitationKey("conf" + year + "-" + number)
+                .withField(StandardField.TITLE, "Proceedings of the " + (1 + random.nextInt(50)) + "th International Conference on " + capitalize(pick(KEYWORDS, random)))
+                .withField(StandardField.BOOKTITLE, "Proceedings of the International Conference on " + capitalize(pick(KEYWORDS, random)))
+                .withField(StandardField.EDITOR, authors(random, 1 + random.nextInt(3)))
+                .withField(StandardField.PUBLISHER, pick(PUBLISHERS, random))
+                .withField(StandardField.YEAR, year);
+    }
+
+    private static BibEntry createInProceedings(int number, String proceedingsKey, Random random) {
+        // Booktitle, year, and publisher are inherited from the proceedings
+        BibEntry entry = addCommonFields(new BibEntry(StandardEntryType.InProceedings), number, random)
+                .withField(StandardField.CROSSREF, proceedingsKey)
+                .withField(StandardField.PAGES, pages(random));
+        entry.clearField(StandardField.YEAR);
+        return entry;
+    }
+
+    private static BibEntry createBook(int number, Random random) {
+        return addCommonFields(new BibEntry(StandardEntryType.Book), number, random)
+                .withField(StandardField.PUBLISHER, pick(PUBLISHERS, random))
+                .withField(StandardField.ISBN, "978-3-" + (10000 + random.nextInt(90000)) + "-" + (100 + random.nextInt(900)) + "-" + random.nextInt(10))
+                .withField(StandardField.EDITION, String.valueOf(1 + random.nextInt(5)));
+    }
+
+    private static BibEntry createThesis(int number, Random random) {
+        BibEntry entry = addCommonFields(new BibEntry(StandardEntryType.PhdThesis), number, random)
+                .withField(StandardField.SCHOOL, pick(SCHOOLS, random));
+        entry.setField(StandardField.AUTHOR, authors(random, 1));
+        return entry;
+    }
+
+    /**
+     * Creates a copy of the given entry with a slightly different title and another key, as happens when the same
+     * paper is imported twice from different sources
+     */
+    private static BibEntry createNearDuplicate(BibEntry original, Random random) {
+        BibEntry duplicate = (BibEntry) original.clone();
+        duplicate.setCitationKey(original.getCitationKey().orElse("") + "a");
+        original.getField(StandardField.TITLE).ifPresent(title -> duplicate.setField(StandardField.TITLE, title.replace("{", "").replace("}", "")));
+        if (random.nextBoolean()) {
+            duplicate.clearField(StandardField.DOI);
+        }
+        return duplicate;
+    }
+
+    private static BibEntry addCommonFields(BibEntry entry, int number, Random random) {
+        String authors = random.nextInt(50) == 0 ? pick(CORPORATE_AUTHORS, random) : authors(random, numberOfAuthors(random));
+        String year = year(random);
+        String key = lastNameForKey(authors) + year + "-" + number;
+        entry.withCitationKey(key)
+             .withField(StandardField.AUTHOR, authors)
+             .withField(StandardField.TITLE, title(random))
+             .withField(StandardField.YEAR, year)
+             .withField(StandardField.KEYWORDS, keywords(random));
+        if (random.nextInt(10) < 7) {
+            entry.setField(StandardField.DOI, "10." + (1000 + random.nextInt(9000)) + "/" + Integer.toHexString(random.nextInt()) + "." + number);
+        }
+        if (random.nextInt(10) < 3) {
+            entry.setField(StandardField.ABSTRACT, abstractText(random));
+        }
+        if (random.nextInt(10) < 4) {
+            entry.setFiles(List.of(new LinkedFile("", "papers/" + key + ".pdf", "PDF")));
+        }
+        if (random.nextInt(10) == 0) {
+            entry.setField(StandardField.GROUPS, pick(EXPLICIT_GROUPS, random));
+        }
+        if (random.nextInt(20) == 0) {
+            entry.setField(new UnknownField("comment-" + pick(List.of("anna", "bernd", "carla"), random)), "Check the " + pick(TITLE_WORDS, random) + " section");
+        }
+        return entry;
+    }
+
+    private static int numberOfAuthors(Random random) {
+        // Most papers have few authors, some have many
+        int value = random.nextInt(100);
+        if (value < 20) {
+            return 1;
+        } else if (value < 75) {
+            return 2 + random.nextInt(3);
+        } else if (value < 98) {
+            return 5 + random.nextInt(6);
+        }
+        return 20 + random.nextInt(100);
+    }
+
+    private static String authors(Random random, int count) {
+        StringJoiner joiner = new StringJoiner(" and ");
+        for (int i = 0; i < count; i++) {
+            String firstName = pick(FIRST_NAMES, random);
+            String lastName = pick(LAST_NAMES, random);
+            if (lastName.contains(",")) {
+                // "Last, Jr., First"
+                joiner.add(lastName + ", " + firstName);
+            } else if (random.nextInt(3) == 0) {
+                joiner.add(lastName + ", " + firstName);
+            } else {
+                joiner.add(firstName + " " + lastName);
+            }
+        }
+        if ((count > 10) && random.nextBoolean()) {
+            joiner.add("others");
+        }
+        return joiner.toString();
+    }
+
+    private static String lastNameForKey(String authors) {
+        String firstAuthor = authors.split(" and ")[0];
+        String lastName = firstAuthor.contains(",") ? firstAuthor.substring(0, firstAuthor.indexOf(',')) : firstAuthor.substring(firstAuthor.lastIndexOf(' ') + 1);
+        return lastName.replaceAll("[^A-Za-z]", "");
+    }
+
+    private static String title(Random random) {
+        StringJoiner joiner = new StringJoiner(" ");
+        int length = 4 + random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            joiner.add(random.nextInt(8) == 0 ? pick(TITLE_DECORATIONS, random) : pick(TITLE_WORDS, random));
+        }
+        return capitalize(joiner.toString());
+    }
+
+    private static String abstractText(Random random) {
+        StringJoiner joiner = new StringJoiner(" ");
+        int sentences = 3 + random.nextInt(6);
+        for (int i = 0; i < sentences; i++) {
+            joiner.add(title(random) + ".");
+        }
+        return joiner.toString();
+    }
+
+    private static String keywords(Random random) {
+        StringJoiner joiner = new StringJoiner(", ");
+        int count = 1 + random.nextInt(5);
+        for (int i = 0; i < count; i++) {
+            joiner.add(pick(KEYWORDS, random));
+        }
+        return joiner.toString();
+    }
+
+    private static String pages(Random random) {
+        int start = 1 + random.nextInt(1000);
+        return start + "--" + (start + 1 + random.nextInt(30));
+    }
+
+    private static String year(Random random) {
+        // Recent years are more frequent
+        return String.valueOf(2024 - (int) Math.min(70, Math.abs(random.nextGaussian() * 15)));
+    }
+
+    private static String capitalize(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
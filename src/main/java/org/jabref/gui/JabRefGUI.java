@@ -14,6 +14,7 @@ import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.stage.WindowEvent;
 
+import org.jabref.gui.desktop.JabRefDesktop;
 import org.jabref.gui.frame.JabRefFrame;
 import org.jabref.gui.help.VersionWorker;
 import org.jabref.gui.icon.IconTheme;
@@ -29,6 +30,8 @@ import org.jabref.logic.UiCommand;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.pdf.PdfTextCache;
+import org.jabref.logic.pdf.search.PdfIndexerManager;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
 import org.jabref.logic.util.BuildInfo;
@@ -157,11 +160,15 @@ public class JabRefGUI extends Application {
         JabRefGUI.clipBoardManager = new ClipBoardManager();
         Injector.setModelOrService(ClipBoardManager.class, clipBoardManager);
 
+        PdfTextCache pdfTextCache = new PdfTextCache(JabRefDesktop.getExtractedTextsDirectory(), PdfTextCache.DEFAULT_MAX_SIZE);
+        PdfIndexerManager.setTextCache(pdfTextCache);
+
         JabRefGUI.aiService = new AiService(
                 preferencesService.getAiPreferences(),
                 preferencesService.getFilePreferences(),
                 preferencesService.getCitationKeyPatternPreferences(),
                 Injector.instantiateModelOrService(AiApiKeyProvider.class),
+                pdfTextCache,
                 dialogService,
                 taskExecutor);
         Injector.setModelOrService(AiService.class, aiService);
@@ -29,6 +29,7 @@ import javafx.scene.Node;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonBar;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.SplitPane;
 import javafx.scene.control.Tab;
@@ -52,6 +53,7 @@ import org.jabref.gui.fieldeditors.LinkedFileViewModel;
 import org.jabref.gui.importer.actions.OpenDatabaseAction;
 import org.jabref.gui.linkedfile.DeleteFileAction;
 import org.jabref.gui.maintable.BibEntryTableViewModel;
+import org.jabref.gui.maintable.LoadingPreviewTable;
 import org.jabref.gui.maintable.MainTable;
 import org.jabref.gui.maintable.MainTableDataModel;
 import org.jabref.gui.undo.CountingUndoManager;
@@ -68,6 +70,7 @@ import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.IndexedBibtexFile;
 import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
@@ -280,6 +283,21 @@ public class LibraryTab extends Tab {
         getMainTable().placeholderProperty().setValue(loadingLayout);
     }
 
+    /**
+     * Shows the entries of the library being loaded, until it is parsed completely
+     */
+    public void showLoadingPreview(IndexedBibtexFile file) {
+        if (!loading.get() || file.getEntries().isEmpty()) {
+            return;
+        }
+        BorderPane pane = new BorderPane();
+        ProgressBar progressBar = new ProgressBar(ProgressBar.INDETERMINATE_PROGRESS);
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+        pane.setTop(progressBar);
+        pane.setCenter(new LoadingPreviewTable(file, preferencesService.getImportFormatPreferences(), taskExecutor));
+        getMainTable().placeholderProperty().setValue(pane);
+    }
+
     private void onDatabaseLoadingSucceed(ParserResult result) {
         BibDatabaseContext context = result.getDatabaseContext();
         OpenDatabaseAction.performPostOpenActions(result, dialogService, preferencesService);
@@ -288,7 +306,7 @@ public class LibraryTab extends Tab {
 
         if (preferencesService.getFilePreferences().shouldFulltextIndexLinkedFiles()) {
             try {
-                indexingTaskManager.updateIndex(PdfIndexerManager.getIndexer(bibDatabaseContext, preferencesService.getFilePreferences()), bibDatabaseContext);
+                indexingTaskManager.updateIndex(PdfIndexerManager.getIndexer(bibDatabaseContext, preferencesService.getFilePreferences()));
             } catch (IOException e) {
                 LOGGER.error("Cannot access lucene index", e);
             }
@@ -301,6 +319,8 @@ public class LibraryTab extends Tab {
 
     private void onDatabaseLoadingFailed(Exception ex) {
         loading.set(false);
+        // Drops the preview of the entries, which also releases the read file
+        getMainTable().placeholderProperty().setValue(null);
 
         String title = Localization.lang("Connection error");
         String content = "%s\n\n%s".formatted(ex.getMessage(), Localization.lang("A local copy will be opened."));
@@ -626,6 +646,11 @@ public class LibraryTab extends Tab {
      * Set up autocompletion for this database
      */
     private void setupAutoCompletion() {
+        // The library of the tab is replaced after loading
+        if (suggestionProviders != null) {
+            suggestionProviders.shutdown();
+            searchAutoCompleter.shutdown();
+        }
         AutoCompletePreferences autoCompletePreferences = preferencesService.getAutoCompletePreferences();
         if (autoCompletePreferences.shouldAutoComplete()) {
             suggestionProviders = new SuggestionProviders(
@@ -894,6 +919,8 @@ public class LibraryTab extends Tab {
         if (tableModel != null) {
             tableModel.unbind();
         }
+        suggestionProviders.shutdown();
+        searchAutoCompleter.shutdown();
         // clean up the groups map
         stateManager.clearSelectedGroups(bibDatabaseContext);
     }
@@ -11,16 +11,28 @@ import org.jabref.model.entry.field.Field;
  */
 class FieldValueSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     FieldValueSuggestionProvider(Field field, BibDatabase database) {
-        this.field = Objects.requireNonNull(field);
-        this.database = database;
+        this(createIndex(field, database));
+    }
+
+    FieldValueSuggestionProvider(SuggestionIndex<String> index) {
+        this.index = index;
+    }
+
+    static SuggestionIndex<String> createIndex(Field field, BibDatabase database) {
+        Objects.requireNonNull(field);
+        return new SuggestionIndex<>(database, field::equals, entry -> entry.getField(field).stream(), value -> value);
+    }
+
+    @Override
+    protected Stream<String> getCandidates(String userText) {
+        return index.getValuesStartingWith(userText);
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries().parallelStream().flatMap(entry -> entry.getField(field).stream());
+        return index.getValues().stream();
     }
 }
@@ -18,6 +18,17 @@ public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
         this.repository = repository;
     }
 
+    JournalsSuggestionProvider(SuggestionIndex<String> index, JournalAbbreviationRepository repository) {
+        super(index);
+
+        this.repository = repository;
+    }
+
+    @Override
+    protected Stream<String> getCandidates(String userText) {
+        return Streams.concat(super.getCandidates(userText), repository.getFullNames().stream());
+    }
+
     @Override
     public Stream<String> getSource() {
         return Streams.concat(super.getSource(), repository.getFullNames().stream());
@@ -22,21 +22,28 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
  */
 public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
-    private final Collection<Field> fields;
-    private final BibDatabase database;
+    private final SuggestionIndex<Author> index;
 
     PersonNameSuggestionProvider(Field field, BibDatabase database) {
         this(Collections.singletonList(Objects.requireNonNull(field)), database);
     }
 
     public PersonNameSuggestionProvider(Collection<Field> fields, BibDatabase database) {
+        this(createIndex(fields, database));
+    }
+
+    PersonNameSuggestionProvider(SuggestionIndex<Author> index) {
         super();
 
-        this.fields = Objects.requireNonNull(fields);
-        this.database = database;
+        this.index = index;
     }
 
-    public Stream<Author> getAuthors(BibEntry entry) {
+    static SuggestionIndex<Author> createIndex(Collection<Field> fields, BibDatabase database) {
+        Objects.requireNonNull(fields);
+        return new SuggestionIndex<>(database, fields::contains, entry -> getAuthors(entry, fields), author -> author.getFamilyGiven(false));
+    }
+
+    private static Stream<Author> getAuthors(BibEntry entry, Collection<Field> fields) {
         return entry.getFieldMap()
                     .entrySet()
                     .stream()
@@ -61,10 +68,21 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         return StringUtil.containsIgnoreCase(candidate.getFamilyGiven(false), request.getUserText());
     }
 
+    @Override
+    protected Stream<Author> getCandidates(String userText) {
+        return index.getValuesStartingWith(userText);
+    }
+
     @Override
     public Stream<Author> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(this::getAuthors);
+        return index.getValues().stream();
+    }
+
+    /**
+     * Stops updating the suggestions. Only to be used for providers created for a collection of fields, as the other
+     * providers share their index, see {@link SuggestionProviders#shutdown()}.
+     */
+    public void shutdown() {
+        index.shutdown();
     }
 }
@@ -0,0 +1,246 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * The distinct values of some fields of all entries of a library. Used as source of a {@link SuggestionProvider}.
+ * <p>
+ * Collecting (and parsing) the values of all entries for each suggestion request is slow for large libraries. Thus, the
+ * values are collected once and updated when entries are added, removed, or changed. Each value is counted to know when
+ * the last entry having the value is removed. The values are kept sorted by the lower cased text of each of their
+ * words up to the end of the value, so that the values having a word starting with the typed text are found without
+ * looking at the other values (see {@link #getValuesStartingWith(String)}).
+ * <p>
+ * The values are collected on the first request, which the auto completion runs in the background. Thus, opening a
+ * library does not parse all its entries on the JavaFX thread. Changes of the library while the values are collected
+ * are recorded and applied afterwards, so that the events of the library are not blocked. Call {@link #shutdown()} if
+ * the index is no longer needed.
+ */
+class SuggestionIndex<T> {
+
+    private final BibDatabase database;
+    private final Predicate<Field> isIndexedField;
+    private final Function<BibEntry, Stream<T>> valuesOfEntry;
+    private final Function<T, String> textOfValue;
+
+    // Serializes collecting the values. The values are collected without holding the monitor of this index.
+    private final Object buildLock = new Object();
+
+    // Null until the values are collected. Written while holding the monitor of this index.
+    private volatile Values<T> values;
+    // Changes of the library while the values are collected. Guarded by this.
+    private List<Consumer<Values<T>>> pendingChanges;
+
+    /**
+     * @param isIndexedField the fields the values are taken from. Changes of other fields are ignored.
+     * @param valuesOfEntry  the values of the indexed fields of an entry
+     * @param textOfValue    the text the typed text is compared with
+     */
+    SuggestionIndex(BibDatabase database, Predicate<Field> isIndexedField, Function<BibEntry, Stream<T>> valuesOfEntry, Function<T, String> textOfValue) {
+        this.database = database;
+        this.isIndexedField = isIndexedField;
+        this.valuesOfEntry = valuesOfEntry;
+        this.textOfValue = textOfValue;
+        database.registerListener(this);
+    }
+
+    void shutdown() {
+        database.unregisterListener(this);
+    }
+
+    /**
+     * Returns the distinct values in the order they were added
+     */
+    List<T> getValues() {
+        Values<T> collectedValues = getCollectedValues();
+        synchronized (this) {
+            return collectedValues.getSnapshot();
+        }
+    }
+
+    /**
+     * Returns the distinct values having a word starting with the given text (ignoring case), ordered by the text from
+     * this word on. The stream is lazy, thus limiting it only looks at the values returned.
+     */
+    Stream<T> getValuesStartingWith(String text) {
+        String prefix = normalize(text);
+        return getCollectedValues().valuesByKey
+                .subMap(prefix, true, prefix + Character.MAX_VALUE, true)
+                .values()
+                .stream()
+                .flatMap(Set::stream)
+                .distinct();
+    }
+
+    private Values<T> getCollectedValues() {
+        Values<T> collectedValues = values;
+        if (collectedValues != null) {
+            return collectedValues;
+        }
+        synchronized (buildLock) {
+            List<BibEntry> entries;
+            synchronized (this) {
+                if (values != null) {
+                    return values;
+                }
+                // Changes after taking the snapshot are recorded and applied to the collected values
+                pendingChanges = new ArrayList<>();
+                entries = List.copyOf(database.getEntries());
+            }
+
+            Values<T> builtValues = new Values<>(this);
+            entries.forEach(builtValues::addEntry);
+
+            synchronized (this) {
+                pendingChanges.forEach(change -> change.accept(builtValues));
+                pendingChanges = null;
+                values = builtValues;
+                return builtValues;
+            }
+        }
+    }
+
+    /**
+     * Applies a change of the library. Changes before the values are collected are ignored, as the values are collected
+     * from the current state of the library.
+     */
+    private synchronized void apply(Consumer<Values<T>> change) {
+        if (values != null) {
+            change.accept(values);
+        } else if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        List<BibEntry> addedEntries = event.getBibEntries();
+        apply(changedValues -> addedEntries.forEach(changedValues::addEntry));
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        List<BibEntry> removedEntries = event.getBibEntries();
+        apply(changedValues -> removedEntries.forEach(changedValues::removeEntry));
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        if (!isIndexedField.test(event.getField())) {
+            return;
+        }
+        BibEntry changedEntry = event.getBibEntry();
+        apply(changedValues -> {
+            if (changedValues.valuesOfEntries.containsKey(changedEntry)) {
+                changedValues.removeEntry(changedEntry);
+                changedValues.addEntry(changedEntry);
+            }
+        });
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The lower cased text of the value from the start of each of its words on
+     */
+    private Set<String> getKeys(T value) {
+        String text = normalize(textOfValue.apply(value));
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(text);
+        for (int i = 1; i < text.length(); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i)) && !Character.isLetterOrDigit(text.charAt(i - 1))) {
+                keys.add(text.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * The collected values. Changed while holding the monitor of the index only, {@link #valuesByKey} can be read
+     * concurrently.
+     */
+    private static class Values<T> {
+
+        private final SuggestionIndex<T> index;
+
+        // Compared by identity, because equal entries are different entries of the library
+        private final Map<BibEntry, List<T>> valuesOfEntries = new IdentityHashMap<>();
+        private final Map<T, Integer> counts = new LinkedHashMap<>();
+        private final NavigableMap<String, Set<T>> valuesByKey = new ConcurrentSkipListMap<>();
+
+        // Snapshot of the keys of counts, null if outdated
+        private List<T> snapshot;
+
+        Values(SuggestionIndex<T> index) {
+            this.index = index;
+        }
+
+        List<T> getSnapshot() {
+            if (snapshot == null) {
+                snapshot = List.copyOf(counts.keySet());
+            }
+            return snapshot;
+        }
+
+        void addEntry(BibEntry entry) {
+            if (valuesOfEntries.containsKey(entry)) {
+                return;
+            }
+            List<T> valuesOfThisEntry = index.valuesOfEntry.apply(entry).toList();
+            valuesOfEntries.put(entry, valuesOfThisEntry);
+            for (T value : valuesOfThisEntry) {
+                if (counts.merge(value, 1, Integer::sum) == 1) {
+                    snapshot = null;
+                    for (String key : index.getKeys(value)) {
+                        valuesByKey.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(value);
+                    }
+                }
+            }
+        }
+
+        void removeEntry(BibEntry entry) {
+            List<T> valuesOfThisEntry = valuesOfEntries.remove(entry);
+            if (valuesOfThisEntry == null) {
+                return;
+            }
+            for (T value : valuesOfThisEntry) {
+                if (counts.merge(value, -1, Integer::sum) == 0) {
+                    counts.remove(value);
+                    snapshot = null;
+                    for (String key : index.getKeys(value)) {
+                        Set<T> valuesOfKey = valuesByKey.get(key);
+                        valuesOfKey.remove(value);
+                        if (valuesOfKey.isEmpty()) {
+                            valuesByKey.remove(key);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -47,7 +47,7 @@ public abstract class SuggestionProvider<T> {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
+            return getCandidates(request.getUserText()).filter(candidate -> isMatch(candidate, request))
                               .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
                               .distinct()
                               .limit(10)
@@ -76,6 +76,15 @@ public abstract class SuggestionProvider<T> {
      */
     protected abstract Comparator<T> getComparator();
 
+    /**
+     * Returns the candidates for the text typed by the user. Each candidate is checked using
+     * {@link #isMatch(Object, ISuggestionRequest)}, thus providers can return a superset of the matches. The stream
+     * is consumed until enough suggestions are found.
+     */
+    protected Stream<T> getCandidates(String userText) {
+        return getSource();
+    }
+
     /**
      * Check the given candidate is a match (ie a valid suggestion)
      */
@@ -1,9 +1,12 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.Author;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.StandardField;
@@ -15,6 +18,11 @@ public class SuggestionProviders {
     private JournalAbbreviationRepository abbreviationRepository;
     private AutoCompletePreferences autoCompletePreferences;
 
+    // The providers are created for each field editor, the indexes of the field values are shared
+    private final Map<Field, SuggestionIndex<Author>> personNameIndexes = new HashMap<>();
+    private final Map<Field, SuggestionIndex<String>> fieldValueIndexes = new HashMap<>();
+    private final Map<Field, SuggestionIndex<String>> wordIndexes = new HashMap<>();
+
     public SuggestionProviders(BibDatabase database, JournalAbbreviationRepository abbreviationRepository, AutoCompletePreferences autoCompletePreferences) {
         this.database = database;
         this.abbreviationRepository = abbreviationRepository;
@@ -26,20 +34,32 @@ public class SuggestionProviders {
         this.isEmpty = true;
     }
 
-    public SuggestionProvider<?> getForField(Field field) {
+    public synchronized SuggestionProvider<?> getForField(Field field) {
         if (isEmpty || !autoCompletePreferences.getCompleteFields().contains(field)) {
             return new EmptySuggestionProvider();
         }
 
         Set<FieldProperty> fieldProperties = field.getProperties();
         if (fieldProperties.contains(FieldProperty.PERSON_NAMES)) {
-            return new PersonNameSuggestionProvider(field, database);
+            return new PersonNameSuggestionProvider(personNameIndexes.computeIfAbsent(field,
+                    key -> PersonNameSuggestionProvider.createIndex(Set.of(key), database)));
         } else if (fieldProperties.contains(FieldProperty.SINGLE_ENTRY_LINK) || fieldProperties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
             return new BibEntrySuggestionProvider(database);
         } else if (fieldProperties.contains(FieldProperty.JOURNAL_NAME) || StandardField.PUBLISHER == field) {
-            return new JournalsSuggestionProvider(field, database, abbreviationRepository);
+            return new JournalsSuggestionProvider(fieldValueIndexes.computeIfAbsent(field,
+                    key -> FieldValueSuggestionProvider.createIndex(key, database)), abbreviationRepository);
         } else {
-            return new WordSuggestionProvider(field, database);
+            return new WordSuggestionProvider(wordIndexes.computeIfAbsent(field,
+                    key -> WordSuggestionProvider.createIndex(key, database)));
         }
     }
+
+    /**
+     * Stops updating the suggestions of all providers created so far
+     */
+    public synchronized void shutdown() {
+        personNameIndexes.values().forEach(SuggestionIndex::shutdown);
+        fieldValueIndexes.values().forEach(SuggestionIndex::shutdown);
+        wordIndexes.values().forEach(SuggestionIndex::shutdown);
+    }
 }
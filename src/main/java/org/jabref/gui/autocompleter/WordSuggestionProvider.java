@@ -11,18 +11,28 @@ import org.jabref.model.entry.field.Field;
  */
 public class WordSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     public WordSuggestionProvider(Field field, BibDatabase database) {
-        this.field = Objects.requireNonNull(field);
-        this.database = database;
+        this(createIndex(field, database));
+    }
+
+    WordSuggestionProvider(SuggestionIndex<String> index) {
+        this.index = index;
+    }
+
+    static SuggestionIndex<String> createIndex(Field field, BibDatabase database) {
+        Objects.requireNonNull(field);
+        return new SuggestionIndex<>(database, field::equals, entry -> entry.getFieldAsWords(field).stream(), value -> value);
+    }
+
+    @Override
+    protected Stream<String> getCandidates(String userText) {
+        return index.getValuesStartingWith(userText);
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(entry -> entry.getFieldAsWords(field).stream());
+        return index.getValues().stream();
     }
 }
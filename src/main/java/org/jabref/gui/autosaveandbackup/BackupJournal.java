@@ -0,0 +1,332 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.EntryTypeFactory;
+import org.jabref.model.groups.event.GroupUpdatedEvent;
+import org.jabref.model.metadata.event.MetaDataChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only journal of the changes of a library since its last full backup (the "snapshot").
+ * <p>
+ * The {@link BackupManager} writes a snapshot only from time to time. In between, only the changes of the entries are
+ * appended to the journal belonging to the snapshot. The backup is restored by parsing the snapshot and replaying the
+ * journal onto it, see {@link #replay(Path, BibDatabase)}.
+ * <p>
+ * The journal is a text file containing one JSON object per line. The first line is a header storing the number of
+ * entries of the snapshot. Each following line is one operation: adding an entry, removing an entry, or setting a field
+ * of an entry. Entries of the snapshot are referenced by their position in the snapshot, entries added later get the
+ * following numbers.
+ * <p>
+ * Changes which cannot be expressed by the journal (e.g., changes of groups or other metadata) require a new snapshot,
+ * see {@link #isSnapshotRequired()}. The strings, the preamble, the epilog and the comments in front of the entries are
+ * not journaled either. As {@link BibDatabase} does not post events for them, their changes are detected by comparing a
+ * hash of them with the one at the time of the snapshot, see {@link #hasNonEntryContentChanged()}.
+ */
+class BackupJournal {
+
+    static final String JOURNAL_EXTENSION = ".journal";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackupJournal.class);
+
+    private static final String SNAPSHOT_ENTRIES = "snapshotEntries";
+    private static final String OPERATION = "op";
+    private static final String OPERATION_ADD = "add";
+    private static final String OPERATION_REMOVE = "remove";
+    private static final String OPERATION_FIELD = "field";
+    private static final String ENTRY = "entry";
+    private static final String TYPE = "type";
+    private static final String FIELDS = "fields";
+    private static final String FIELD = "name";
+    private static final String VALUE = "value";
+
+    private final Gson gson = new Gson();
+    private final BibDatabaseContext bibDatabaseContext;
+
+    // Compared by identity, because equal entries are different entries of the library
+    private final Map<BibEntry, Integer> journalIds = new IdentityHashMap<>();
+    private final List<JsonObject> pendingOperations = new ArrayList<>();
+    private int nextJournalId = 0;
+    private int snapshotEntryCount = 0;
+    private boolean snapshotRequired = true;
+    // Not guarded by the lock of the journal: computing the hash requires the lock of the database, which is held while
+    // posting the events the journal listens to
+    private volatile int nonEntryContentHash;
+
+    BackupJournal(BibDatabaseContext bibDatabaseContext) {
+        this.bibDatabaseContext = bibDatabaseContext;
+        this.nonEntryContentHash = computeNonEntryContentHash();
+        bibDatabaseContext.getDatabase().registerListener(this);
+        bibDatabaseContext.getMetaData().registerListener(this);
+    }
+
+    static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Starts a new journal for a new snapshot. Has to be called while no entries are changed, i.e., directly after the
+     * entries for the snapshot were copied.
+     *
+     * @param snapshotEntries the entries in the order they are written to the snapshot
+     * @param allEntries      all entries of the library. Entries not written to the snapshot (because they are empty)
+     *                        are journaled as added entries.
+     */
+    synchronized void startNewJournal(List<BibEntry> snapshotEntries, List<BibEntry> allEntries) {
+        journalIds.clear();
+        pendingOperations.clear();
+        for (BibEntry entry : snapshotEntries) {
+            journalIds.put(entry, journalIds.size());
+        }
+        snapshotEntryCount = snapshotEntries.size();
+        nextJournalId = snapshotEntryCount;
+        for (BibEntry entry : allEntries) {
+            if (!journalIds.containsKey(entry)) {
+                recordAddedEntry(entry);
+            }
+        }
+        snapshotRequired = false;
+    }
+
+    /**
+     * Remembers the current state of the parts of the library which are not journaled. Has to be called before the
+     * entries for a new snapshot are copied, so that changes happening in between lead to another snapshot.
+     */
+    void recordNonEntryContent() {
+        nonEntryContentHash = computeNonEntryContentHash();
+    }
+
+    boolean isSnapshotRequired() {
+        synchronized (this) {
+            if (snapshotRequired) {
+                return true;
+            }
+        }
+        return hasNonEntryContentChanged();
+    }
+
+    /**
+     * Checks whether the parts of the library which are not journaled (strings, preamble, epilog, and the comments in
+     * front of the entries) changed since the last snapshot or, if there is none yet, since the library was opened.
+     */
+    boolean hasNonEntryContentChanged() {
+        return nonEntryContentHash != computeNonEntryContentHash();
+    }
+
+    private int computeNonEntryContentHash() {
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        int hash = Objects.hash(database.getPreamble(), database.getEpilog());
+        // The order of the strings is not stable, thus their hashes are summed up
+        int stringsHash = 0;
+        for (BibtexString string : database.getStringValues()) {
+            stringsHash += Objects.hash(string.getName(), string.getContent());
+        }
+        hash = 31 * hash + stringsHash;
+        for (BibEntry entry : List.copyOf(database.getEntries())) {
+            hash = 31 * hash + Objects.hashCode(entry.getUserComments());
+        }
+        return hash;
+    }
+
+    synchronized void requireSnapshot() {
+        snapshotRequired = true;
+    }
+
+    synchronized boolean hasPendingOperations() {
+        return !pendingOperations.isEmpty();
+    }
+
+    /**
+     * Appends all changes recorded since the last call to the given journal file. The file is created if it does not
+     * exist.
+     *
+     * @return true if changes were written, false if there was nothing to write
+     */
+    synchronized boolean write(Path journalPath) throws IOException {
+        if (pendingOperations.isEmpty()) {
+            return false;
+        }
+        boolean isNewJournal = Files.notExists(journalPath);
+        try (Writer writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (isNewJournal) {
+                JsonObject header = new JsonObject();
+                header.addProperty(SNAPSHOT_ENTRIES, snapshotEntryCount);
+                writer.write(gson.toJson(header));
+                writer.write('\n');
+            }
+            for (JsonObject operation : pendingOperations) {
+                writer.write(gson.toJson(operation));
+                writer.write('\n');
+            }
+        }
+        pendingOperations.clear();
+        return true;
+    }
+
+    void shutdown() {
+        bibDatabaseContext.getDatabase().unregisterListener(this);
+        bibDatabaseContext.getMetaData().unregisterListener(this);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::recordAddedEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            Integer journalId = journalIds.remove(entry);
+            if (journalId != null) {
+                JsonObject operation = newOperation(OPERATION_REMOVE, journalId);
+                pendingOperations.add(operation);
+            }
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        Integer journalId = journalIds.get(event.getBibEntry());
+        if ((journalId == null) || InternalField.INTERNAL_ID_FIELD.equals(event.getField())) {
+            return;
+        }
+        JsonObject operation = newOperation(OPERATION_FIELD, journalId);
+        operation.addProperty(FIELD, event.getField().getName());
+        operation.addProperty(VALUE, event.getNewValue());
+        pendingOperations.add(operation);
+    }
+
+    @Subscribe
+    public synchronized void listen(MetaDataChangedEvent event) {
+        snapshotRequired = true;
+    }
+
+    @Subscribe
+    public synchronized void listen(GroupUpdatedEvent event) {
+        snapshotRequired = true;
+    }
+
+    private void recordAddedEntry(BibEntry entry) {
+        int journalId = nextJournalId++;
+        journalIds.put(entry, journalId);
+
+        JsonObject fields = new JsonObject();
+        entry.getFieldMap().forEach((field, value) -> fields.addProperty(field.getName(), value));
+        JsonObject operation = newOperation(OPERATION_ADD, journalId);
+        operation.addProperty(TYPE, entry.getType().getName());
+        operation.add(FIELDS, fields);
+        pendingOperations.add(operation);
+    }
+
+    private static JsonObject newOperation(String name, int journalId) {
+        JsonObject operation = new JsonObject();
+        operation.addProperty(OPERATION, name);
+        operation.addProperty(ENTRY, journalId);
+        return operation;
+    }
+
+    /**
+     * Applies the changes recorded in the given journal to the database parsed from the snapshot.
+     * <p>
+     * If the snapshot does not match the journal (different number of entries), nothing is replayed. An incomplete
+     * last line (e.g., if JabRef was killed while writing) is ignored.
+     */
+    static void replay(Path journalPath, BibDatabase database) throws IOException {
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        List<BibEntry> snapshotEntries = database.getEntries();
+        int expectedEntryCount;
+        try {
+            expectedEntryCount = JsonParser.parseString(lines.getFirst()).getAsJsonObject().get(SNAPSHOT_ENTRIES).getAsInt();
+        } catch (JsonParseException | IllegalStateException | NullPointerException e) {
+            throw new IOException("Invalid header of backup journal " + journalPath, e);
+        }
+        if (expectedEntryCount != snapshotEntries.size()) {
+            LOGGER.warn("Backup journal {} expects {} entries, but the backup contains {}. Ignoring the journal.", journalPath, expectedEntryCount, snapshotEntries.size());
+            return;
+        }
+
+        Map<Integer, BibEntry> entriesByJournalId = new HashMap<>();
+        for (int i = 0; i < snapshotEntries.size(); i++) {
+            entriesByJournalId.put(i, snapshotEntries.get(i));
+        }
+
+        for (String line : lines.subList(1, lines.size())) {
+            JsonObject operation;
+            try {
+                operation = JsonParser.parseString(line).getAsJsonObject();
+            } catch (JsonParseException | IllegalStateException e) {
+                LOGGER.warn("Stopping replay of backup journal {} at invalid line {}", journalPath, line, e);
+                return;
+            }
+            int journalId = operation.get(ENTRY).getAsInt();
+            switch (operation.get(OPERATION).getAsString()) {
+                case OPERATION_ADD -> {
+                    BibEntry entry = new BibEntry(EntryTypeFactory.parse(operation.get(TYPE).getAsString()));
+                    operation.getAsJsonObject(FIELDS).entrySet().forEach(field ->
+                            entry.setField(FieldFactory.parseField(field.getKey()), field.getValue().getAsString()));
+                    database.insertEntry(entry);
+                    entriesByJournalId.put(journalId, entry);
+                }
+                case OPERATION_REMOVE -> {
+                    BibEntry entry = entriesByJournalId.remove(journalId);
+                    if (entry != null) {
+                        database.removeEntry(entry);
+                    }
+                }
+                case OPERATION_FIELD -> {
+                    BibEntry entry = entriesByJournalId.get(journalId);
+                    if (entry != null) {
+                        applyFieldOperation(entry, operation);
+                    }
+                }
+                default -> LOGGER.warn("Unknown operation in backup journal {}: {}", journalPath, line);
+            }
+        }
+    }
+
+    private static void applyFieldOperation(BibEntry entry, JsonObject operation) {
+        String fieldName = operation.get(FIELD).getAsString();
+        String value = operation.has(VALUE) && !operation.get(VALUE).isJsonNull() ? operation.get(VALUE).getAsString() : null;
+        if (InternalField.TYPE_HEADER.getName().equals(fieldName)) {
+            if (value != null) {
+                entry.setType(EntryTypeFactory.parse(value));
+            }
+        } else if (value == null) {
+            entry.clearField(FieldFactory.parseField(fieldName));
+        } else {
+            entry.setField(FieldFactory.parseField(fieldName), value);
+        }
+    }
+}
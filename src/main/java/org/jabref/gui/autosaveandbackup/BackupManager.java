@@ -8,8 +8,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -26,9 +29,13 @@ import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.columns.MainTableColumn;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.OpenDatabase;
+import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.io.BackupFileUtil;
@@ -39,6 +46,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.common.eventbus.Subscribe;
@@ -50,6 +58,11 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * Writing the complete library is expensive for large libraries. Thus, a full backup (the "snapshot") is written only
+ * if required. Otherwise, only the changes of the entries are appended to a {@link BackupJournal} stored next to the
+ * latest snapshot. As soon as the journal gets too large compared to the snapshot, a new snapshot is written
+ * (compaction).
  */
 public class BackupManager {
 
@@ -59,6 +72,9 @@ public class BackupManager {
 
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    // A new snapshot is written if the journal is larger than this fraction of the snapshot
+    private static final double JOURNAL_COMPACTION_RATIO = 0.25;
+
     private static Set<BackupManager> runningInstances = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -67,12 +83,16 @@ public class BackupManager {
     private final CoarseChangeFilter changeFilter;
     private final BibEntryTypesManager entryTypesManager;
     private final LibraryTab libraryTab;
+    private final BackupJournal backupJournal;
 
     // Contains a list of all backup paths
     // During writing, the less recent backup file is deleted
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
+    // The snapshot written in this session, to which the journal belongs
+    private Path currentSnapshotPath;
+
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, PreferencesService preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
@@ -82,6 +102,7 @@ public class BackupManager {
 
         changeFilter = new CoarseChangeFilter(bibDatabaseContext);
         changeFilter.registerListener(this);
+        backupJournal = new BackupJournal(bibDatabaseContext);
     }
 
     /**
@@ -174,6 +195,16 @@ public class BackupManager {
                 // If we cannot get the timestamp, we do show any warning
                 return false;
             }
+            Path journalPath = BackupJournal.getJournalPath(latestBackupPath);
+            try {
+                if (Files.exists(journalPath) && (Files.getLastModifiedTime(journalPath).compareTo(currentFileLastModifiedTime) > 0)) {
+                    // The journal is only written if there are changes, thus the backup differs
+                    LOGGER.info("Backup journal {} contains changes not contained in current file {}", journalPath, originalPath);
+                    return true;
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Could not get timestamp of backup journal {}", journalPath, e);
+            }
             if (latestBackupFileLastModifiedTime.compareTo(currentFileLastModifiedTime) <= 0) {
                 // Backup is older than current file
                 // We treat the backup as non-different (even if it could differ)
@@ -195,22 +226,59 @@ public class BackupManager {
 
     /**
      * Restores the backup file by copying and overwriting the original one.
+     * In case there is a journal for the backup file, the journal is replayed onto the backup and the result is written.
      *
      * @param originalPath Path to the file which should be equalized to the backup file.
      */
-    public static void restoreBackup(Path originalPath, Path backupDir) {
+    public static void restoreBackup(Path originalPath, Path backupDir, PreferencesService preferences, BibEntryTypesManager entryTypesManager) {
         Optional<Path> backupPath = getLatestBackupPath(originalPath, backupDir);
         if (backupPath.isEmpty()) {
             LOGGER.error("There is no backup file");
             return;
         }
         try {
-            Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            if (Files.notExists(BackupJournal.getJournalPath(backupPath.get()))) {
+                Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+                return;
+            }
+
+            BibDatabaseContext backupContext = loadLatestBackup(originalPath, backupDir, preferences.getImportFormatPreferences()).orElseThrow();
+            // The snapshot is already sorted, the entries added by the journal are appended
+            SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                    .withMakeBackup(false)
+                    .withSaveOrder(new SelfContainedSaveOrder(SaveOrder.OrderType.ORIGINAL, List.of()));
+            Charset encoding = backupContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+            try (Writer writer = new AtomicFileWriter(originalPath, encoding, false)) {
+                BibWriter bibWriter = new BibWriter(writer, backupContext.getDatabase().getNewLineSeparator());
+                new BibtexDatabaseWriter(
+                        bibWriter,
+                        saveConfiguration,
+                        preferences.getFieldPreferences(),
+                        preferences.getCitationKeyPatternPreferences(),
+                        entryTypesManager)
+                        .saveDatabase(backupContext);
+            }
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
         }
     }
 
+    /**
+     * Loads the latest backup of the given file, including the changes recorded in its journal.
+     */
+    public static Optional<BibDatabaseContext> loadLatestBackup(Path originalPath, Path backupDir, ImportFormatPreferences importFormatPreferences) throws IOException {
+        Optional<Path> backupPath = getLatestBackupPath(originalPath, backupDir);
+        if (backupPath.isEmpty()) {
+            return Optional.empty();
+        }
+        ParserResult parserResult = OpenDatabase.loadDatabase(backupPath.get(), importFormatPreferences, new DummyFileUpdateMonitor());
+        Path journalPath = BackupJournal.getJournalPath(backupPath.get());
+        if (Files.exists(journalPath)) {
+            BackupJournal.replay(journalPath, parserResult.getDatabase());
+        }
+        return Optional.of(parserResult.getDatabaseContext());
+    }
+
     Optional<Path> determineBackupPathForNewBackup(Path backupDir) {
         return bibDatabaseContext.getDatabasePath().map(path -> BackupManager.getBackupPathForNewBackup(path, backupDir));
     }
@@ -223,15 +291,30 @@ public class BackupManager {
      * @param backupPath the full path to the file where the library should be backed up to
      */
     void performBackup(Path backupPath) {
-        if (!needsBackup) {
+        // Changes of strings, preamble, epilog, and comments do not trigger an event and thus do not set needsBackup
+        if (!needsBackup && !backupJournal.hasNonEntryContentChanged()) {
             return;
         }
 
+        // If the journal has nothing to write, the change cannot be expressed by the journal and a snapshot is written
+        if ((currentSnapshotPath != null) && !backupJournal.isSnapshotRequired() && backupJournal.hasPendingOperations() && !isJournalTooLarge()) {
+            Path journalPath = BackupJournal.getJournalPath(currentSnapshotPath);
+            try {
+                if (backupJournal.write(journalPath)) {
+                    this.needsBackup = false;
+                    return;
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not write backup journal {}. Writing full backup.", journalPath, e);
+            }
+        }
+
         // We opted for "while" to delete backups in case there are more than 10
         while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
             Path oldestBackupFile = backupFilesQueue.poll();
             try {
                 Files.delete(oldestBackupFile);
+                Files.deleteIfExists(BackupJournal.getJournalPath(oldestBackupFile));
             } catch (IOException e) {
                 LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
             }
@@ -263,12 +346,30 @@ public class BackupManager {
 
         // "Clone" the database context
         // We "know" that "only" the BibEntries might be changed during writing (see [org.jabref.logic.exporter.BibDatabaseWriter.savePartOfDatabase])
-        List<BibEntry> list = bibDatabaseContext.getDatabase().getEntries().stream()
-                                                .map(BibEntry::clone)
-                                                .map(BibEntry.class::cast)
-                                                .toList();
-        BibDatabase bibDatabaseClone = new BibDatabase(list);
-        BibDatabaseContext bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
+        BibDatabaseContext bibDatabaseContextClone;
+        backupJournal.recordNonEntryContent();
+        synchronized (backupJournal) {
+            List<BibEntry> originals = List.copyOf(bibDatabaseContext.getDatabase().getEntries());
+            Map<BibEntry, BibEntry> originalOfClone = new IdentityHashMap<>();
+            List<BibEntry> list = new ArrayList<>(originals.size());
+            for (BibEntry original : originals) {
+                BibEntry clone = (BibEntry) original.clone();
+                originalOfClone.put(clone, original);
+                list.add(clone);
+            }
+            BibDatabase bibDatabaseClone = new BibDatabase(list);
+            bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
+
+            // The journal references the entries by their position in the snapshot
+            // The order is the same as in org.jabref.logic.exporter.BibDatabaseWriter.saveDatabase
+            List<BibEntry> snapshotEntries = BibDatabaseWriter.getSortedEntries(
+                                                                      list.stream().filter(entry -> !entry.isEmpty()).toList(),
+                                                                      saveOrder)
+                                                              .stream()
+                                                              .map(originalOfClone::get)
+                                                              .toList();
+            backupJournal.startNewJournal(snapshotEntries, originals);
+        }
 
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
         // We want to have successful backups only
@@ -286,12 +387,39 @@ public class BackupManager {
                     // we save the clone to prevent the original database (and thus the UI) from being changed
                     .saveDatabase(bibDatabaseContextClone);
             backupFilesQueue.add(backupPath);
-
-            // We wrote the file successfully
-            // Thus, we currently do not need any new backup
-            this.needsBackup = false;
         } catch (IOException e) {
             logIfCritical(backupPath, e);
+            backupJournal.requireSnapshot();
+            return;
+        }
+
+        currentSnapshotPath = backupPath;
+        Path journalPath = BackupJournal.getJournalPath(backupPath);
+        try {
+            // In case the previous snapshot had the same name (same second)
+            Files.deleteIfExists(journalPath);
+            // Changes which happened while writing the snapshot
+            backupJournal.write(journalPath);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write backup journal {}", journalPath, e);
+            // Keep needsBackup set so that the next attempt writes a new snapshot containing these changes
+            backupJournal.requireSnapshot();
+            return;
+        }
+
+        // We wrote the file successfully
+        // Thus, we currently do not need any new backup
+        this.needsBackup = false;
+    }
+
+    private boolean isJournalTooLarge() {
+        Path journalPath = BackupJournal.getJournalPath(currentSnapshotPath);
+        try {
+            return Files.exists(journalPath)
+                    && (Files.size(journalPath) > (Files.size(currentSnapshotPath) * JOURNAL_COMPACTION_RATIO));
+        } catch (IOException e) {
+            LOGGER.debug("Could not determine size of backup journal {}", journalPath, e);
+            return true;
         }
     }
 
@@ -356,6 +484,8 @@ public class BackupManager {
                 List<Path> allSavFiles = Files.list(backupDir)
                                               // just list the .sav belonging to the given targetFile
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              // journals are deleted together with their backup file
+                                              .filter(p -> !p.getFileName().toString().endsWith(BackupJournal.JOURNAL_EXTENSION))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
@@ -375,6 +505,7 @@ public class BackupManager {
         changeFilter.unregisterListener(this);
         changeFilter.shutdown();
         executor.shutdown();
+        backupJournal.shutdown();
 
         if (createBackup) {
             // Ensure that backup is a recent one
@@ -341,4 +341,8 @@ public class JabRefDesktop {
     public static Path getAiFilesDirectory() {
         return NATIVE_DESKTOP.getAiFilesDirectory();
     }
+
+    public static Path getExtractedTextsDirectory() {
+        return NATIVE_DESKTOP.getExtractedTextsDirectory();
+    }
 }
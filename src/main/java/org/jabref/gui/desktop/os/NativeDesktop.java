@@ -12,6 +12,7 @@ import org.jabref.Launcher;
 import org.jabref.architecture.AllowedToUseAwt;
 import org.jabref.gui.DialogService;
 import org.jabref.logic.ai.AiService;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.OS;
 import org.jabref.model.pdf.search.SearchFieldConstants;
@@ -111,6 +112,13 @@ public abstract class NativeDesktop {
                         OS.APP_DIR_APP_AUTHOR));
     }
 
+    public Path getExtractedTextsDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "texts" + File.separator + PdfTextCache.VERSION,
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public Path getSslDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                                      .getUserDataDir(OS.APP_DIR_APP_NAME,
@@ -28,6 +28,7 @@ import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.gui.util.UiTaskExecutor;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.HeadlessExecutorService;
@@ -97,16 +98,15 @@ public class DuplicateSearch extends SimpleCommand {
     }
 
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; i < (entries.size() - 1); i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(entries);
+        for (BibEntry first : entries) {
+            for (BibEntry second : candidateIndex.getCandidatesAddedAfter(first)) {
                 if (Thread.interrupted()) {
                     return;
                 }
 
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(entryTypesManager).isDuplicate(first, second, databaseMode)) {
+                if (duplicateCheck.isDuplicate(first, second, databaseMode)) {
                     duplicates.add(Arrays.asList(first, second));
                     duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
                 }
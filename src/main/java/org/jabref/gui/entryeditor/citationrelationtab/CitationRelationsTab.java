@@ -37,9 +37,11 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.NoSelectionModel;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.gui.util.ViewModelListCellFactory;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -385,12 +387,14 @@ public class CitationRelationsTab extends EntryEditorTab {
                                              ObservableList<CitationRelationItem> observableList) {
         hideNodes(abortButton, progress);
 
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(databaseContext.getEntries());
+        BibDatabaseMode databaseMode = BibDatabaseModeDetection.inferMode(databaseContext.getDatabase());
         observableList.setAll(
         fetchedList.stream()
             .map(entr -> duplicateCheck.containsDuplicate(
-                    databaseContext.getDatabase(),
+                    candidateIndex,
                     entr,
-                    BibDatabaseModeDetection.inferMode(databaseContext.getDatabase()))
+                    databaseMode)
                 .map(localEntry -> new CitationRelationItem(entr, localEntry, true))
                 .orElseGet(() -> new CitationRelationItem(entr, false)))
             .toList()
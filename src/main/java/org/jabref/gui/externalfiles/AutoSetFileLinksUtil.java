@@ -15,6 +15,7 @@ import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.bibtex.FileFieldWriter;
 import org.jabref.logic.util.io.AutoLinkPreferences;
+import org.jabref.logic.util.io.DirectorySnapshot;
 import org.jabref.logic.util.io.FileFinder;
 import org.jabref.logic.util.io.FileFinders;
 import org.jabref.logic.util.io.FileUtil;
@@ -69,11 +70,20 @@ public class AutoSetFileLinksUtil {
     public LinkFilesResult linkAssociatedFiles(List<BibEntry> entries, NamedCompound ce) {
         LinkFilesResult result = new LinkFilesResult();
 
+        // The directories are walked once for all entries
+        FileFinder fileFinder;
+        try {
+            fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences, DirectorySnapshot.of(directories));
+        } catch (IOException e) {
+            LOGGER.warn("Could not create snapshot of directories {}, searching the directories for each entry", directories, e);
+            fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
+        }
+
         for (BibEntry entry : entries) {
             List<LinkedFile> linkedFiles = new ArrayList<>();
 
             try {
-                linkedFiles = findAssociatedNotLinkedFiles(entry);
+                linkedFiles = findAssociatedNotLinkedFiles(entry, fileFinder);
             } catch (IOException e) {
                 result.addFileException(e);
                 LOGGER.error("Problem finding files", e);
@@ -104,6 +114,10 @@ public class AutoSetFileLinksUtil {
     }
 
     public List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry) throws IOException {
+        return findAssociatedNotLinkedFiles(entry, FileFinders.constructFromConfiguration(autoLinkPreferences));
+    }
+
+    private List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry, FileFinder fileFinder) throws IOException {
         List<LinkedFile> linkedFiles = new ArrayList<>();
 
         List<String> extensions = filePreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).toList();
@@ -111,7 +125,6 @@ public class AutoSetFileLinksUtil {
         LOGGER.debug("Searching for extensions {} in directories {}", extensions, directories);
 
         // Run the search operation
-        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
         List<Path> result = fileFinder.findAssociatedFiles(entry, directories, extensions);
 
         // Collect the found files that are not yet linked
@@ -23,6 +23,7 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.externalfiles.ExternalFilesContentImporter;
 import org.jabref.logic.importer.FetcherException;
@@ -204,16 +205,29 @@ public class ImportHandler {
     }
 
     private void importEntryWithDuplicateCheck(BibDatabaseContext bibDatabaseContext, BibEntry entry, DuplicateResolverDialog.DuplicateResolverResult decision) {
+        importEntryWithDuplicateCheck(bibDatabaseContext, entry, decision, new DuplicateCandidateIndex(bibDatabaseContext.getEntries()));
+    }
+
+    /**
+     * @param candidateIndex the index of the entries of the library. It is updated with the inserted and removed entries,
+     *                       so that it can be reused for the next entry to import.
+     */
+    private void importEntryWithDuplicateCheck(BibDatabaseContext bibDatabaseContext, BibEntry entry, DuplicateResolverDialog.DuplicateResolverResult decision, DuplicateCandidateIndex candidateIndex) {
         BibEntry entryToInsert = cleanUpEntry(bibDatabaseContext, entry);
-        Optional<BibEntry> existingDuplicateInLibrary = findDuplicate(bibDatabaseContext, entryToInsert);
+        Optional<BibEntry> existingDuplicateInLibrary = findDuplicate(candidateIndex, bibDatabaseContext, entryToInsert);
         if (existingDuplicateInLibrary.isPresent()) {
             Optional<BibEntry> duplicateHandledEntry = handleDuplicates(bibDatabaseContext, entryToInsert, existingDuplicateInLibrary.get(), decision);
+            // A duplicate replaced by the imported entry or merged into it is removed from the library
+            if (!bibDatabaseContext.getDatabase().containsEntryWithId(existingDuplicateInLibrary.get().getId())) {
+                candidateIndex.remove(existingDuplicateInLibrary.get());
+            }
             if (duplicateHandledEntry.isEmpty()) {
                 return;
             }
             entryToInsert = duplicateHandledEntry.get();
         }
         importCleanedEntries(List.of(entryToInsert));
+        candidateIndex.add(entryToInsert);
         downloadLinkedFiles(entryToInsert);
     }
 
@@ -224,8 +238,12 @@ public class ImportHandler {
     }
 
     public Optional<BibEntry> findDuplicate(BibDatabaseContext bibDatabaseContext, BibEntry entryToCheck) {
+        return findDuplicate(new DuplicateCandidateIndex(bibDatabaseContext.getEntries()), bibDatabaseContext, entryToCheck);
+    }
+
+    private Optional<BibEntry> findDuplicate(DuplicateCandidateIndex candidateIndex, BibDatabaseContext bibDatabaseContext, BibEntry entryToCheck) {
         return new DuplicateCheck(Injector.instantiateModelOrService(BibEntryTypesManager.class))
-                .containsDuplicate(bibDatabaseContext.getDatabase(), entryToCheck, bibDatabaseContext.getMode());
+                .containsDuplicate(candidateIndex, entryToCheck, bibDatabaseContext.getMode());
     }
 
     public Optional<BibEntry> handleDuplicates(BibDatabaseContext bibDatabaseContext, BibEntry originalEntry, BibEntry duplicateEntry, DuplicateResolverDialog.DuplicateResolverResult decision) {
@@ -405,21 +423,23 @@ public class ImportHandler {
     }
 
     public void importEntriesWithDuplicateCheck(BibDatabaseContext database, List<BibEntry> entriesToAdd) {
+        // Indexed once for all entries, indexing the library for each entry would make the import quadratic
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(database.getEntries());
         boolean firstEntry = true;
         for (BibEntry entry : entriesToAdd) {
             if (firstEntry) {
                 LOGGER.debug("First entry to import, we use BREAK (\"Ask every time\") as decision");
-                importEntryWithDuplicateCheck(database, entry, BREAK);
+                importEntryWithDuplicateCheck(database, entry, BREAK, candidateIndex);
                 firstEntry = false;
                 continue;
             }
             if (preferences.getMergeDialogPreferences().shouldMergeApplyToAllEntries()) {
                 DuplicateResolverDialog.DuplicateResolverResult decision = preferences.getMergeDialogPreferences().getAllEntriesDuplicateResolverDecision();
                 LOGGER.debug("Not first entry, pref flag is true, we use {}", decision);
-                importEntryWithDuplicateCheck(database, entry, decision);
+                importEntryWithDuplicateCheck(database, entry, decision, candidateIndex);
             } else {
                 LOGGER.debug("not first entry, not pref flag, break will  be used");
-                importEntryWithDuplicateCheck(database, entry);
+                importEntryWithDuplicateCheck(database, entry, BREAK, candidateIndex);
             }
         }
     }
@@ -2,12 +2,22 @@ package org.jabref.gui.externalfiles;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -16,6 +26,7 @@ import javafx.scene.control.CheckBoxTreeItem;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.FileNodeViewModel;
+import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.preferences.FilePreferences;
@@ -30,6 +41,8 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UnlinkedFilesCrawler.class);
 
+    private static final long MESSAGE_UPDATE_INTERVAL_MILLIS = 200;
+
     private final Path directory;
     private final Filter<Path> fileFilter;
     private final DateRange dateFilter;
@@ -37,6 +50,11 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
 
+    private final LongAdder searchedDirectories = new LongAdder();
+    private final LongAdder foundFiles = new LongAdder();
+    private Consumer<FileNodeViewModel> onPartialResult = directoryNode -> {
+    };
+
     public UnlinkedFilesCrawler(Path directory, Filter<Path> fileFilter, DateRange dateFilter, ExternalFileSorter sorter, BibDatabaseContext databaseContext, FilePreferences filePreferences) {
         this.directory = directory;
         this.fileFilter = fileFilter;
@@ -46,6 +64,16 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
         this.filePreferences = filePreferences;
     }
 
+    /**
+     * Sets the consumer of partial results. Each subdirectory of the searched directory containing unlinked files is
+     * passed to the consumer as soon as it has been searched completely. The consumer is called from the threads
+     * searching the directories.
+     */
+    public UnlinkedFilesCrawler onPartialResult(Consumer<FileNodeViewModel> onPartialResult) {
+        this.onPartialResult = onPartialResult;
+        return this;
+    }
+
     @Override
     protected FileNodeViewModel call() throws IOException {
         UnlinkedPDFFileFilter unlinkedPDFFileFilter = new UnlinkedPDFFileFilter(fileFilter, databaseContext, filePreferences);
@@ -62,9 +90,9 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
      * The user objects that are attached to the nodes is the {@link FileNodeViewModel}, which wraps the {@link
      * File}-Object. <br>
      * <br>
-     * For ensuring the capability to cancel the work of this recursive method, the first position in the integer array
-     * 'state' must be set to 1, to keep the recursion running. When the states value changes, the method will resolve
-     * its recursion and return what it has saved so far.
+     * The subdirectories are searched in parallel using the common {@link ForkJoinPool}. While searching, the number of
+     * searched directories and found files is reported as message. When the task is canceled, the search stops and
+     * returns what it has found so far.
      * <br>
      * The files are filtered according to the {@link DateRange} filter value
      * and then sorted according to the {@link ExternalFileSorter} value.
@@ -80,62 +108,112 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
             throw new IOException("Invalid directory for searching: %s".formatted(directory));
         }
 
-        FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
-
-        // Map from isDirectory (true/false) to full path
-        // Result: Contains only files not matching the filter (i.e., PDFs not linked and files not ignored)
-        // Filters:
-        //   1. UnlinkedPDFFileFilter
-        //   2. GitIgnoreFilter
-        ChainedFilters filters = new ChainedFilters(unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory));
-        Map<Boolean, List<Path>> directoryAndFilePartition;
-        try (Stream<Path> filesStream = StreamSupport.stream(Files.newDirectoryStream(directory, filters).spliterator(), false)) {
-            directoryAndFilePartition = filesStream.collect(Collectors.partitioningBy(Files::isDirectory));
-        } catch (IOException e) {
-            LOGGER.error("Error while searching files", e);
-            return fileNodeViewModelForCurrentDirectory;
+        searchedDirectories.reset();
+        foundFiles.reset();
+        ForkJoinTask<FileNodeViewModel> searchTask = ForkJoinPool.commonPool().submit(new DirectorySearchTask(directory, unlinkedPDFFileFilter, 0));
+        while (true) {
+            try {
+                return searchTask.get(MESSAGE_UPDATE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                updateMessage(Localization.lang("Searched %0 directories and found %1 files...", searchedDirectories.sum(), foundFiles.sum()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                return searchTask.join();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IOException("Error while searching files", e.getCause());
+            }
         }
-        List<Path> subDirectories = directoryAndFilePartition.get(true);
-        List<Path> files = directoryAndFilePartition.get(false);
+    }
 
-        // at this point, only unlinked PDFs AND unignored files are contained
+    /**
+     * Searches one directory. The subdirectories are searched by tasks of their own, which are run in parallel to the
+     * handling of the files of the directory.
+     * <p>
+     * If the search is canceled, the tasks of the remaining directories return an empty node. Thus, the search returns
+     * what it has found so far.
+     */
+    private class DirectorySearchTask extends RecursiveTask<FileNodeViewModel> {
 
-        // initially, we find no files at all
-        int fileCountOfSubdirectories = 0;
+        private final Path directory;
+        private final UnlinkedPDFFileFilter unlinkedPDFFileFilter;
+        private final int depth;
 
-        // now we crawl into the found subdirectories first (!)
-        for (Path subDirectory : subDirectories) {
-            FileNodeViewModel subRoot = searchDirectory(subDirectory, unlinkedPDFFileFilter);
-            if (!subRoot.getChildren().isEmpty()) {
-                fileCountOfSubdirectories += subRoot.getFileCount();
-                fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
-            }
+        DirectorySearchTask(Path directory, UnlinkedPDFFileFilter unlinkedPDFFileFilter, int depth) {
+            this.directory = directory;
+            this.unlinkedPDFFileFilter = unlinkedPDFFileFilter;
+            this.depth = depth;
         }
-        // now we have the data of all subdirectories
-        // it is stored in fileNodeViewModelForCurrentDirectory.getChildren()
 
-        // now we handle the files in the current directory
+        @Override
+        protected FileNodeViewModel compute() {
+            FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
+            if (isCanceled()) {
+                return fileNodeViewModelForCurrentDirectory;
+            }
 
-        // filter files according to last edited date.
-        // Note that we do not use the "StreamSupport.stream" filtering functionality, because refactoring the code to that would lead to more code
-        List<Path> resultingFiles = new ArrayList<>();
-        for (Path path : files) {
-            if (FileFilterUtils.filterByDate(path, dateFilter)) {
-                resultingFiles.add(path);
+            // Map from isDirectory (true/false) to full path
+            // Result: Contains only files not matching the filter (i.e., PDFs not linked and files not ignored)
+            // Filters:
+            //   1. UnlinkedPDFFileFilter
+            //   2. GitIgnoreFilter
+            ChainedFilters filters = new ChainedFilters(unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory));
+            Map<Boolean, List<Path>> directoryAndFilePartition;
+            try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, filters);
+                 Stream<Path> filesStream = StreamSupport.stream(directoryStream.spliterator(), false)) {
+                directoryAndFilePartition = filesStream.collect(Collectors.partitioningBy(Files::isDirectory));
+            } catch (IOException | DirectoryIteratorException e) {
+                LOGGER.error("Error while searching files", e);
+                return fileNodeViewModelForCurrentDirectory;
+            }
+            searchedDirectories.increment();
+
+            // at this point, only unlinked PDFs AND unignored files are contained
+
+            // the subdirectories are searched in parallel while we handle the files in the current directory
+            List<DirectorySearchTask> subDirectoryTasks = directoryAndFilePartition.get(true).stream()
+                                                                                   .map(subDirectory -> new DirectorySearchTask(subDirectory, unlinkedPDFFileFilter, depth + 1))
+                                                                                   .toList();
+            subDirectoryTasks.forEach(ForkJoinTask::fork);
+
+            // filter files according to last edited date.
+            List<Path> resultingFiles = new ArrayList<>();
+            for (Path path : directoryAndFilePartition.get(false)) {
+                if (FileFilterUtils.filterByDate(path, dateFilter)) {
+                    resultingFiles.add(path);
+                }
             }
-        }
 
-        // sort files according to last edited date.
-        resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter);
+            // sort files according to last edited date.
+            resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter);
+            foundFiles.add(resultingFiles.size());
+
+            // collect the subdirectories in their original order, not in the order they were finished
+            int fileCountOfSubdirectories = 0;
+            for (DirectorySearchTask subDirectoryTask : subDirectoryTasks) {
+                FileNodeViewModel subRoot = subDirectoryTask.join();
+                if (!subRoot.getChildren().isEmpty()) {
+                    fileCountOfSubdirectories += subRoot.getFileCount();
+                    fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
+                }
+            }
 
-        // the count of all files is the count of the found files in current directory plus the count of all files in the subdirectories
-        fileNodeViewModelForCurrentDirectory.setFileCount(resultingFiles.size() + fileCountOfSubdirectories);
+            // the count of all files is the count of the found files in current directory plus the count of all files in the subdirectories
+            fileNodeViewModelForCurrentDirectory.setFileCount(resultingFiles.size() + fileCountOfSubdirectories);
 
-        // create and add FileNodeViewModel to the FileNodeViewModel for the current directory
-        fileNodeViewModelForCurrentDirectory.getChildren().addAll(resultingFiles.stream()
-                .map(FileNodeViewModel::new)
-                .collect(Collectors.toList()));
+            // create and add FileNodeViewModel to the FileNodeViewModel for the current directory
+            fileNodeViewModelForCurrentDirectory.getChildren().addAll(resultingFiles.stream()
+                                                                                    .map(FileNodeViewModel::new)
+                                                                                    .collect(Collectors.toList()));
 
-        return fileNodeViewModelForCurrentDirectory;
+            // the subdirectories of the searched directory are reported as soon as they are complete
+            if ((depth == 1) && !fileNodeViewModelForCurrentDirectory.getChildren().isEmpty()) {
+                onPartialResult.accept(fileNodeViewModelForCurrentDirectory);
+            }
+            return fileNodeViewModelForCurrentDirectory;
+        }
     }
 }
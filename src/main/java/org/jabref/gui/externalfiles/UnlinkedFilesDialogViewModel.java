@@ -35,6 +35,7 @@ import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.FileDialogConfiguration;
 import org.jabref.gui.util.FileNodeViewModel;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseContext;
@@ -123,7 +124,20 @@ public class UnlinkedFilesDialogViewModel {
         progressValueProperty.unbind();
         progressTextProperty.unbind();
 
+        // shows the subdirectories found so far until the search is finished
+        FileNodeViewModel partialTreeRoot = new FileNodeViewModel(directory);
         findUnlinkedFilesTask = new UnlinkedFilesCrawler(directory, selectedFileFilter, selectedDateFilter, selectedSortFilter, bibDatabase, preferences.getFilePreferences())
+                .onPartialResult(directoryNode -> UiTaskExecutor.runInJavaFXThread(() -> {
+                    if (treeRootProperty.getValue().map(treeRoot -> treeRoot != partialTreeRoot).orElse(false)) {
+                        // search already finished
+                        return;
+                    }
+                    partialTreeRoot.setFileCount(partialTreeRoot.getFileCount() + directoryNode.getFileCount());
+                    partialTreeRoot.getChildren().add(directoryNode);
+                    if (treeRootProperty.getValue().isEmpty()) {
+                        treeRootProperty.setValue(Optional.of(partialTreeRoot));
+                    }
+                }))
                 .onRunning(() -> {
                     progressValueProperty.set(ProgressIndicator.INDETERMINATE_PROGRESS);
                     progressTextProperty.setValue(Localization.lang("Searching file system..."));
@@ -23,6 +23,7 @@ import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.database.DatabaseMerger;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.importer.ParserResult;
@@ -54,6 +55,10 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     private final BibEntryTypesManager entryTypesManager;
     private final ObjectProperty<BibDatabaseContext> selectedDb;
 
+    // Built on first use, the duplicate check is done for each entry shown in the dialog (in background tasks)
+    private DuplicateCandidateIndex importedEntriesIndex;
+    private DuplicateCandidateIndex selectedDbIndex;
+
     /**
      * @param databaseContext the database to import into
      * @param task            the task executed for parsing the selected files(s).
@@ -79,6 +84,11 @@ public class ImportEntriesViewModel extends AbstractViewModel {
         this.message = new SimpleStringProperty();
         this.message.bind(task.messageProperty());
         this.selectedDb = new SimpleObjectProperty<>();
+        this.selectedDb.addListener((observable, oldValue, newValue) -> {
+            synchronized (this) {
+                selectedDbIndex = null;
+            }
+        });
 
         task.onSuccess(parserResult -> {
             // store the complete parser result (to import groups, ... later on)
@@ -117,7 +127,21 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     public boolean hasDuplicate(BibEntry entry) {
         return findInternalDuplicate(entry).isPresent() ||
                 new DuplicateCheck(entryTypesManager)
-                .containsDuplicate(selectedDb.getValue().getDatabase(), entry, selectedDb.getValue().getMode()).isPresent();
+                .containsDuplicate(getSelectedDbIndex(), entry, selectedDb.getValue().getMode()).isPresent();
+    }
+
+    private synchronized DuplicateCandidateIndex getSelectedDbIndex() {
+        if (selectedDbIndex == null) {
+            selectedDbIndex = new DuplicateCandidateIndex(selectedDb.getValue().getEntries());
+        }
+        return selectedDbIndex;
+    }
+
+    private synchronized DuplicateCandidateIndex getImportedEntriesIndex() {
+        if (importedEntriesIndex == null) {
+            importedEntriesIndex = new DuplicateCandidateIndex(entries);
+        }
+        return importedEntriesIndex;
     }
 
     public String getSourceString(BibEntry entry) {
@@ -172,7 +196,7 @@ public class ImportEntriesViewModel extends AbstractViewModel {
      * @return A possible duplicate, if any, or null if none were found.
      */
     private Optional<BibEntry> findInternalDuplicate(BibEntry entry) {
-        for (BibEntry othEntry : entries) {
+        for (BibEntry othEntry : getImportedEntriesIndex().getCandidates(entry)) {
             if (othEntry.equals(entry)) {
                 continue; // Don't compare the entry to itself
             }
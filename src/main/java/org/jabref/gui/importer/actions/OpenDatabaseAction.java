@@ -9,9 +9,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.swing.undo.UndoManager;
 
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+
 import org.jabref.gui.ClipBoardManager;
 import org.jabref.gui.DialogService;
 import org.jabref.gui.LibraryTab;
@@ -29,6 +33,7 @@ import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.IndexedBibtexFile;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.shared.DatabaseNotSupportedException;
 import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
@@ -196,7 +201,9 @@ public class OpenDatabaseAction extends SimpleCommand {
             return;
         }
 
-        BackgroundTask<ParserResult> backgroundTask = BackgroundTask.wrap(() -> loadDatabase(file));
+        // The entries are shown in the tab while the file is parsed
+        ObjectProperty<IndexedBibtexFile> readFile = new SimpleObjectProperty<>();
+        BackgroundTask<ParserResult> backgroundTask = BackgroundTask.wrap(() -> loadDatabase(file, indexedFile -> indexInBackground(indexedFile, readFile)));
         // The backgroundTask is executed within the method createLibraryTab
         LibraryTab newTab = LibraryTab.createLibraryTab(
                 backgroundTask,
@@ -211,10 +218,23 @@ public class OpenDatabaseAction extends SimpleCommand {
                 undoManager,
                 clipboardManager,
                 taskExecutor);
+        readFile.addListener((observable, oldValue, indexedFile) -> newTab.showLoadingPreview(indexedFile));
         tabContainer.addTab(newTab, true);
     }
 
-    private ParserResult loadDatabase(Path file) throws Exception {
+    /**
+     * Builds the index of the read file in parallel to the parsing and publishes the file afterwards
+     */
+    private void indexInBackground(IndexedBibtexFile indexedFile, ObjectProperty<IndexedBibtexFile> readFile) {
+        BackgroundTask.wrap(() -> {
+                          indexedFile.getEntries();
+                          return indexedFile;
+                      })
+                      .onSuccess(readFile::set)
+                      .executeWith(taskExecutor);
+    }
+
+    private ParserResult loadDatabase(Path file, Consumer<IndexedBibtexFile> onRead) throws Exception {
         Path fileToLoad = file.toAbsolutePath();
 
         dialogService.notify(Localization.lang("Opening") + ": '" + file + "'");
@@ -235,7 +255,8 @@ public class OpenDatabaseAction extends SimpleCommand {
                 // No backup was restored, do the "normal" loading
                 parserResult = OpenDatabase.loadDatabase(fileToLoad,
                         preferencesService.getImportFormatPreferences(),
-                        fileUpdateMonitor);
+                        fileUpdateMonitor,
+                        onRead);
             }
 
             if (parserResult.hasWarnings()) {
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -20,10 +19,15 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.PreferencesService;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
 public class IntegrityCheckAction extends SimpleCommand {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(IntegrityCheckAction.class);
+
     private final TaskExecutor taskExecutor;
     private final DialogService dialogService;
     private final Supplier<LibraryTab> tabSupplier;
@@ -58,18 +62,12 @@ public class IntegrityCheckAction extends SimpleCommand {
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
+                List<BibEntry> entries = List.copyOf(database.getDatabase().getEntries());
                 List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
+                result.addAll(check.checkEntriesInParallel(entries, this::isCancelled, checkedEntries -> updateProgress(checkedEntries, entries.size())));
 
+                check.getStatistics().getStatistics().forEach(statistics ->
+                        LOGGER.debug("{} reported {} messages for {} runs in {} ms", statistics.checkerName(), statistics.messages(), statistics.runs(), statistics.elapsedTime().toMillis()));
                 return result;
             }
         };
@@ -0,0 +1,90 @@
+package org.jabref.gui.maintable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+
+import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.importer.fileformat.IndexedBibtexFile;
+import org.jabref.logic.importer.fileformat.IndexedBibtexFile.IndexedEntry;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+
+import com.tobiasdiez.easybind.EasyBind;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-only table showing the entries of a library while it is loaded.
+ * <p>
+ * The rows come from the index of the file (see {@link IndexedBibtexFile#getEntries()}). An entry is only parsed when
+ * its row is displayed. The parsing runs in the background and fills the cells of the row when done. The table is
+ * replaced by the {@link MainTable} as soon as the library is parsed completely.
+ */
+public class LoadingPreviewTable extends TableView<IndexedEntry> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadingPreviewTable.class);
+
+    private final IndexedBibtexFile file;
+    private final ImportFormatPreferences importFormatPreferences;
+    private final TaskExecutor taskExecutor;
+    private final Map<IndexedEntry, ObjectProperty<Optional<BibEntry>>> parsedEntries = new HashMap<>();
+
+    public LoadingPreviewTable(IndexedBibtexFile file, ImportFormatPreferences importFormatPreferences, TaskExecutor taskExecutor) {
+        this.file = file;
+        this.importFormatPreferences = importFormatPreferences;
+        this.taskExecutor = taskExecutor;
+
+        getColumns().add(createColumn(Localization.lang("Entry Type"), entry -> new ReadOnlyStringWrapper(entry.type())));
+        getColumns().add(createColumn(Localization.lang("Citation key"), entry -> new ReadOnlyStringWrapper(entry.citationKey())));
+        getColumns().add(createColumn(StandardField.AUTHOR.getDisplayName(), entry -> getFieldValue(entry, StandardField.AUTHOR)));
+        getColumns().add(createColumn(StandardField.TITLE.getDisplayName(), entry -> getFieldValue(entry, StandardField.TITLE)));
+        setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        setItems(FXCollections.observableList(file.getEntries()));
+    }
+
+    private static TableColumn<IndexedEntry, String> createColumn(String title, Function<IndexedEntry, ObservableValue<String>> value) {
+        TableColumn<IndexedEntry, String> column = new TableColumn<>(title);
+        column.setCellValueFactory(cellData -> value.apply(cellData.getValue()));
+        column.setSortable(false);
+        return column;
+    }
+
+    private ObservableValue<String> getFieldValue(IndexedEntry indexedEntry, Field field) {
+        return EasyBind.map(getParsedEntry(indexedEntry), entry -> entry.flatMap(parsedEntry -> parsedEntry.getField(field)).orElse(""));
+    }
+
+    private ObjectProperty<Optional<BibEntry>> getParsedEntry(IndexedEntry indexedEntry) {
+        return parsedEntries.computeIfAbsent(indexedEntry, key -> {
+            ObjectProperty<Optional<BibEntry>> parsedEntry = new SimpleObjectProperty<>(Optional.empty());
+            BackgroundTask.wrap(() -> parse(key))
+                          .onSuccess(parsedEntry::set)
+                          .executeWith(taskExecutor);
+            return parsedEntry;
+        });
+    }
+
+    private Optional<BibEntry> parse(IndexedEntry indexedEntry) {
+        try {
+            return file.parseEntry(indexedEntry, importFormatPreferences);
+        } catch (ParseException | InternalError e) {
+            // Reading a memory-mapped file raises an InternalError if the file is truncated concurrently
+            LOGGER.debug("Could not parse entry {} for the preview", indexedEntry.citationKey(), e);
+            return Optional.empty();
+        }
+    }
+}
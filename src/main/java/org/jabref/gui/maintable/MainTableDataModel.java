@@ -2,6 +2,7 @@ package org.jabref.gui.maintable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -26,6 +27,7 @@ import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.search.FieldTokenIndex;
 import org.jabref.model.search.matchers.MatcherSet;
 import org.jabref.model.search.matchers.MatcherSets;
 import org.jabref.preferences.PreferencesService;
@@ -44,6 +46,7 @@ public class MainTableDataModel {
     private final NameDisplayPreferences nameDisplayPreferences;
     private final BibDatabaseContext bibDatabaseContext;
     private final TaskExecutor taskExecutor;
+    private final FieldTokenIndex fieldTokenIndex;
     private final Subscription searchQuerySubscription;
     private final Subscription searchDisplayModeSubscription;
     private final Subscription selectedGroupsSubscription;
@@ -62,6 +65,8 @@ public class MainTableDataModel {
         this.taskExecutor = taskExecutor;
         this.bibDatabaseContext = context;
         this.groupsMatcher = createGroupMatcher(selectedGroupsProperty.get(), groupsPreferences);
+        // The index is built on the first search, which runs in the background
+        this.fieldTokenIndex = new FieldTokenIndex(context.getDatabase());
 
         resetFieldFormatter();
 
@@ -74,7 +79,7 @@ public class MainTableDataModel {
                 if (change.wasAdded() || change.wasUpdated()) {
                     BackgroundTask.wrap(() -> {
                         for (BibEntryTableViewModel entry : change.getList().subList(change.getFrom(), change.getTo())) {
-                            updateEntrySearchMatch(searchQueryProperty.get(), entry, searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT);
+                            updateEntrySearchMatch(searchQueryProperty.get(), Optional.empty(), entry, searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT);
                             updateEntryGroupMatch(entry, groupsMatcher, groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT), !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER));
                         }
                     }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered, change.getFrom(), change.getTo())).executeWith(taskExecutor);
@@ -95,12 +100,15 @@ public class MainTableDataModel {
     private void updateSearchMatches(Optional<SearchQuery> query) {
         BackgroundTask.wrap(() -> {
             boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
-            entriesViewModel.forEach(entry -> updateEntrySearchMatch(query, entry, isFloatingMode));
+            // The index narrows down the entries the query needs to be evaluated on
+            Optional<Set<BibEntry>> candidates = query.flatMap(matcher -> matcher.getCandidates(fieldTokenIndex));
+            entriesViewModel.forEach(entry -> updateEntrySearchMatch(query, candidates, entry, isFloatingMode));
         }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
     }
 
-    private static void updateEntrySearchMatch(Optional<SearchQuery> query, BibEntryTableViewModel entry, boolean isFloatingMode) {
-        boolean isMatched = query.map(matcher -> matcher.isMatch(entry.getEntry())).orElse(true);
+    private static void updateEntrySearchMatch(Optional<SearchQuery> query, Optional<Set<BibEntry>> candidates, BibEntryTableViewModel entry, boolean isFloatingMode) {
+        boolean isCandidate = candidates.map(candidateSet -> candidateSet.contains(entry.getEntry())).orElse(true);
+        boolean isMatched = query.map(matcher -> isCandidate && matcher.isMatch(entry.getEntry())).orElse(true);
         entry.isMatchedBySearch().set(isMatched);
         entry.updateMatchCategory();
         setEntrySearchVisibility(entry, isMatched, isFloatingMode);
@@ -164,6 +172,7 @@ public class MainTableDataModel {
         searchDisplayModeSubscription.unsubscribe();
         selectedGroupsSubscription.unsubscribe();
         groupViewModeSubscription.unsubscribe();
+        fieldTokenIndex.shutdown();
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
@@ -48,6 +48,7 @@ public class AiTab extends AbstractPreferenceTabView<AiTabViewModel> implements
     @FXML private IntegerInputField contextWindowSizeTextField;
     @FXML private IntegerInputField documentSplitterChunkSizeTextField;
     @FXML private IntegerInputField documentSplitterOverlapSizeTextField;
+    @FXML private IntegerInputField embeddingBatchSizeTextField;
     @FXML private IntegerInputField ragMaxResultsCountTextField;
     @FXML private DoubleInputField ragMinScoreTextField;
 
@@ -170,6 +171,16 @@ public class AiTab extends AbstractPreferenceTabView<AiTabViewModel> implements
 
         documentSplitterOverlapSizeTextField.disableProperty().bind(viewModel.disableExpertSettingsProperty());
 
+        embeddingBatchSizeTextField.valueProperty().addListener((observable, oldValue, newValue) -> {
+            viewModel.embeddingBatchSizeProperty().set(newValue == null ? 0 : newValue);
+        });
+
+        viewModel.embeddingBatchSizeProperty().addListener((observable, oldValue, newValue) -> {
+            embeddingBatchSizeTextField.valueProperty().set(newValue == null ? 0 : newValue.intValue());
+        });
+
+        embeddingBatchSizeTextField.disableProperty().bind(viewModel.disableExpertSettingsProperty());
+
         ragMaxResultsCountTextField.valueProperty().addListener((observable, oldValue, newValue) -> {
             viewModel.ragMaxResultsCountProperty().set(newValue == null ? 0 : newValue);
         });
@@ -200,6 +211,7 @@ public class AiTab extends AbstractPreferenceTabView<AiTabViewModel> implements
             visualizer.initVisualization(viewModel.getMessageWindowSizeValidationStatus(), contextWindowSizeTextField);
             visualizer.initVisualization(viewModel.getDocumentSplitterChunkSizeValidationStatus(), documentSplitterChunkSizeTextField);
             visualizer.initVisualization(viewModel.getDocumentSplitterOverlapSizeValidationStatus(), documentSplitterOverlapSizeTextField);
+            visualizer.initVisualization(viewModel.getEmbeddingBatchSizeValidationStatus(), embeddingBatchSizeTextField);
             visualizer.initVisualization(viewModel.getRagMaxResultsCountValidationStatus(), ragMaxResultsCountTextField);
             visualizer.initVisualization(viewModel.getRagMinScoreValidationStatus(), ragMinScoreTextField);
         });
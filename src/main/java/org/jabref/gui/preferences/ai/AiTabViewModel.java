@@ -74,6 +74,7 @@ public class AiTabViewModel implements PreferenceTabViewModel {
     private final IntegerProperty contextWindowSize = new SimpleIntegerProperty();
     private final IntegerProperty documentSplitterChunkSize = new SimpleIntegerProperty();
     private final IntegerProperty documentSplitterOverlapSize = new SimpleIntegerProperty();
+    private final IntegerProperty embeddingBatchSize = new SimpleIntegerProperty();
     private final IntegerProperty ragMaxResultsCount = new SimpleIntegerProperty();
     private final DoubleProperty ragMinScore = new SimpleDoubleProperty();
 
@@ -92,6 +93,7 @@ public class AiTabViewModel implements PreferenceTabViewModel {
     private final Validator contextWindowSizeValidator;
     private final Validator documentSplitterChunkSizeValidator;
     private final Validator documentSplitterOverlapSizeValidator;
+    private final Validator embeddingBatchSizeValidator;
     private final Validator ragMaxResultsCountValidator;
     private final Validator ragMinScoreValidator;
 
@@ -237,6 +239,11 @@ public class AiTabViewModel implements PreferenceTabViewModel {
                 size -> size.intValue() > 0 && size.intValue() < documentSplitterChunkSize.get(),
                 ValidationMessage.error(Localization.lang("Document splitter overlap size must be greater than 0 and less than chunk size")));
 
+        this.embeddingBatchSizeValidator = new FunctionBasedValidator<>(
+                embeddingBatchSize,
+                size -> size.intValue() > 0,
+                ValidationMessage.error(Localization.lang("Embedding batch size must be greater than 0")));
+
         this.ragMaxResultsCountValidator = new FunctionBasedValidator<>(
                 ragMaxResultsCount,
                 count -> count.intValue() > 0,
@@ -275,6 +282,7 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         contextWindowSize.setValue(aiPreferences.getContextWindowSize());
         documentSplitterChunkSize.setValue(aiPreferences.getDocumentSplitterChunkSize());
         documentSplitterOverlapSize.setValue(aiPreferences.getDocumentSplitterOverlapSize());
+        embeddingBatchSize.setValue(aiPreferences.getEmbeddingBatchSize());
         ragMaxResultsCount.setValue(aiPreferences.getRagMaxResultsCount());
         ragMinScore.setValue(aiPreferences.getRagMinScore());
     }
@@ -308,6 +316,7 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         aiPreferences.setContextWindowSize(contextWindowSize.get());
         aiPreferences.setDocumentSplitterChunkSize(documentSplitterChunkSize.get());
         aiPreferences.setDocumentSplitterOverlapSize(documentSplitterOverlapSize.get());
+        aiPreferences.setEmbeddingBatchSize(embeddingBatchSize.get());
         aiPreferences.setRagMaxResultsCount(ragMaxResultsCount.get());
         aiPreferences.setRagMinScore(ragMinScore.get());
     }
@@ -324,6 +333,7 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         temperature.set(AiDefaultPreferences.TEMPERATURE);
         documentSplitterChunkSize.set(AiDefaultPreferences.DOCUMENT_SPLITTER_CHUNK_SIZE);
         documentSplitterOverlapSize.set(AiDefaultPreferences.DOCUMENT_SPLITTER_OVERLAP);
+        embeddingBatchSize.set(AiDefaultPreferences.EMBEDDING_BATCH_SIZE);
         ragMaxResultsCount.set(AiDefaultPreferences.RAG_MAX_RESULTS_COUNT);
         ragMinScore.set(AiDefaultPreferences.RAG_MIN_SCORE);
     }
@@ -359,6 +369,7 @@ public class AiTabViewModel implements PreferenceTabViewModel {
                 contextWindowSizeValidator,
                 documentSplitterChunkSizeValidator,
                 documentSplitterOverlapSizeValidator,
+                embeddingBatchSizeValidator,
                 ragMaxResultsCountValidator,
                 ragMinScoreValidator
         );
@@ -434,6 +445,10 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         return documentSplitterOverlapSize;
     }
 
+    public IntegerProperty embeddingBatchSizeProperty() {
+        return embeddingBatchSize;
+    }
+
     public IntegerProperty ragMaxResultsCountProperty() {
         return ragMaxResultsCount;
     }
@@ -486,6 +501,10 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         return documentSplitterOverlapSizeValidator.getValidationStatus();
     }
 
+    public ValidationStatus getEmbeddingBatchSizeValidationStatus() {
+        return embeddingBatchSizeValidator.getValidationStatus();
+    }
+
     public ValidationStatus getRagMaxResultsCountValidationStatus() {
         return ragMaxResultsCountValidator.getValidationStatus();
     }
@@ -20,11 +20,11 @@ import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
 import org.jabref.logic.citationstyle.CitationStylePreviewLayout;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutHelper;
 import org.jabref.logic.layout.TextBasedPreviewLayout;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.logic.util.OS;
+import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.preferences.PreferencesService;
@@ -106,12 +106,17 @@ public class CopyCitationAction extends SimpleCommand {
 
         TextBasedPreviewLayout customPreviewLayout = preferencesService.getPreviewPreferences().getCustomPreviewLayout();
         StringReader customLayoutReader = new StringReader(customPreviewLayout.getText().replace("__NEWLINE__", "\n"));
-        Layout layout = new LayoutHelper(customLayoutReader, preferencesService.getLayoutFormatterPreferences(), abbreviationRepository)
-                .getLayoutFromText();
+        TextBasedPreviewLayout layout = new TextBasedPreviewLayout(
+                new LayoutHelper(customLayoutReader, preferencesService.getLayoutFormatterPreferences(), abbreviationRepository)
+                        .getLayoutFromText());
+        BibDatabaseContext databaseContext = stateManager.getActiveDatabase().get();
 
         List<String> citations = new ArrayList<>(selectedEntries.size());
+        StringBuilder citation = new StringBuilder(100);
         for (BibEntry entry : selectedEntries) {
-            citations.add(layout.doLayout(entry, stateManager.getActiveDatabase().get().getDatabase()));
+            citation.setLength(0);
+            layout.generatePreview(entry, databaseContext, citation);
+            citations.add(citation.toString());
         }
         return citations;
     }
@@ -29,7 +29,15 @@ public record BibEntryDTO(SharedBibEntryData sharingMetadata, String userComment
     public static final Logger LOGGER = LoggerFactory.getLogger(BibEntryDTO.class);
 
     public BibEntryDTO(BibEntry bibEntry, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
-        this(bibEntry.getSharedBibEntryData(),
+        this(bibEntry, bibEntry.getSharedBibEntryData(), bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager);
+    }
+
+    /**
+     * Creates the DTO with the given sharing metadata instead of the one of the entry. Used for entries which must not
+     * be modified, e.g., because they are shared between requests.
+     */
+    public BibEntryDTO(BibEntry bibEntry, SharedBibEntryData sharingMetadata, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
+        this(sharingMetadata,
                 bibEntry.getUserComments(),
                 bibEntry.getCitationKey().orElse(""),
                 convertToString(bibEntry, bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager)
@@ -28,5 +28,6 @@ public class Application extends jakarta.ws.rs.core.Application {
     private void initialize() {
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferenceServiceFactory());
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, new LibraryCache());
     }
 }
@@ -0,0 +1,97 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.jabref.logic.importer.ParserResult;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the parsed libraries served by the http server in memory.
+ * <p>
+ * A library is identified by its path. The cached {@link ParserResult} is reused as long as the modification time
+ * and the size of the file are unchanged. Otherwise, the library is parsed again. Readers of an up-to-date library
+ * are not blocked. While a library is (re)parsed, other requests for the same library wait for the result instead of
+ * parsing the file themselves.
+ * <p>
+ * The returned {@link ParserResult} is shared between requests and must be treated as read-only.
+ */
+public class LibraryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private final Map<Path, CachedLibrary> cachedLibraries = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface LibraryLoader {
+        ParserResult load(Path library) throws IOException;
+    }
+
+    /**
+     * @param parserResult completed when the library is parsed. Requests arriving while the library is parsed wait for it.
+     */
+    private record CachedLibrary(FileTime lastModified, long size, CompletableFuture<ParserResult> parserResult) {
+        boolean isUpToDate(BasicFileAttributes attributes) {
+            return lastModified.equals(attributes.lastModifiedTime()) && (size == attributes.size());
+        }
+    }
+
+    /**
+     * Returns the parsed library. The loader is called only if the library is not cached yet or if the file changed
+     * since it was parsed.
+     */
+    public ParserResult get(Path library, LibraryLoader loader) throws IOException {
+        // Read before parsing: If the file changes during parsing, the next request will see a newer state and reparse
+        BasicFileAttributes attributes = Files.readAttributes(library, BasicFileAttributes.class);
+
+        CachedLibrary cachedLibrary = cachedLibraries.get(library);
+        if ((cachedLibrary == null) || !cachedLibrary.isUpToDate(attributes)) {
+            CachedLibrary newLibrary = new CachedLibrary(attributes.lastModifiedTime(), attributes.size(), new CompletableFuture<>());
+            // Only the (cheap) registration happens inside compute, the parsing happens outside to not block the map
+            cachedLibrary = cachedLibraries.compute(library, (path, current) ->
+                    ((current != null) && current.isUpToDate(attributes)) ? current : newLibrary);
+            if (cachedLibrary == newLibrary) {
+                load(library, loader, newLibrary);
+            }
+        }
+        return await(cachedLibrary.parserResult());
+    }
+
+    private void load(Path library, LibraryLoader loader, CachedLibrary newLibrary) {
+        LOGGER.debug("Parsing library {}", library);
+        try {
+            newLibrary.parserResult().complete(loader.load(library));
+        } catch (IOException | RuntimeException e) {
+            // Do not keep the failure, the next request tries again
+            cachedLibraries.remove(library, newLibrary);
+            newLibrary.parserResult().completeExceptionally(e);
+        }
+    }
+
+    private static ParserResult await(CompletableFuture<ParserResult> parserResult) throws IOException {
+        try {
+            return parserResult.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the library to be parsed");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
@@ -11,7 +11,9 @@ import org.jabref.logic.citationstyle.JabRefItemDataProvider;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.SharedBibEntryData;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
@@ -39,18 +41,28 @@ public class LibraryResource {
     @Inject
     Gson gson;
 
+    @Inject
+    LibraryCache libraryCache;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public String getJson(@PathParam("id") String id) {
         ParserResult parserResult = getParserResult(id);
         BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+        // The parsed library is shared between requests (see LibraryCache), thus the id is set on a copy of the sharing metadata
         List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager))
+                                             .map(entry -> new BibEntryDTO(entry, getSharingMetadata(entry), parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager))
                                              .toList();
         return gson.toJson(list);
     }
 
+    private static SharedBibEntryData getSharingMetadata(BibEntry entry) {
+        SharedBibEntryData sharingMetadata = new SharedBibEntryData();
+        sharingMetadata.setSharedID(Objects.hash(entry));
+        sharingMetadata.setVersion(entry.getSharedBibEntryData().getVersion());
+        return sharingMetadata;
+    }
+
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
     public String getClsItemJson(@PathParam("id") String id) {
@@ -64,7 +76,7 @@ public class LibraryResource {
         java.nio.file.Path library = getLibraryPath(id);
         ParserResult parserResult;
         try {
-            parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
+            parserResult = libraryCache.get(library, path -> new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(path));
         } catch (IOException e) {
             LOGGER.warn("Could not find open library file {}", library, e);
             throw new InternalServerErrorException("Could not parse library", e);
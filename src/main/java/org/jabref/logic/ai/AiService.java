@@ -25,6 +25,7 @@ import org.jabref.logic.ai.ingestion.storages.MVStoreFullyIngestedDocumentsTrack
 import org.jabref.logic.ai.summarization.SummariesService;
 import org.jabref.logic.ai.summarization.storages.MVStoreSummariesStorage;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.FilePreferences;
@@ -80,6 +81,7 @@ public class AiService implements AutoCloseable {
                      FilePreferences filePreferences,
                      CitationKeyPatternPreferences citationKeyPatternPreferences,
                      AiApiKeyProvider aiApiKeyProvider,
+                     PdfTextCache pdfTextCache,
                      DialogService dialogService,
                      TaskExecutor taskExecutor
     ) {
@@ -105,9 +107,10 @@ public class AiService implements AutoCloseable {
                 mvStoreEmbeddingStore,
                 mvStoreFullyIngestedDocumentsTracker,
                 filePreferences,
+                pdfTextCache,
                 taskExecutor
         );
-        this.summariesService = new SummariesService(aiPreferences, mvStoreSummariesStorage, jabRefChatLanguageModel, shutdownSignal, filePreferences, taskExecutor);
+        this.summariesService = new SummariesService(aiPreferences, mvStoreSummariesStorage, jabRefChatLanguageModel, shutdownSignal, filePreferences, pdfTextCache, taskExecutor);
     }
 
     public JabRefChatLanguageModel getChatLanguageModel() {
@@ -0,0 +1,183 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * In-memory index of the embedding vectors of {@link MVStoreEmbeddingStore}.
+ * <p>
+ * The vectors are normalized on insertion and kept in one flat {@code float[]} per linked file, so the cosine similarity
+ * of a query is a plain dot product over contiguous memory that does not allocate per vector. Partitioning by file
+ * makes searches restricted to some files (which is what the AI chat does) only touch the vectors of these files.
+ * <p>
+ * The index is not persisted: it is derived from the MVStore on its first use and then kept up to date on each
+ * insertion and removal. A search is exact, it scores all vectors of the requested files.
+ */
+class EmbeddingVectorIndex {
+
+    record ScoredId(String id, double cosineSimilarity) {
+    }
+
+    /**
+     * All vectors generated from one file. The vector at slot {@code i} is stored at
+     * {@code vectors[i * dimension] ... vectors[(i + 1) * dimension - 1]}.
+     */
+    private static class Partition {
+        private final @Nullable String file;
+        private float[] vectors = new float[0];
+        private String[] ids = new String[0];
+        private int size = 0;
+
+        Partition(@Nullable String file) {
+            this.file = file;
+        }
+    }
+
+    private record Location(Partition partition, int slot) {
+    }
+
+    // The key null is used for embeddings without a file
+    private final Map<String, Partition> partitions = new HashMap<>();
+    private final Map<String, Location> locations = new HashMap<>();
+    private int dimension = -1;
+
+    public synchronized void add(String id, @Nullable String file, float[] vector) {
+        if (dimension == -1) {
+            dimension = vector.length;
+        } else if (vector.length != dimension) {
+            throw new IllegalArgumentException("Embedding has dimension " + vector.length + ", but the index has dimension " + dimension);
+        }
+        remove(id);
+
+        Partition partition = partitions.computeIfAbsent(file, Partition::new);
+        if (partition.size == partition.ids.length) {
+            int newCapacity = Math.max(16, partition.ids.length * 2);
+            partition.ids = Arrays.copyOf(partition.ids, newCapacity);
+            partition.vectors = Arrays.copyOf(partition.vectors, newCapacity * dimension);
+        }
+
+        int slot = partition.size++;
+        partition.ids[slot] = id;
+        storeNormalized(vector, partition.vectors, slot * dimension);
+        locations.put(id, new Location(partition, slot));
+    }
+
+    public synchronized void remove(String id) {
+        Location location = locations.remove(id);
+        if (location == null) {
+            return;
+        }
+
+        // Move the last vector into the freed slot to keep the vectors contiguous
+        Partition partition = location.partition();
+        int lastSlot = --partition.size;
+        if (location.slot() != lastSlot) {
+            String movedId = partition.ids[lastSlot];
+            partition.ids[location.slot()] = movedId;
+            System.arraycopy(partition.vectors, lastSlot * dimension, partition.vectors, location.slot() * dimension, dimension);
+            locations.put(movedId, new Location(partition, location.slot()));
+        }
+        partition.ids[lastSlot] = null;
+
+        if (partition.size == 0) {
+            partitions.remove(partition.file);
+        }
+    }
+
+    public synchronized void clear() {
+        partitions.clear();
+        locations.clear();
+        dimension = -1;
+    }
+
+    /**
+     * @param files the files to restrict the ids to, {@code null} for all files
+     */
+    public synchronized List<String> getIds(@Nullable Collection<String> files) {
+        List<String> result = new ArrayList<>();
+        for (Partition partition : getPartitions(files)) {
+            result.addAll(Arrays.asList(partition.ids).subList(0, partition.size));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the vectors most similar to the given query.
+     *
+     * @param files                  the files to restrict the search to, {@code null} for all files
+     * @param maxResults             maximal number of returned results
+     * @param minCosineSimilarity    minimal cosine similarity of a result
+     * @return the results, most similar first
+     */
+    public synchronized List<ScoredId> search(float[] query, @Nullable Collection<String> files, int maxResults, double minCosineSimilarity) {
+        if ((dimension == -1) || (maxResults <= 0)) {
+            return List.of();
+        }
+        if (query.length != dimension) {
+            throw new IllegalArgumentException("Query has dimension " + query.length + ", but the index has dimension " + dimension);
+        }
+
+        float[] normalizedQuery = new float[dimension];
+        storeNormalized(query, normalizedQuery, 0);
+
+        Comparator<ScoredId> comparator = Comparator.comparingDouble(ScoredId::cosineSimilarity);
+        PriorityQueue<ScoredId> bestMatches = new PriorityQueue<>(maxResults + 1, comparator);
+        for (Partition partition : getPartitions(files)) {
+            float[] vectors = partition.vectors;
+            for (int slot = 0; slot < partition.size; slot++) {
+                int offset = slot * dimension;
+                double dotProduct = 0;
+                for (int i = 0; i < dimension; i++) {
+                    dotProduct += normalizedQuery[i] * vectors[offset + i];
+                }
+
+                if ((dotProduct < minCosineSimilarity)
+                        || ((bestMatches.size() == maxResults) && (dotProduct <= bestMatches.peek().cosineSimilarity()))) {
+                    continue;
+                }
+                bestMatches.add(new ScoredId(partition.ids[slot], dotProduct));
+                if (bestMatches.size() > maxResults) {
+                    bestMatches.poll();
+                }
+            }
+        }
+
+        List<ScoredId> result = new ArrayList<>(bestMatches);
+        result.sort(comparator.reversed());
+        return result;
+    }
+
+    private List<Partition> getPartitions(@Nullable Collection<String> files) {
+        if (files == null) {
+            return new ArrayList<>(partitions.values());
+        }
+        List<Partition> result = new ArrayList<>();
+        for (String file : new HashSet<>(files)) {
+            Partition partition = partitions.get(file);
+            if (partition != null) {
+                result.add(partition);
+            }
+        }
+        return result;
+    }
+
+    private static void storeNormalized(float[] vector, float[] target, int offset) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+        for (int i = 0; i < vector.length; i++) {
+            target[offset + i] = norm == 0 ? 0 : (float) (vector[i] / norm);
+        }
+    }
+}
@@ -62,6 +62,8 @@ public class FileEmbeddingsManager {
 
         if (!shutdownSignal.get()) {
             fullyIngestedDocumentsTracker.markDocumentAsFullyIngested(link, modificationTimeInSeconds);
+            // The embeddings of the document are already committed
+            fullyIngestedDocumentsTracker.commit();
         }
     }
 
@@ -1,17 +1,15 @@
 package org.jabref.logic.ai.ingestion;
 
-import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.Optional;
 
 import javafx.beans.property.ReadOnlyBooleanProperty;
 
-import org.jabref.logic.pdf.InterruptablePDFTextStripper;
+import org.jabref.logic.pdf.ExtractedPdfText;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.io.FileUtil;
-import org.jabref.logic.xmp.XmpUtilReader;
 
 import dev.langchain4j.data.document.Document;
-import org.apache.pdfbox.pdmodel.PDDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,9 +17,11 @@ public class FileToDocument {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileToDocument.class);
 
     private final ReadOnlyBooleanProperty shutdownSignal;
+    private final PdfTextCache textCache;
 
-    public FileToDocument(ReadOnlyBooleanProperty shutdownSignal) {
+    public FileToDocument(ReadOnlyBooleanProperty shutdownSignal, PdfTextCache textCache) {
         this.shutdownSignal = shutdownSignal;
+        this.textCache = textCache;
     }
 
     public Optional<Document> fromFile(Path path) {
@@ -36,20 +36,13 @@ public class FileToDocument {
     private Optional<Document> fromPdfFile(Path path) {
         // This method is private to ensure that the path is really pointing to PDF file (determined by extension).
 
-        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(path)) {
-            int lastPage = document.getNumberOfPages();
-            StringWriter writer = new StringWriter();
-
-            InterruptablePDFTextStripper stripper = new InterruptablePDFTextStripper(shutdownSignal);
-            stripper.setStartPage(1);
-            stripper.setEndPage(lastPage);
-            stripper.writeText(document, writer);
-
-            if (shutdownSignal.get()) {
+        try {
+            Optional<ExtractedPdfText> text = textCache.getText(path, shutdownSignal);
+            if (text.isEmpty()) {
                 return Optional.empty();
             }
 
-            return fromString(writer.toString());
+            return fromString(text.get().getContent());
         } catch (Exception e) {
             LOGGER.error("An error occurred while reading the PDF file: {}", path, e);
             return Optional.empty();
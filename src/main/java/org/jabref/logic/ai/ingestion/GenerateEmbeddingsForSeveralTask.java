@@ -13,6 +13,7 @@ import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.ai.processingstatus.ProcessingInfo;
 import org.jabref.logic.ai.processingstatus.ProcessingState;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.ProgressCounter;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
@@ -34,6 +35,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
     private final FileEmbeddingsManager fileEmbeddingsManager;
     private final BibDatabaseContext bibDatabaseContext;
     private final FilePreferences filePreferences;
+    private final PdfTextCache pdfTextCache;
     private final TaskExecutor taskExecutor;
     private final ReadOnlyBooleanProperty shutdownSignal;
 
@@ -47,6 +49,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
             FileEmbeddingsManager fileEmbeddingsManager,
             BibDatabaseContext bibDatabaseContext,
             FilePreferences filePreferences,
+            PdfTextCache pdfTextCache,
             TaskExecutor taskExecutor,
             ReadOnlyBooleanProperty shutdownSignal
     ) {
@@ -55,6 +58,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
         this.fileEmbeddingsManager = fileEmbeddingsManager;
         this.bibDatabaseContext = bibDatabaseContext;
         this.filePreferences = filePreferences;
+        this.pdfTextCache = pdfTextCache;
         this.taskExecutor = taskExecutor;
         this.shutdownSignal = shutdownSignal;
 
@@ -86,6 +90,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
                                     fileEmbeddingsManager,
                                     bibDatabaseContext,
                                     filePreferences,
+                                    pdfTextCache,
                                     shutdownSignal
                             )
                                     .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
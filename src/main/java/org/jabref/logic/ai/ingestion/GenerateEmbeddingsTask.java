@@ -11,6 +11,7 @@ import javafx.beans.property.ReadOnlyBooleanProperty;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.ProgressCounter;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
@@ -32,6 +33,7 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
     private final FileEmbeddingsManager fileEmbeddingsManager;
     private final BibDatabaseContext bibDatabaseContext;
     private final FilePreferences filePreferences;
+    private final PdfTextCache pdfTextCache;
     private final ReadOnlyBooleanProperty shutdownSignal;
 
     private final ProgressCounter progressCounter = new ProgressCounter();
@@ -40,12 +42,14 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
                                   FileEmbeddingsManager fileEmbeddingsManager,
                                   BibDatabaseContext bibDatabaseContext,
                                   FilePreferences filePreferences,
+                                  PdfTextCache pdfTextCache,
                                   ReadOnlyBooleanProperty shutdownSignal
     ) {
         this.linkedFile = linkedFile;
         this.fileEmbeddingsManager = fileEmbeddingsManager;
         this.bibDatabaseContext = bibDatabaseContext;
         this.filePreferences = filePreferences;
+        this.pdfTextCache = pdfTextCache;
         this.shutdownSignal = shutdownSignal;
 
         configure(linkedFile);
@@ -115,7 +119,7 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
             return;
         }
 
-        Optional<Document> document = new FileToDocument(shutdownSignal).fromFile(path.get());
+        Optional<Document> document = new FileToDocument(shutdownSignal, pdfTextCache).fromFile(path.get());
         if (document.isPresent()) {
             fileEmbeddingsManager.addDocument(linkedFile.getLink(), document.get(), modTime.orElse(0L), progressCounter.workDoneProperty(), progressCounter.workMaxProperty());
             LOGGER.debug("Embeddings for file \"{}\" were generated successfully", linkedFile.getLink());
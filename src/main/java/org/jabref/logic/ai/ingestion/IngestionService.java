@@ -11,6 +11,7 @@ import javafx.beans.property.StringProperty;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.ai.processingstatus.ProcessingInfo;
 import org.jabref.logic.ai.processingstatus.ProcessingState;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.preferences.FilePreferences;
@@ -30,6 +31,7 @@ public class IngestionService {
     private final List<List<LinkedFile>> listsUnderIngestion = new ArrayList<>();
 
     private final FilePreferences filePreferences;
+    private final PdfTextCache pdfTextCache;
     private final TaskExecutor taskExecutor;
 
     private final FileEmbeddingsManager fileEmbeddingsManager;
@@ -42,9 +44,11 @@ public class IngestionService {
                             EmbeddingStore<TextSegment> embeddingStore,
                             FullyIngestedDocumentsTracker fullyIngestedDocumentsTracker,
                             FilePreferences filePreferences,
+                            PdfTextCache pdfTextCache,
                             TaskExecutor taskExecutor
     ) {
         this.filePreferences = filePreferences;
+        this.pdfTextCache = pdfTextCache;
         this.taskExecutor = taskExecutor;
 
         this.fileEmbeddingsManager = new FileEmbeddingsManager(
@@ -100,14 +104,14 @@ public class IngestionService {
     }
 
     private void startEmbeddingsGenerationTask(LinkedFile linkedFile, BibDatabaseContext bibDatabaseContext, ProcessingInfo<LinkedFile, Void> processingInfo) {
-        new GenerateEmbeddingsTask(linkedFile, fileEmbeddingsManager, bibDatabaseContext, filePreferences, shutdownSignal)
+        new GenerateEmbeddingsTask(linkedFile, fileEmbeddingsManager, bibDatabaseContext, filePreferences, pdfTextCache, shutdownSignal)
                 .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
                 .onFailure(processingInfo::setException)
                 .executeWith(taskExecutor);
     }
 
     private void startEmbeddingsGenerationTask(StringProperty name, List<ProcessingInfo<LinkedFile, Void>> linkedFiles, BibDatabaseContext bibDatabaseContext) {
-        new GenerateEmbeddingsForSeveralTask(name, linkedFiles, fileEmbeddingsManager, bibDatabaseContext, filePreferences, taskExecutor, shutdownSignal)
+        new GenerateEmbeddingsForSeveralTask(name, linkedFiles, fileEmbeddingsManager, bibDatabaseContext, filePreferences, pdfTextCache, taskExecutor, shutdownSignal)
                 .executeWith(taskExecutor);
     }
 
@@ -1,5 +1,6 @@
 package org.jabref.logic.ai.ingestion;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javafx.beans.property.IntegerProperty;
@@ -10,18 +11,28 @@ import org.jabref.preferences.ai.AiPreferences;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingStore;
-import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Splits documents into segments, embeds the segments, and stores the embeddings.
+ * <p>
+ * The segments are passed to the embedding model in batches, as embedding one tiny segment at a time leaves most of the
+ * model's capacity unused. All embeddings of a document are stored at once, so that a document is either stored
+ * completely or not at all.
+ */
 public class LowLevelIngestor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LowLevelIngestor.class);
+
     private final AiPreferences aiPreferences;
 
     private final EmbeddingStore<TextSegment> embeddingStore;
     private final EmbeddingModel embeddingModel;
 
-    private EmbeddingStoreIngestor ingestor;
     private DocumentSplitter documentSplitter;
 
     public LowLevelIngestor(AiPreferences aiPreferences, EmbeddingStore<TextSegment> embeddingStore, EmbeddingModel embeddingModel) {
@@ -38,13 +49,6 @@ public class LowLevelIngestor {
         this.documentSplitter = DocumentSplitters
                 .recursive(aiPreferences.getDocumentSplitterChunkSize(),
                            aiPreferences.getDocumentSplitterOverlapSize());
-
-        this.ingestor = EmbeddingStoreIngestor
-                .builder()
-                .embeddingStore(embeddingStore)
-                .embeddingModel(embeddingModel)
-                .documentSplitter(documentSplitter)
-                .build();
     }
 
     private void setupListeningToPreferencesChanges() {
@@ -60,17 +64,33 @@ public class LowLevelIngestor {
      * @param stopProperty - in case you want to stop the ingestion process, set this property to true.
      */
     public void ingestDocument(Document document, ReadOnlyBooleanProperty stopProperty, IntegerProperty workDone, IntegerProperty workMax) throws InterruptedException {
+        long startTime = System.nanoTime();
+
         List<TextSegment> textSegments = documentSplitter.split(document);
         workMax.set(textSegments.size());
 
-        for (TextSegment documentPart : textSegments) {
+        int batchSize = Math.max(1, aiPreferences.getEmbeddingBatchSize());
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        for (int start = 0; start < textSegments.size(); start += batchSize) {
             if (stopProperty.get()) {
                 throw new InterruptedException();
             }
 
-            ingestor.ingest(new Document(documentPart.text(), document.metadata()));
+            List<TextSegment> batch = textSegments.subList(start, Math.min(start + batchSize, textSegments.size()));
+            embeddings.addAll(embeddingModel.embedAll(batch).content());
+
+            workDone.set(workDone.get() + batch.size());
+        }
+
+        if (stopProperty.get()) {
+            throw new InterruptedException();
+        }
+        embeddingStore.addAll(embeddings, textSegments);
 
-            workDone.set(workDone.get() + 1);
+        if (LOGGER.isDebugEnabled()) {
+            long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+            LOGGER.debug("Ingested {} segments in batches of {} in {} ms ({} segments/s)",
+                    textSegments.size(), batchSize, elapsedMillis, textSegments.size() * 1000L / elapsedMillis);
         }
     }
 }
@@ -4,15 +4,11 @@ import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
 import java.util.UUID;
-import java.util.function.Predicate;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import org.jabref.gui.DialogService;
 import org.jabref.logic.ai.util.MVStoreBase;
@@ -21,7 +17,6 @@ import org.jabref.logic.l10n.Localization;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
@@ -33,7 +28,6 @@ import dev.langchain4j.store.embedding.filter.comparison.IsIn;
 import jakarta.annotation.Nullable;
 import org.h2.mvstore.MVStore;
 
-import static java.util.Comparator.comparingDouble;
 import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
 
 /**
@@ -42,6 +36,9 @@ import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_
  * Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
  * string (the content).
  * <p>
+ * The vectors are additionally held in an {@link EmbeddingVectorIndex}, which is used for searching. This avoids
+ * deserializing every record of the MVStore for each search. The index is built on the first search (or removal by a
+ * filter), so that opening the store, which happens when JabRef starts, does not read all records.
  */
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
     // `file` field is nullable, because {@link Optional} can't be serialized.
@@ -51,12 +48,23 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
     private final Map<String, EmbeddingRecord> embeddingsMap;
 
+    // Null until the first use. Guarded by this, which is also held when changing the embeddings map.
+    private EmbeddingVectorIndex vectorIndex;
+
     public MVStoreEmbeddingStore(Path path, DialogService dialogService) {
         super(path, dialogService);
 
         this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
     }
 
+    private synchronized EmbeddingVectorIndex getVectorIndex() {
+        if (vectorIndex == null) {
+            vectorIndex = new EmbeddingVectorIndex();
+            embeddingsMap.forEach((id, eRecord) -> vectorIndex.add(id, eRecord.file, eRecord.embeddingVector));
+        }
+        return vectorIndex;
+    }
+
     @Override
     public String add(Embedding embedding) {
         // Every embedding must have a unique id (convention in langchain4j.
@@ -76,36 +84,54 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     public void add(String id, Embedding embedding) {
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
-        embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        put(id, new EmbeddingRecord(null, "", embedding.vector()));
     }
 
     @Override
     public String add(Embedding embedding, TextSegment textSegment) {
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
-        embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
         return id;
     }
 
+    private synchronized void put(String id, EmbeddingRecord eRecord) {
+        embeddingsMap.put(id, eRecord);
+        if (vectorIndex != null) {
+            vectorIndex.add(id, eRecord.file, eRecord.embeddingVector);
+        }
+    }
+
+    /**
+     * Adds all embeddings (usually the ones of one document) and commits them at once
+     */
     @Override
     public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
-        return IntStream.range(0, embeddings.size()).mapToObj(i -> add(embeddings.get(i), embedded.get(i))).toList();
+        List<String> ids = IntStream.range(0, embeddings.size()).mapToObj(i -> add(embeddings.get(i), embedded.get(i))).toList();
+        commit();
+        return ids;
     }
 
     @Override
-    public void remove(String id) {
+    public synchronized void remove(String id) {
         embeddingsMap.remove(id);
+        if (vectorIndex != null) {
+            vectorIndex.remove(id);
+        }
     }
 
     @Override
     public void removeAll(Filter filter) {
-        List<String> idsToRemove = applyFilter(filter).toList();
+        List<String> idsToRemove = applyFilter(filter);
         idsToRemove.forEach(this::remove);
     }
 
     @Override
-    public void removeAll() {
+    public synchronized void removeAll() {
         embeddingsMap.clear();
+        if (vectorIndex != null) {
+            vectorIndex.clear();
+        }
     }
 
     /**
@@ -120,63 +146,65 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
      */
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
-        // Source: {@link InMemoryEmbeddingStore}.
-
-        Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
-
-        applyFilter(request.filter()).forEach(id -> {
-            EmbeddingRecord eRecord = embeddingsMap.get(id);
-
-            double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
-            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
-
-            if (score >= request.minScore()) {
-                matches.add(
-                        new EmbeddingMatch<>(
-                                score,
-                                id,
-                                Embedding.from(eRecord.embeddingVector),
-                                new TextSegment(
-                                        eRecord.content,
-                                        new Metadata(
-                                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
-
-                if (matches.size() > request.maxResults()) {
-                    matches.poll();
-                }
+        // Only the best matches are converted to {@link EmbeddingMatch}es, the scoring itself is done by the index.
+        // {@link RelevanceScore#fromCosineSimilarity} is (cosineSimilarity + 1) / 2, thus we can invert it for the threshold.
+        double minCosineSimilarity = (request.minScore() * 2) - 1;
+        List<EmbeddingVectorIndex.ScoredId> scoredIds = getVectorIndex().search(
+                request.queryEmbedding().vector(),
+                getFiles(request.filter()),
+                request.maxResults(),
+                minCosineSimilarity);
+
+        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(scoredIds.size());
+        for (EmbeddingVectorIndex.ScoredId scoredId : scoredIds) {
+            EmbeddingRecord eRecord = embeddingsMap.get(scoredId.id());
+            if (eRecord == null) {
+                // Removed concurrently
+                continue;
             }
-        });
-
-        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(matches);
-        result.sort(comparator.reversed());
+            result.add(new EmbeddingMatch<>(
+                    RelevanceScore.fromCosineSimilarity(scoredId.cosineSimilarity()),
+                    scoredId.id(),
+                    Embedding.from(eRecord.embeddingVector),
+                    new TextSegment(
+                            eRecord.content,
+                            new Metadata(
+                                    eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
+        }
 
         return new EmbeddingSearchResult<>(result);
     }
 
     @Override
     public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+        for (Object id : ids) {
+            remove((String) id);
+        }
     }
 
-    private Stream<String> applyFilter(@Nullable Filter filter) {
+    private List<String> applyFilter(@Nullable Filter filter) {
+        return getVectorIndex().getIds(getFiles(filter));
+    }
+
+    /**
+     * Converts the filter to the files the embeddings must be generated from.
+     *
+     * @return the files or {@code null} if all files are allowed
+     */
+    private @Nullable Collection<String> getFiles(@Nullable Filter filter) {
         return switch (filter) {
-            case null -> embeddingsMap.keySet().stream();
+            case null -> null;
 
             case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
+                    isInFilter.comparisonValues().stream().map(String::valueOf).toList();
 
             case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue().file));
+                    List.of(String.valueOf(isEqualToFilter.comparisonValue()));
 
             default -> throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
-    }
-
     @Override
     protected String errorMessageForOpening() {
         return "An error occurred while opening the embeddings cache file. Embeddings will not be stored in the next session.";
@@ -24,13 +24,22 @@ public class DeepJavaEmbeddingModel implements EmbeddingModel, AutoCloseable {
         this.predictor = model.newPredictor();
     }
 
+    /**
+     * Embeds all segments in one batch. The predictor is not thread-safe, thus batches of different threads are embedded
+     * one after another. The model itself uses all cores for a batch.
+     */
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> list) {
         try {
-            List<Embedding> result = new ArrayList<>();
+            List<String> texts = list.stream().map(TextSegment::text).toList();
 
-            for (TextSegment textSegment : list) {
-                float[] embedding = predictor.predict(textSegment.text());
+            List<float[]> embeddings;
+            synchronized (predictor) {
+                embeddings = predictor.batchPredict(texts);
+            }
+
+            List<Embedding> result = new ArrayList<>(embeddings.size());
+            for (float[] embedding : embeddings) {
                 result.add(new Embedding(embedding));
             }
 
@@ -13,6 +13,7 @@ import javafx.beans.property.BooleanProperty;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.logic.ai.ingestion.FileToDocument;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.ProgressCounter;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
@@ -75,6 +76,7 @@ public class GenerateSummaryTask extends BackgroundTask<String> {
     private final BooleanProperty shutdownSignal;
     private final AiPreferences aiPreferences;
     private final FilePreferences filePreferences;
+    private final PdfTextCache pdfTextCache;
 
     private final ProgressCounter progressCounter = new ProgressCounter();
 
@@ -84,7 +86,8 @@ public class GenerateSummaryTask extends BackgroundTask<String> {
                                ChatLanguageModel chatLanguageModel,
                                BooleanProperty shutdownSignal,
                                AiPreferences aiPreferences,
-                               FilePreferences filePreferences
+                               FilePreferences filePreferences,
+                               PdfTextCache pdfTextCache
     ) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.citationKey = citationKey;
@@ -93,6 +96,7 @@ public class GenerateSummaryTask extends BackgroundTask<String> {
         this.shutdownSignal = shutdownSignal;
         this.aiPreferences = aiPreferences;
         this.filePreferences = filePreferences;
+        this.pdfTextCache = pdfTextCache;
 
         configure(citationKey);
     }
@@ -170,7 +174,7 @@ public class GenerateSummaryTask extends BackgroundTask<String> {
             return Optional.empty();
         }
 
-        Optional<Document> document = new FileToDocument(shutdownSignal).fromFile(path.get());
+        Optional<Document> document = new FileToDocument(shutdownSignal, pdfTextCache).fromFile(path.get());
 
         if (document.isEmpty()) {
             LOGGER.warn("Could not extract text from a linked file \"{}\" of entry {}. It will be skipped when generating a summary.", linkedFile.getLink(), citationKey);
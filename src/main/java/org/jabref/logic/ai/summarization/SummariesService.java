@@ -11,6 +11,7 @@ import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.ai.processingstatus.ProcessingInfo;
 import org.jabref.logic.ai.processingstatus.ProcessingState;
 import org.jabref.logic.ai.util.CitationKeyCheck;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.FilePreferences;
@@ -39,6 +40,7 @@ public class SummariesService {
     private final ChatLanguageModel chatLanguageModel;
     private final BooleanProperty shutdownSignal;
     private final FilePreferences filePreferences;
+    private final PdfTextCache pdfTextCache;
     private final TaskExecutor taskExecutor;
 
     public SummariesService(AiPreferences aiPreferences,
@@ -46,6 +48,7 @@ public class SummariesService {
                             ChatLanguageModel chatLanguageModel,
                             BooleanProperty shutdownSignal,
                             FilePreferences filePreferences,
+                            PdfTextCache pdfTextCache,
                             TaskExecutor taskExecutor
     ) {
         this.aiPreferences = aiPreferences;
@@ -53,6 +56,7 @@ public class SummariesService {
         this.chatLanguageModel = chatLanguageModel;
         this.shutdownSignal = shutdownSignal;
         this.filePreferences = filePreferences;
+        this.pdfTextCache = pdfTextCache;
         this.taskExecutor = taskExecutor;
     }
 
@@ -112,7 +116,8 @@ public class SummariesService {
                 chatLanguageModel,
                 shutdownSignal,
                 aiPreferences,
-                filePreferences)
+                filePreferences,
+                pdfTextCache)
                 .onSuccess(summary -> {
                     Summary Summary = new Summary(
                             LocalDateTime.now(),
@@ -1,17 +1,27 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
-import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,6 +76,18 @@ public class BibDatabaseDiff {
         return comparator;
     }
 
+    /**
+     * Matches the entries of the original database with the entries of the new database.
+     * <p>
+     * Comparing each original entry with each new entry does not scale for large libraries. Thus, the entries are
+     * matched in three passes, each considering only the entries not matched by the previous passes:
+     * <ol>
+     *     <li>Entries with the same content are matched using a hash map. These entries are unchanged.</li>
+     *     <li>Entries with the same citation key and type are matched if this key and type identify exactly one
+     *     entry in each database.</li>
+     *     <li>The remaining entries are matched by their similarity.</li>
+     * </ol>
+     */
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries, BibDatabaseMode mode) {
         List<BibEntryDiff> differences = new ArrayList<>();
 
@@ -74,66 +96,108 @@ public class BibDatabaseDiff {
             return differences;
         }
 
-        // Create a HashSet where we can put references to entries in the new
-        // database that we have matched. This is to avoid matching them twice.
-        Set<Integer> matchedEntries = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
+        // The indices of the entries in the new database that we have not matched yet. This is to avoid matching them
+        // twice. The indices are kept in ascending order to prefer the first entry of equally good matches.
+        NavigableSet<Integer> unmatchedEntries = new TreeSet<>();
+        Map<Map<Field, String>, Deque<Integer>> newEntriesByContent = new HashMap<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            unmatchedEntries.add(i);
+            newEntriesByContent.computeIfAbsent(getContent(newEntries.get(i)), content -> new ArrayDeque<>()).add(i);
+        }
 
-        // Loop through the entries of the original database, looking for exact matches in the new one.
-        // We must finish scanning for exact matches before looking for near matches, to avoid an exact
-        // match being "stolen" from another entry.
-        mainLoop:
+        // Look for exact matches first. We must finish scanning for exact matches before looking for near matches,
+        // to avoid an exact match being "stolen" from another entry.
+        List<BibEntry> notMatched = new ArrayList<>();
         for (BibEntry originalEntry : originalEntries) {
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        matchedEntries.add(i);
-                        continue mainLoop;
-                    }
-                }
+            Deque<Integer> sameContent = newEntriesByContent.get(getContent(originalEntry));
+            if ((sameContent == null) || sameContent.isEmpty()) {
+                notMatched.add(originalEntry);
+            } else {
+                unmatchedEntries.remove(sameContent.poll());
             }
+        }
 
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
+        // Match changed entries which can be identified by their citation key and type
+        Map<String, List<Integer>> unmatchedEntriesByIdentity = new HashMap<>();
+        for (int i : unmatchedEntries) {
+            getIdentity(newEntries.get(i)).ifPresent(identity ->
+                    unmatchedEntriesByIdentity.computeIfAbsent(identity, key -> new ArrayList<>()).add(i));
+        }
+        Map<String, Long> notMatchedIdentityCounts = notMatched.stream()
+                                                               .flatMap(entry -> getIdentity(entry).stream())
+                                                               .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        Map<BibEntry, BibEntry> matchedByIdentity = new IdentityHashMap<>();
+        for (BibEntry originalEntry : notMatched) {
+            Optional<String> identity = getIdentity(originalEntry);
+            if (identity.isEmpty() || (notMatchedIdentityCounts.get(identity.get()) != 1)) {
+                continue;
+            }
+            List<Integer> sameIdentity = unmatchedEntriesByIdentity.getOrDefault(identity.get(), List.of());
+            if (sameIdentity.size() == 1) {
+                int index = sameIdentity.getFirst();
+                unmatchedEntries.remove(index);
+                matchedByIdentity.put(originalEntry, newEntries.get(index));
+            }
         }
 
-        // Now we've found all exact matches, look through the remaining entries, looking for close matches.
+        // Now look through the remaining entries, looking for close matches.
         DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
         for (BibEntry originalEntry : notMatched) {
+            BibEntry entryWithSameIdentity = matchedByIdentity.get(originalEntry);
+            if (entryWithSameIdentity != null) {
+                differences.add(new BibEntryDiff(originalEntry, entryWithSameIdentity));
+                continue;
+            }
+            if (unmatchedEntries.isEmpty()) {
+                differences.add(new BibEntryDiff(originalEntry, null));
+                continue;
+            }
+
             // These two variables will keep track of which entry most closely matches the one we're looking at.
             double bestMatch = 0;
-            int bestMatchIndex = 0;
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > bestMatch) {
-                        bestMatch = score;
-                        bestMatchIndex = i;
-                    }
+            int bestMatchIndex = unmatchedEntries.first();
+            for (int i : unmatchedEntries) {
+                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
+                if (score > bestMatch) {
+                    bestMatch = score;
+                    bestMatchIndex = i;
                 }
             }
             BibEntry bestEntry = newEntries.get(bestMatchIndex);
             if (bestMatch > MATCH_THRESHOLD
                     || hasEqualCitationKey(originalEntry, bestEntry)
                     || duplicateCheck.isDuplicate(originalEntry, bestEntry, mode)) {
-                matchedEntries.add(bestMatchIndex);
-                differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
+                unmatchedEntries.remove(bestMatchIndex);
+                differences.add(new BibEntryDiff(originalEntry, bestEntry));
             } else {
                 differences.add(new BibEntryDiff(originalEntry, null));
             }
         }
 
         // Finally, look if there are still untouched entries in the new database. These may have been added.
-        for (int i = 0; i < newEntries.size(); i++) {
-            if (!matchedEntries.contains(i)) {
-                differences.add(new BibEntryDiff(null, newEntries.get(i)));
-            }
+        for (int i : unmatchedEntries) {
+            differences.add(new BibEntryDiff(null, newEntries.get(i)));
         }
 
         return differences;
     }
 
+    /**
+     * Returns the fields of the entry in a form which is equal for two entries iff
+     * {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)} considers them as equal.
+     */
+    private static Map<Field, String> getContent(BibEntry entry) {
+        Map<Field, String> content = new HashMap<>();
+        for (Field field : entry.getFields()) {
+            entry.getField(field).ifPresent(value -> content.put(field, StringUtil.unifyLineBreaks(value, OS.NEWLINE)));
+        }
+        return content;
+    }
+
+    private static Optional<String> getIdentity(BibEntry entry) {
+        return entry.getCitationKey().map(key -> entry.getType().getName() + "|" + key);
+    }
+
     private static boolean hasEqualCitationKey(BibEntry oneEntry, BibEntry twoEntry) {
         return oneEntry.hasCitationKey() && twoEntry.hasCitationKey() && oneEntry.getCitationKey().equals(twoEntry.getCitationKey());
     }
@@ -1,82 +1,137 @@
 package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 
+import com.google.common.annotations.VisibleForTesting;
 import de.undercouch.citeproc.CSL;
 import de.undercouch.citeproc.DefaultAbbreviationProvider;
 import de.undercouch.citeproc.output.Bibliography;
 import de.undercouch.citeproc.output.Citation;
 
 /**
- * Provides an adapter class to CSL. It holds a CSL instance under the hood that is only recreated when
- * the style changes.
+ * Provides an adapter class to CSL. It holds a pool of CSL instances under the hood, which are reused as long as the
+ * style stays the same.
  *
- * Note on the API: The first call to {@link #makeBibliography} is expensive since the
- * CSL instance will be created. As long as the style stays the same, we can reuse this instance. On style-change, the
- * engine is re-instantiated. Therefore, the use-case of this class is many calls to {@link #makeBibliography} with the
- * same style. Changing the output format is cheap.
+ * Note on the API: Creating a CSL instance is expensive. Therefore, the use-case of this class is many calls to
+ * {@link #makeBibliography} with the same style. Changing the output format is cheap.
  *
  * Note on the implementation:
- * The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTask, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * The CSL engine under the hood is not thread-safe. Thus, each call borrows an engine from the pool and returns it
+ * afterwards, so that concurrent calls (e.g., from the preview and an export) do not wait for each other. Engines are
+ * created lazily when no idle engine of the requested style exists. The pool keeps at most
+ * {@link #MAX_IDLE_ENGINES_PER_STYLE} idle engines per style and the engines of the {@link #MAX_STYLES} most recently
+ * used styles, other engines are dropped.
  */
 public class CSLAdapter {
 
-    private final JabRefItemDataProvider dataProvider = new JabRefItemDataProvider();
-    private String style;
-    private CitationStyleOutputFormat format;
-    private CSL cslInstance;
+    private static final int MAX_IDLE_ENGINES_PER_STYLE = Runtime.getRuntime().availableProcessors();
+    private static final int MAX_STYLES = 4;
+
+    // Idle engines by style, ordered by last access to evict the engines of the least recently used style
+    private final Map<String, Deque<CSLEngine>> idleEngines = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Deque<CSLEngine>> eldest) {
+            return size() > MAX_STYLES;
+        }
+    };
 
     /**
-     * Creates the bibliography of the provided items. This method needs to run synchronized because the underlying
-     * CSL engine is not thread-safe.
+     * Creates the bibliography of the provided items.
      *
      * @param databaseContext {@link BibDatabaseContext} is used to be able to resolve fields and their aliases
      */
-    public synchronized List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException, IllegalArgumentException {
-        dataProvider.setData(bibEntries, databaseContext, entryTypesManager);
-        initialize(style, outputFormat);
-        cslInstance.registerCitationItems(dataProvider.getIds());
-        final Bibliography bibliography = cslInstance.makeBibliography();
-        return Arrays.asList(bibliography.getEntries());
+    public List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException, IllegalArgumentException {
+        CSLEngine engine = borrowEngine(style);
+        List<String> bibliography = engine.makeBibliography(bibEntries, outputFormat, databaseContext, entryTypesManager);
+        // Engines failing with an exception are not returned, because their state is unknown
+        returnEngine(engine);
+        return bibliography;
+    }
+
+    public Citation makeInText(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
+        CSLEngine engine = borrowEngine(style);
+        Citation citation = engine.makeInText(bibEntries, outputFormat, databaseContext, entryTypesManager);
+        returnEngine(engine);
+        return citation;
+    }
+
+    private CSLEngine borrowEngine(String style) throws IOException {
+        synchronized (idleEngines) {
+            Deque<CSLEngine> engines = idleEngines.get(style);
+            if ((engines != null) && !engines.isEmpty()) {
+                return engines.pop();
+            }
+        }
+        // Created outside the lock, because creating an engine takes long
+        return new CSLEngine(style);
+    }
+
+    private void returnEngine(CSLEngine engine) {
+        synchronized (idleEngines) {
+            Deque<CSLEngine> engines = idleEngines.computeIfAbsent(engine.style, style -> new ArrayDeque<>());
+            if (engines.size() < MAX_IDLE_ENGINES_PER_STYLE) {
+                engines.push(engine);
+            }
+        }
     }
 
-    public synchronized Citation makeInText(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
-        dataProvider.setData(bibEntries, databaseContext, entryTypesManager);
-        initialize(style, outputFormat);
-        cslInstance.registerCitationItems(dataProvider.getIds());
-        return cslInstance.makeCitation(bibEntries.stream().map(entry -> entry.getCitationKey().orElse("")).toList()).getFirst();
+    @VisibleForTesting
+    int getNumberOfIdleEngines(String style) {
+        synchronized (idleEngines) {
+            return idleEngines.getOrDefault(style, new ArrayDeque<>()).size();
+        }
     }
 
     /**
-     * Initialized the static CSL instance if needed.
-     *
-     * @param newStyle  journal style of the output
-     * @param newFormat usually HTML or RTF.
-     * @throws IOException An error occurred in the underlying JavaScript framework
+     * A CSL instance for one style together with its data provider. Must only be used by one thread at a time.
      */
-    private void initialize(String newStyle, CitationStyleOutputFormat newFormat) throws IOException {
-        final boolean newCslInstanceNeedsToBeCreated = (cslInstance == null) || !Objects.equals(newStyle, style);
-        if (newCslInstanceNeedsToBeCreated) {
+    private static class CSLEngine {
+
+        private final JabRefItemDataProvider dataProvider = new JabRefItemDataProvider();
+        private final String style;
+        private final CSL cslInstance;
+        private CitationStyleOutputFormat format;
+
+        /**
+         * @param style journal style of the output
+         * @throws IOException An error occurred in the underlying JavaScript framework
+         */
+        CSLEngine(String style) throws IOException {
+            this.style = style;
             // lang and forceLang are set to the default values of other CSL constructors
-            cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(),
-                    new DefaultAbbreviationProvider(), newStyle, "en-US");
-            style = newStyle;
+            this.cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(),
+                    new DefaultAbbreviationProvider(), style, "en-US");
+        }
+
+        List<String> makeBibliography(List<BibEntry> bibEntries, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+            prepare(bibEntries, outputFormat, databaseContext, entryTypesManager);
+            final Bibliography bibliography = cslInstance.makeBibliography();
+            return Arrays.asList(bibliography.getEntries());
+        }
+
+        Citation makeInText(List<BibEntry> bibEntries, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+            prepare(bibEntries, outputFormat, databaseContext, entryTypesManager);
+            return cslInstance.makeCitation(bibEntries.stream().map(entry -> entry.getCitationKey().orElse("")).toList()).getFirst();
         }
 
-        if (newCslInstanceNeedsToBeCreated || (!Objects.equals(newFormat, format))) {
-            cslInstance.setOutputFormat(newFormat.getFormat());
-            format = newFormat;
+        private void prepare(List<BibEntry> bibEntries, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+            dataProvider.setData(bibEntries, databaseContext, entryTypesManager);
+            if (!Objects.equals(outputFormat, format)) {
+                cslInstance.setOutputFormat(outputFormat.getFormat());
+                format = outputFormat;
+            }
+            cslInstance.registerCitationItems(dataProvider.getIds());
         }
     }
 }
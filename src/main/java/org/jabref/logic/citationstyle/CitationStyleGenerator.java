@@ -53,6 +53,20 @@ public class CitationStyleGenerator {
         return generateCitations(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
     }
 
+    /**
+     * Generates the citation of each entry on its own, i.e., the result is the same as calling
+     * {@link #generateCitation(List, String, CitationStyleOutputFormat, BibDatabaseContext, BibEntryTypesManager)} for
+     * each entry. The entries are spread across multiple CSL engines running in parallel.
+     *
+     * @return the citations in the order of the given entries
+     * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
+     */
+    public static List<String> generateCitationOfEachEntry(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        return bibEntries.parallelStream()
+                         .map(entry -> generateCitation(List.of(entry), style, outputFormat, databaseContext, entryTypesManager).getFirst())
+                         .toList();
+    }
+
     public static Citation generateInText(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
         return CSL_ADAPTER.makeInText(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
     }
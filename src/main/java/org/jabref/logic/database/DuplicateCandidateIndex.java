@@ -0,0 +1,160 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.ISBN;
+
+/**
+ * Blocking stage for the duplicate detection.
+ * <p>
+ * Comparing each pair of entries with {@link DuplicateCheck#isDuplicate} is quadratic in the number of entries and
+ * each comparison is expensive. This index assigns cheap "blocking keys" to each entry: the identifiers (DOI, ...),
+ * the ISBN, the word pairs of the normalized title and the last name of the first author together with the year.
+ * Only entries sharing at least one blocking key are considered as duplicate candidates.
+ * <p>
+ * Entries without any blocking key (e.g., entries having neither title nor author) are candidates for all entries,
+ * as we cannot tell anything about them.
+ * <p>
+ * Note that this is a heuristic: Two entries are not reported as candidates if every blocking key differs, for instance
+ * if the titles contain spelling mistakes in each word pair and the first authors or years differ.
+ */
+public class DuplicateCandidateIndex {
+
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final List<BibEntry> entries = new ArrayList<>();
+    private final Map<BibEntry, Integer> positions = new IdentityHashMap<>();
+    private final Map<String, List<Integer>> blocks = new HashMap<>();
+    private final List<Integer> entriesWithoutBlockingKey = new ArrayList<>();
+    private final BitSet removedPositions = new BitSet();
+
+    public DuplicateCandidateIndex(Collection<BibEntry> entries) {
+        entries.forEach(this::add);
+    }
+
+    public void add(BibEntry entry) {
+        int position = entries.size();
+        entries.add(entry);
+        positions.put(entry, position);
+
+        Set<String> blockingKeys = getBlockingKeys(entry);
+        if (blockingKeys.isEmpty()) {
+            entriesWithoutBlockingKey.add(position);
+        }
+        for (String blockingKey : blockingKeys) {
+            blocks.computeIfAbsent(blockingKey, key -> new ArrayList<>()).add(position);
+        }
+    }
+
+    /**
+     * Removes the given entry, so that it is no longer returned as candidate. Used if the entry is removed from the
+     * library while the index is still in use, e.g., when a duplicate is replaced during an import.
+     */
+    public void remove(BibEntry entry) {
+        Integer position = positions.remove(entry);
+        if (position != null) {
+            removedPositions.set(position);
+        }
+    }
+
+    /**
+     * Returns all indexed entries which might be a duplicate of the given entry. The entry itself is never part of the
+     * result. The candidates are returned in the order they were added to this index.
+     */
+    public List<BibEntry> getCandidates(BibEntry entry) {
+        return getCandidates(entry, 0);
+    }
+
+    /**
+     * Returns all candidates of an indexed entry which were added after the entry itself. This can be used to iterate
+     * over all candidate pairs without considering a pair twice.
+     */
+    public List<BibEntry> getCandidatesAddedAfter(BibEntry entry) {
+        Integer position = positions.get(entry);
+        if (position == null) {
+            return getCandidates(entry);
+        }
+        return getCandidates(entry, position + 1);
+    }
+
+    private List<BibEntry> getCandidates(BibEntry entry, int fromPosition) {
+        Set<String> blockingKeys = getBlockingKeys(entry);
+        BitSet candidatePositions = new BitSet(entries.size());
+        if (blockingKeys.isEmpty()) {
+            candidatePositions.set(0, entries.size());
+        } else {
+            entriesWithoutBlockingKey.forEach(candidatePositions::set);
+            for (String blockingKey : blockingKeys) {
+                List<Integer> block = blocks.get(blockingKey);
+                if (block != null) {
+                    block.forEach(candidatePositions::set);
+                }
+            }
+        }
+        candidatePositions.andNot(removedPositions);
+
+        List<BibEntry> candidates = new ArrayList<>();
+        for (int position = candidatePositions.nextSetBit(fromPosition); position >= 0; position = candidatePositions.nextSetBit(position + 1)) {
+            BibEntry candidate = entries.get(position);
+            if (candidate != entry) {
+                candidates.add(candidate);
+            }
+        }
+        return candidates;
+    }
+
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> blockingKeys = new LinkedHashSet<>();
+
+        // Same identifiers directly lead to a duplicate, see DuplicateCheck#haveSameIdentifier
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).ifPresent(value -> blockingKeys.add(field.getName() + ":" + value));
+            }
+        }
+        entry.getISBN().map(ISBN::getNormalized)
+             .ifPresent(isbn -> blockingKeys.add("isbn:" + isbn.toLowerCase(Locale.ROOT)));
+
+        entry.getFieldLatexFree(StandardField.TITLE).ifPresent(title -> {
+            List<String> words = NON_WORD_CHARACTERS.splitAsStream(title.toLowerCase(Locale.ROOT))
+                                                    .filter(word -> !word.isEmpty())
+                                                    .toList();
+            if (words.size() == 1) {
+                blockingKeys.add("title:" + words.getFirst());
+            }
+            for (int i = 0; i < (words.size() - 1); i++) {
+                blockingKeys.add("title:" + words.get(i) + " " + words.get(i + 1));
+            }
+        });
+
+        getFirstAuthorLastName(entry).ifPresent(lastName ->
+                blockingKeys.add("author:" + lastName + ":" + entry.getFieldOrAlias(StandardField.YEAR).orElse("")));
+
+        return blockingKeys;
+    }
+
+    private static Optional<String> getFirstAuthorLastName(BibEntry entry) {
+        return entry.getFieldLatexFree(StandardField.AUTHOR)
+                    .or(() -> entry.getFieldLatexFree(StandardField.EDITOR))
+                    .map(AuthorList::parse)
+                    .filter(authors -> !authors.isEmpty())
+                    .flatMap(authors -> authors.getAuthor(0).getFamilyName())
+                    .map(lastName -> lastName.toLowerCase(Locale.ROOT));
+    }
+}
@@ -359,7 +359,7 @@ public class DuplicateCheck {
     }
 
     /**
-     * Goes through all entries in the given database, and if at least one of
+     * Goes through the duplicate candidates of the given entry in the given database, and if at least one of
      * them is a duplicate of the given entry, as per
      * Util.isDuplicate(BibEntry, BibEntry), the duplicate is returned.
      * The search is terminated when the first duplicate is found.
@@ -367,11 +367,21 @@ public class DuplicateCheck {
      * @param database The database to search.
      * @param entry    The entry of which we are looking for duplicates.
      * @return The first duplicate entry found. Empty Optional if no duplicates are found.
+     * @see DuplicateCandidateIndex
      */
     public Optional<BibEntry> containsDuplicate(final BibDatabase database,
                                                 final BibEntry entry,
                                                 final BibDatabaseMode bibDatabaseMode) {
+        return containsDuplicate(new DuplicateCandidateIndex(database.getEntries()), entry, bibDatabaseMode);
+    }
 
-        return database.getEntries().stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
+    /**
+     * Same as {@link #containsDuplicate(BibDatabase, BibEntry, BibDatabaseMode)}, but uses a prebuilt index. This
+     * should be used if many entries are checked against the same set of entries.
+     */
+    public Optional<BibEntry> containsDuplicate(final DuplicateCandidateIndex candidateIndex,
+                                                final BibEntry entry,
+                                                final BibDatabaseMode bibDatabaseMode) {
+        return candidateIndex.getCandidates(entry).stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
     }
 }
@@ -255,6 +255,8 @@ public class TemplateExporter extends Exporter {
             }
             Map<EntryType, Layout> layouts = new HashMap<>();
             Layout layout;
+            // Reused for all entries to avoid growing a new builder for each entry
+            StringBuilder entryText = new StringBuilder();
 
             Number.serialExportNumber = 0;
             for (BibEntry entry : sorted) {
@@ -277,20 +279,24 @@ public class TemplateExporter extends Exporter {
                         // exists, so we
                         // go with the default one.
                         layout = defLayout;
+                        // Remember that, so that the layout file is not searched again for each entry of this type
+                        layouts.put(type, layout);
                     }
                 }
 
                 // Write the entry
                 if (layout != null) {
+                    entryText.setLength(0);
+                    layout.doLayout(entry, databaseContext.getDatabase(), entryText);
                     if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
+                        String[] lines = entryText.toString().split(BLANK_LINE_PATTERN);
                         for (String line : lines) {
                             if (!line.isBlank() && !line.isEmpty()) {
                                 ps.write(line + OS.NEWLINE);
                             }
                         }
                     } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
+                        ps.write(entryText.toString());
                     }
                 }
             }
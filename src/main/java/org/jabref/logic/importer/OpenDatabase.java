@@ -4,8 +4,10 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.importer.fileformat.IndexedBibtexFile;
 import org.jabref.migrations.ConvertLegacyExplicitGroups;
 import org.jabref.migrations.ConvertMarkingToGroups;
 import org.jabref.migrations.PostOpenMigration;
@@ -25,7 +27,20 @@ public class OpenDatabase {
      */
     public static ParserResult loadDatabase(Path fileToOpen, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor)
             throws IOException {
-        ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor).importDatabase(fileToOpen);
+        return loadDatabase(fileToOpen, importFormatPreferences, fileMonitor, indexedFile -> {
+        });
+    }
+
+    /**
+     * Load database (bib-file)
+     *
+     * @param fileToOpen Name of the BIB-file to open
+     * @param onRead     called with the read file before it is parsed, see {@link BibtexImporter#importDatabase(Path, Consumer)}
+     * @return ParserResult which never is null
+     */
+    public static ParserResult loadDatabase(Path fileToOpen, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, Consumer<IndexedBibtexFile> onRead)
+            throws IOException {
+        ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor).importDatabase(fileToOpen, onRead);
         performLoadDatabaseMigrations(result, importFormatPreferences.bibEntryPreferences().getKeywordSeparator());
         return result;
     }
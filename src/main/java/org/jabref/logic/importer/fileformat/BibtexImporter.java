@@ -4,7 +4,6 @@ import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
@@ -12,6 +11,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.jabref.logic.exporter.SaveConfiguration;
 import org.jabref.logic.importer.ImportFormatPreferences;
@@ -55,6 +55,16 @@ public class BibtexImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(Path filePath) throws IOException {
+        return importDatabase(filePath, indexedFile -> {
+        });
+    }
+
+    /**
+     * Imports the given file. Before the file is parsed, it is handed to the given consumer. The consumer can use the
+     * index of the file (see {@link IndexedBibtexFile#getEntries()}) to show the entries while the file is parsed. The
+     * parsing starts when the consumer returns, thus the index should be built on another thread.
+     */
+    public ParserResult importDatabase(Path filePath, Consumer<IndexedBibtexFile> onRead) throws IOException {
         EncodingResult result = getEncodingResult(filePath);
 
         // We replace unreadable characters
@@ -63,17 +73,17 @@ public class BibtexImporter extends Importer {
         CharsetDecoder decoder = result.encoding().newDecoder();
         decoder.onMalformedInput(CodingErrorAction.REPLACE);
 
-        try (InputStreamReader inputStreamReader = new InputStreamReader(Files.newInputStream(filePath), decoder);
-             BufferedReader reader = new BufferedReader(inputStreamReader)) {
-            ParserResult parserResult = this.importDatabase(reader);
-            parserResult.getMetaData().setEncoding(result.encoding());
-            parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
-            parserResult.setPath(filePath);
-            if (parserResult.getMetaData().getMode().isEmpty()) {
-                parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
-            }
-            return parserResult;
+        IndexedBibtexFile file = IndexedBibtexFile.read(filePath, result.encoding());
+        onRead.accept(file);
+        String content = file.decode(decoder);
+        ParserResult parserResult = new ParallelBibtexParser(importFormatPreferences, fileMonitor).parse(content);
+        parserResult.getMetaData().setEncoding(result.encoding());
+        parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
+        parserResult.setPath(filePath);
+        if (parserResult.getMetaData().getMode().isEmpty()) {
+            parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
         }
+        return parserResult;
     }
 
     public static Charset getEncoding(Path filePath) throws IOException {
@@ -125,7 +135,7 @@ public class BibtexImporter extends Importer {
      */
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+        return new ParallelBibtexParser(importFormatPreferences, fileMonitor).parse(reader);
     }
 
     @Override
@@ -3,16 +3,13 @@ package org.jabref.logic.importer.fileformat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
 import java.io.Reader;
-import java.io.StringWriter;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -83,6 +80,9 @@ import static org.jabref.logic.util.MetadataSerializationConfiguration.GROUP_TYP
  * <p>
  * Can be used stand-alone.
  * <p>
+ * The input is read in chunks into a character buffer. The text of the current entry stays in the buffer until it has
+ * been stored as parsed serialization, all text before is discarded when the buffer is refilled.
+ * <p>
  * Main using method: {@link org.jabref.logic.importer.OpenDatabase#loadDatabase(java.nio.file.Path, org.jabref.logic.importer.ImportFormatPreferences, org.jabref.model.util.FileUpdateMonitor)}
  * <p>
  * Opposite class: {@link org.jabref.logic.exporter.BibDatabaseWriter}
@@ -91,10 +91,19 @@ public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
     private static final Integer LOOKAHEAD = 1024;
     private static final String BIB_DESK_ROOT_GROUP_NAME = "BibDeskGroups";
+    private static final int BUFFER_SIZE = 8192;
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private Reader reader;
+    private boolean readerExhausted;
+
+    // The characters read from the reader. The text read so far (since the last dump) is buffer[textStart, position),
+    // the characters not read yet are buffer[position, bufferEnd).
+    private char[] buffer;
+    private int textStart;
+    private int position;
+    private int bufferEnd;
+
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
@@ -159,8 +168,12 @@ public class BibtexParser implements Parser {
      * Handling of encoding is done at {@link BibtexImporter}
      */
     public ParserResult parse(Reader in) throws IOException {
-        Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        this.reader = Objects.requireNonNull(in);
+        readerExhausted = false;
+        buffer = new char[BUFFER_SIZE];
+        textStart = 0;
+        position = 0;
+        bufferEnd = 0;
 
         String newLineSeparator = determineNewLineSeparator();
 
@@ -175,25 +188,20 @@ public class BibtexParser implements Parser {
     }
 
     private String determineNewLineSeparator() throws IOException {
-        String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
-        int i = 0;
-        int currentChar;
-        do {
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
-            i++;
-        } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
-        if (currentChar == '\r') {
-            newLineSeparator = "\r\n";
-        } else if (currentChar == '\n') {
-            newLineSeparator = "\n";
+        boolean moreInput = true;
+        while (moreInput && (bufferEnd - position < BibtexParser.LOOKAHEAD)) {
+            moreInput = fillBuffer();
         }
 
-        // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
-
-        return newLineSeparator;
+        int lookaheadEnd = Math.min(bufferEnd, position + BibtexParser.LOOKAHEAD);
+        for (int i = position; i < lookaheadEnd; i++) {
+            if (buffer[i] == '\r') {
+                return "\r\n";
+            } else if (buffer[i] == '\n') {
+                return "\n";
+            }
+        }
+        return OS.NEWLINE;
     }
 
     private void initializeParserResult(String newLineSeparator) {
@@ -510,12 +518,9 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String text = new String(buffer, textStart, position - textStart);
+        textStart = position;
+        return text;
     }
 
     /**
@@ -610,10 +615,10 @@ public class BibtexParser implements Parser {
     }
 
     private int peek() throws IOException {
-        int character = read();
-        unread(character);
-
-        return character;
+        if ((position == bufferEnd) && !fillBuffer()) {
+            return -1;
+        }
+        return buffer[position];
     }
 
     private char[] peekTwoCharacters() throws IOException {
@@ -627,24 +632,69 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
-
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+        if ((position == bufferEnd) && !fillBuffer()) {
+            return -1;
         }
+
+        char character = buffer[position++];
         if (character == '\n') {
             line++;
         }
         return character;
     }
 
-    private void unread(int character) throws IOException {
+    private void unread(int character) {
+        if (character == -1) {
+            // Reading at the end of the input returns -1 again
+            return;
+        }
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+
+        if ((position > textStart) && (buffer[position - 1] == character)) {
+            position--;
+        } else {
+            // The character was not read at this position (e.g., when restoring a key in fixKey()).
+            // It is inserted in front of the remaining input.
+            ensureCapacity(bufferEnd + 1);
+            System.arraycopy(buffer, position, buffer, position + 1, bufferEnd - position);
+            buffer[position] = (char) character;
+            bufferEnd++;
+        }
+    }
+
+    /**
+     * Reads the next chunk of the input into the buffer. The text which has already been dumped is dropped from the
+     * buffer to keep it small.
+     *
+     * @return false if the end of the input has been reached
+     */
+    private boolean fillBuffer() throws IOException {
+        if (readerExhausted) {
+            return false;
+        }
+
+        if (textStart > 0) {
+            System.arraycopy(buffer, textStart, buffer, 0, bufferEnd - textStart);
+            position -= textStart;
+            bufferEnd -= textStart;
+            textStart = 0;
+        }
+        ensureCapacity(bufferEnd + BUFFER_SIZE);
+
+        int charactersRead = reader.read(buffer, bufferEnd, buffer.length - bufferEnd);
+        if (charactersRead == -1) {
+            readerExhausted = true;
+            return false;
+        }
+        bufferEnd += charactersRead;
+        return true;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
         }
     }
 
@@ -807,22 +857,23 @@ public class BibtexParser implements Parser {
      * This method is used to parse string labels, field names, entry type and numbers outside brackets.
      */
     private String parseTextToken() throws IOException {
-        StringBuilder token = new StringBuilder(20);
+        // The token is part of the text read so far. Its start is relative to textStart, because the buffer is
+        // compacted when it is refilled.
+        int tokenStart = position - textStart;
 
         while (true) {
             int character = read();
             if (character == -1) {
                 eof = true;
-                return token.toString();
+                break;
             }
 
-            if (Character.isLetterOrDigit((char) character) || (":-_*+./'".indexOf(character) >= 0)) {
-                token.append((char) character);
-            } else {
+            if (!Character.isLetterOrDigit((char) character) && (":-_*+./'".indexOf(character) < 0)) {
                 unread(character);
-                return token.toString();
+                break;
             }
         }
+        return new String(buffer, textStart + tokenStart, position - textStart - tokenStart);
     }
 
     /**
@@ -924,10 +975,8 @@ public class BibtexParser implements Parser {
 
     /**
      * pushes buffer back into input
-     *
-     * @throws IOException can be thrown if buffer is bigger than LOOKAHEAD
      */
-    private void unreadBuffer(StringBuilder stringBuilder) throws IOException {
+    private void unreadBuffer(StringBuilder stringBuilder) {
         for (int i = stringBuilder.length() - 1; i >= 0; --i) {
             unread(stringBuilder.charAt(i));
         }
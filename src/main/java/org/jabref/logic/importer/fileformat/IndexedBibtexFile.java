@@ -0,0 +1,170 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.util.OS;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * The content of a BibTeX file together with a lightweight index of its entries.
+ * <p>
+ * Parsing a large library takes a while. The index allows to show the entries before: It is built in a single fast pass
+ * over the bytes of the file and only stores the type, the citation key, and the range of bytes of each entry. Single
+ * entries can then be parsed on demand using {@link #parseEntry(IndexedEntry, ImportFormatPreferences)}. The index is
+ * built on the first call of {@link #getEntries()}, so that reading a file costs nothing extra if the index is not
+ * needed.
+ * <p>
+ * The file is memory-mapped. On Windows, a mapped file cannot be replaced (which is how a library is saved) until the
+ * mapping is garbage collected. Thus, the file is read into memory there.
+ */
+public class IndexedBibtexFile {
+
+    /**
+     * An entry of the file
+     *
+     * @param start the position of the "@" starting the entry
+     * @param end   the position after the closing brace of the entry
+     */
+    public record IndexedEntry(String type, String citationKey, int start, int end) {
+    }
+
+    // The characters the index looks for. Files in encodings representing them differently (e.g., UTF-16) are not indexed.
+    private static final String SYNTAX_CHARACTERS = "@{},\\ \t\r\n";
+
+    private final ByteBuffer content;
+    private final Charset encoding;
+    private List<IndexedEntry> entries;
+
+    IndexedBibtexFile(ByteBuffer content, Charset encoding) {
+        this.content = content.asReadOnlyBuffer();
+        this.encoding = Objects.requireNonNull(encoding);
+    }
+
+    public static IndexedBibtexFile read(Path file, Charset encoding) throws IOException {
+        if (OS.WINDOWS) {
+            return new IndexedBibtexFile(ByteBuffer.wrap(Files.readAllBytes(file)), encoding);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after closing the channel
+            return new IndexedBibtexFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), encoding);
+        }
+    }
+
+    /**
+     * Decodes the whole content of the file
+     */
+    public String decode(CharsetDecoder decoder) throws IOException {
+        return decoder.decode(content.duplicate()).toString();
+    }
+
+    /**
+     * Returns the entries in the order of the file. Strings, preambles, and comments are not contained.
+     */
+    public synchronized List<IndexedEntry> getEntries() {
+        if (entries == null) {
+            entries = isIndexable(encoding) ? index(content, encoding) : List.of();
+        }
+        return entries;
+    }
+
+    /**
+     * Parses the given entry of the file on its own. The strings of the file are not resolved.
+     */
+    public Optional<BibEntry> parseEntry(IndexedEntry entry, ImportFormatPreferences importFormatPreferences) throws ParseException {
+        String serialization = encoding.decode(content.slice(entry.start(), entry.end() - entry.start())).toString();
+        return BibtexParser.singleFromString(serialization, importFormatPreferences);
+    }
+
+    private static boolean isIndexable(Charset encoding) {
+        return Arrays.equals(SYNTAX_CHARACTERS.getBytes(encoding), SYNTAX_CHARACTERS.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Finds the entries by counting braces, similar to {@link ParallelBibtexParser#splitIntoChunks(String, int)}
+     */
+    private static List<IndexedEntry> index(ByteBuffer content, Charset encoding) {
+        List<IndexedEntry> result = new ArrayList<>();
+        int depth = 0;
+        int itemStart = -1;
+        String type = null;
+        String citationKey = null;
+
+        for (int i = 0; i < content.limit(); i++) {
+            byte character = content.get(i);
+            // Escaped braces are not counted, as done by the BibtexParser
+            if (((character == '{') || (character == '}')) && (i > 0) && (content.get(i - 1) == '\\')) {
+                continue;
+            }
+            if (character == '{') {
+                depth++;
+            } else if (character == '}') {
+                depth--;
+                if ((depth == 0) && (itemStart >= 0)) {
+                    if (type != null) {
+                        result.add(new IndexedEntry(type, citationKey, itemStart, i + 1));
+                    }
+                    itemStart = -1;
+                } else if (depth < 0) {
+                    // Unbalanced text between entries
+                    depth = 0;
+                }
+            } else if ((character == '@') && (depth == 0)) {
+                itemStart = i;
+                type = null;
+                citationKey = null;
+
+                int position = i + 1;
+                while ((position < content.limit()) && isLetter(content.get(position))) {
+                    position++;
+                }
+                String itemType = new String(getBytes(content, i + 1, position), StandardCharsets.US_ASCII).toLowerCase(Locale.ROOT);
+                position = skipWhitespace(content, position);
+                if ((position < content.limit()) && (content.get(position) == '{') && !itemType.isEmpty()
+                        && !"comment".equals(itemType) && !"string".equals(itemType) && !"preamble".equals(itemType)) {
+                    type = itemType;
+                    int keyStart = skipWhitespace(content, position + 1);
+                    int keyEnd = keyStart;
+                    while ((keyEnd < content.limit()) && (content.get(keyEnd) != ',') && (content.get(keyEnd) != '}')
+                            && (content.get(keyEnd) != '\n')) {
+                        keyEnd++;
+                    }
+                    citationKey = new String(getBytes(content, keyStart, keyEnd), encoding).trim();
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isLetter(byte character) {
+        return ((character >= 'a') && (character <= 'z')) || ((character >= 'A') && (character <= 'Z'));
+    }
+
+    private static int skipWhitespace(ByteBuffer content, int position) {
+        while ((position < content.limit()) && Character.isWhitespace(content.get(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static byte[] getBytes(ByteBuffer content, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        content.get(start, bytes);
+        return bytes;
+    }
+}
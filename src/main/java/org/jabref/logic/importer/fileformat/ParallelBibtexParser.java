@@ -0,0 +1,228 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.KeyCollisionException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryType;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.CharStreams;
+import org.jooq.lambda.Unchecked;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses large BibTeX files using multiple cores.
+ * <p>
+ * The file is split into chunks between two entries. Each chunk is parsed by its own {@link BibtexParser} and the
+ * results are merged in the order of the chunks. Thus, the result is the same as when parsing the whole file with one
+ * {@link BibtexParser}.
+ * <p>
+ * Files which cannot be split safely are parsed by a single {@link BibtexParser}. This is the case for small files,
+ * for files containing metadata in multiple chunks or BibDesk groups (which refer to entries of other chunks), and for
+ * files causing parser warnings (as the parser recovers from errors differently if only a chunk is parsed).
+ */
+public class ParallelBibtexParser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelBibtexParser.class);
+
+    private static final int MIN_CHUNK_SIZE = 512 * 1024;
+    private static final int CHUNKS_PER_CORE = 4;
+
+    private final ImportFormatPreferences importFormatPreferences;
+    private final FileUpdateMonitor fileMonitor;
+
+    public ParallelBibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.fileMonitor = fileMonitor;
+    }
+
+    /**
+     * Parses BibTeX data found when reading from reader. The reader will be consumed.
+     */
+    public ParserResult parse(Reader in) throws IOException {
+        return parse(CharStreams.toString(Objects.requireNonNull(in)));
+    }
+
+    /**
+     * Parses the given BibTeX data. Use this method if the data has already been read completely, as reading it again
+     * from a {@link Reader} would copy it.
+     */
+    public ParserResult parse(String content) throws IOException {
+        Objects.requireNonNull(content);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        if ((cores == 1) || (content.length() < 2 * MIN_CHUNK_SIZE) || content.contains(MetaData.BIBDESK_STATIC_FLAG)) {
+            return parseSequentially(content);
+        }
+
+        List<String> chunks = splitIntoChunks(content, Math.max(MIN_CHUNK_SIZE, content.length() / (cores * CHUNKS_PER_CORE)));
+        if ((chunks.size() == 1) || (chunks.stream().filter(chunk -> chunk.contains(MetaData.META_FLAG)).count() > 1)) {
+            return parseSequentially(content);
+        }
+
+        LOGGER.debug("Parsing {} characters in {} chunks", content.length(), chunks.size());
+        List<ParserResult> results = chunks.parallelStream()
+                                           .map(Unchecked.function(this::parseSequentially))
+                                           .toList();
+
+        boolean isMergeable = results.stream().noneMatch(ParserResult::hasWarnings)
+                && results.subList(0, results.size() - 1).stream().allMatch(result -> result.getDatabase().getEpilog().isEmpty());
+        if (!isMergeable) {
+            LOGGER.debug("Chunks could not be parsed without warnings, parsing the file as a whole");
+            return parseSequentially(content);
+        }
+        return merge(results);
+    }
+
+    private ParserResult parseSequentially(String content) throws IOException {
+        return new BibtexParser(importFormatPreferences, fileMonitor).parse(new StringReader(content));
+    }
+
+    private ParserResult merge(List<ParserResult> results) {
+        BibDatabase firstDatabase = results.getFirst().getDatabase();
+        BibDatabase database = new BibDatabase();
+        database.setNewLineSeparator(firstDatabase.getNewLineSeparator());
+        firstDatabase.getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+
+        Set<BibEntryType> entryTypes = new HashSet<>();
+        MetaData metaData = results.getFirst().getMetaData();
+        List<String> warnings = new ArrayList<>();
+        List<BibEntry> entries = new ArrayList<>();
+        for (ParserResult result : results) {
+            BibDatabase chunkDatabase = result.getDatabase();
+            // The chunk database is discarded, it should neither relay the changes of its entries nor be kept alive by them
+            chunkDatabase.getEntries().forEach(entry -> entry.unregisterListener(chunkDatabase));
+            chunkDatabase.getPreamble().ifPresent(database::setPreamble);
+            for (BibtexString string : chunkDatabase.getStringValues()) {
+                try {
+                    database.addString(string);
+                } catch (KeyCollisionException ex) {
+                    warnings.add(Localization.lang("Duplicate string name: '%0'", string.getName()));
+                }
+            }
+            entries.addAll(chunkDatabase.getEntries());
+            entryTypes.addAll(result.getEntryTypes());
+            if (!result.getMetaData().isEmpty()) {
+                metaData = result.getMetaData();
+            }
+        }
+        database.insertEntries(entries);
+        database.setEpilog(results.getLast().getDatabase().getEpilog());
+
+        ParserResult parserResult = new ParserResult(database, metaData, entryTypes);
+        warnings.forEach(parserResult::addWarning);
+        return parserResult;
+    }
+
+    /**
+     * Splits the content between two entries. A chunk ends directly after an entry (including the newline following
+     * the entry, as the {@link BibtexParser} stores it as part of the entry). The next chunk starts with the comments
+     * in front of the next entry.
+     * <p>
+     * Only positions where an entry (enclosed in braces) starting at the beginning of a line follows another entry are
+     * considered. Strings, preambles, and comments are kept together with the entries around them.
+     *
+     * @param minChunkSize the minimal number of characters of a chunk
+     */
+    @VisibleForTesting
+    static List<String> splitIntoChunks(String content, int minChunkSize) {
+        List<String> chunks = new ArrayList<>();
+        int chunkStart = 0;
+        int depth = 0;
+        int endOfItem = -1;
+        boolean isInItem = false;
+        boolean isPreviousItemEntry = false;
+
+        for (int i = 0; i < content.length(); i++) {
+            char character = content.charAt(i);
+            // Escaped braces are not counted, as done by the BibtexParser
+            if (((character == '{') || (character == '}')) && isEscaped(content, i)) {
+                continue;
+            }
+            if (character == '{') {
+                depth++;
+            } else if (character == '}') {
+                depth--;
+                if ((depth == 0) && isInItem) {
+                    endOfItem = i + 1;
+                    isInItem = false;
+                } else if (depth < 0) {
+                    // Unbalanced text between entries, we do not know where the next entry ends
+                    depth = 0;
+                    isPreviousItemEntry = false;
+                }
+            } else if ((character == '@') && (depth == 0)) {
+                boolean isEntry = isEntryStart(content, i + 1);
+                if (isEntry && isPreviousItemEntry && (i - chunkStart >= minChunkSize) && isLineStart(content, i)) {
+                    int chunkEnd = skipOneNewline(content, endOfItem);
+                    if (chunkEnd <= i) {
+                        chunks.add(content.substring(chunkStart, chunkEnd));
+                        chunkStart = chunkEnd;
+                    }
+                }
+                isPreviousItemEntry = isEntry;
+                isInItem = true;
+            }
+        }
+        chunks.add(content.substring(chunkStart));
+        return chunks;
+    }
+
+    /**
+     * Checks whether the text following an "@" is the type of an entry enclosed in braces
+     */
+    private static boolean isEntryStart(String content, int typeStart) {
+        int position = typeStart;
+        while ((position < content.length()) && Character.isLetter(content.charAt(position))) {
+            position++;
+        }
+        String type = content.substring(typeStart, position).toLowerCase(Locale.ROOT);
+        while ((position < content.length()) && Character.isWhitespace(content.charAt(position))) {
+            position++;
+        }
+        return !type.isEmpty()
+                && !"comment".equals(type) && !"string".equals(type) && !"preamble".equals(type)
+                && (position < content.length()) && (content.charAt(position) == '{');
+    }
+
+    private static boolean isEscaped(String content, int position) {
+        return (position > 0) && (content.charAt(position - 1) == '\\');
+    }
+
+    private static boolean isLineStart(String content, int position) {
+        return (position > 0) && (content.charAt(position - 1) == '\n');
+    }
+
+    /**
+     * Skips spaces and one newline as done by the {@link BibtexParser} after an entry
+     */
+    private static int skipOneNewline(String content, int position) {
+        while ((position < content.length()) && (content.charAt(position) == ' ')) {
+            position++;
+        }
+        if ((position < content.length()) && (content.charAt(position) == '\r')) {
+            position++;
+        }
+        if ((position < content.length()) && (content.charAt(position) == '\n')) {
+            position++;
+        }
+        return position;
+    }
+}
@@ -1,34 +1,31 @@
 package org.jabref.logic.integrity;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
-
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.identifier.DOI;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
-
 public class DoiDuplicationChecker implements DatabaseChecker {
 
     @Override
     public List<IntegrityMessage> check(BibDatabase database) {
-        ObservableList<BibEntry> bibEntries = database.getEntries();
-        BiMap<DOI, List<BibEntry>> duplicateMap = HashBiMap.create(bibEntries.size());
-        for (BibEntry bibEntry : bibEntries) {
+        // Grouped in the order of the first occurrence of each DOI to keep the messages in a deterministic order
+        Map<DOI, List<BibEntry>> entriesByDoi = new LinkedHashMap<>();
+        for (BibEntry bibEntry : database.getEntries()) {
             bibEntry.getDOI().ifPresent(doi ->
-                    duplicateMap.computeIfAbsent(doi, absentDoi -> new ArrayList<>()).add(bibEntry));
+                    entriesByDoi.computeIfAbsent(doi, absentDoi -> new ArrayList<>()).add(bibEntry));
         }
 
-        return duplicateMap.inverse().keySet().stream()
+        return entriesByDoi.values().stream()
                            .filter(list -> list.size() > 1)
-                           .flatMap(list -> list.stream())
+                           .flatMap(List::stream)
                            .map(item -> new IntegrityMessage(Localization.lang("Same DOI used in multiple entries"), item, StandardField.DOI))
                            .collect(Collectors.toList());
     }
@@ -7,4 +7,11 @@ import org.jabref.model.entry.BibEntry;
 @FunctionalInterface
 public interface EntryChecker {
     List<IntegrityMessage> check(BibEntry entry);
+
+    /**
+     * Returns the name used to report the statistics of this checker, see {@link IntegrityCheckStatistics}
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
 }
@@ -31,4 +31,9 @@ public class FieldChecker implements EntryChecker {
 
         return OptionalUtil.toList(checker.checkValue(value.get()).map(message -> new IntegrityMessage(message, entry, field)));
     }
+
+    @Override
+    public String getName() {
+        return checker.getClass().getSimpleName();
+    }
 }
@@ -3,6 +3,11 @@ package org.jabref.logic.integrity;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -14,9 +19,11 @@ import org.jabref.preferences.FilePreferences;
 
 public class IntegrityCheck {
 
+    private static final int ENTRIES_PER_TASK = 64;
+
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
-    private final List<EntryChecker> entryCheckers;
+    private final List<EntryChecker> checkers;
+    private final IntegrityCheckStatistics statistics = new IntegrityCheckStatistics();
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -25,12 +32,12 @@ public class IntegrityCheck {
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
+        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
                 allowIntegerEdition);
 
-        entryCheckers = new ArrayList<>(List.of(
+        List<EntryChecker> entryCheckers = new ArrayList<>(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
@@ -52,6 +59,10 @@ public class IntegrityCheck {
                     new BibTeXEntryTypeChecker())
             );
         }
+
+        // The field checkers are created once instead of for each checked entry
+        checkers = new ArrayList<>(fieldCheckers.getAll());
+        checkers.addAll(entryCheckers);
     }
 
     List<IntegrityMessage> check() {
@@ -73,18 +84,77 @@ public class IntegrityCheck {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
-        }
-
-        for (EntryChecker entryChecker : entryCheckers) {
-            result.addAll(entryChecker.check(entry));
+        for (EntryChecker checker : checkers) {
+            long start = System.nanoTime();
+            List<IntegrityMessage> messages = checker.check(entry);
+            statistics.record(checker.getName(), System.nanoTime() - start, messages.size());
+            result.addAll(messages);
         }
 
         return result;
     }
 
+    /**
+     * Checks the given entries using the common {@link ForkJoinPool}. The entries are partitioned into ranges, which
+     * are checked in parallel. The messages are returned in the order of the entries, i.e., in the same order as when
+     * calling {@link #checkEntry(BibEntry)} for each entry.
+     *
+     * @param isCanceled       checked before each entry. When it returns true, the remaining entries are skipped.
+     * @param onEntriesChecked called with the number of entries checked so far. It is called from the threads checking
+     *                         the entries.
+     */
+    public List<IntegrityMessage> checkEntriesInParallel(List<BibEntry> entries, BooleanSupplier isCanceled, IntConsumer onEntriesChecked) {
+        AtomicInteger checkedEntries = new AtomicInteger();
+        return ForkJoinPool.commonPool().invoke(new EntriesCheckTask(entries, isCanceled, () -> onEntriesChecked.accept(checkedEntries.incrementAndGet())));
+    }
+
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
-        return new DoiDuplicationChecker().check(database);
+        DatabaseChecker checker = new DoiDuplicationChecker();
+        long start = System.nanoTime();
+        List<IntegrityMessage> messages = checker.check(database);
+        statistics.record(checker.getClass().getSimpleName(), System.nanoTime() - start, messages.size());
+        return messages;
+    }
+
+    /**
+     * Returns the time spent in each checker by all checks done so far
+     */
+    public IntegrityCheckStatistics getStatistics() {
+        return statistics;
+    }
+
+    private class EntriesCheckTask extends RecursiveTask<List<IntegrityMessage>> {
+
+        private final List<BibEntry> entries;
+        private final BooleanSupplier isCanceled;
+        private final Runnable onEntryChecked;
+
+        EntriesCheckTask(List<BibEntry> entries, BooleanSupplier isCanceled, Runnable onEntryChecked) {
+            this.entries = entries;
+            this.isCanceled = isCanceled;
+            this.onEntryChecked = onEntryChecked;
+        }
+
+        @Override
+        protected List<IntegrityMessage> compute() {
+            if (entries.size() > ENTRIES_PER_TASK) {
+                int middle = entries.size() / 2;
+                EntriesCheckTask second = new EntriesCheckTask(entries.subList(middle, entries.size()), isCanceled, onEntryChecked);
+                second.fork();
+                List<IntegrityMessage> result = new ArrayList<>(new EntriesCheckTask(entries.subList(0, middle), isCanceled, onEntryChecked).compute());
+                result.addAll(second.join());
+                return result;
+            }
+
+            List<IntegrityMessage> result = new ArrayList<>();
+            for (BibEntry entry : entries) {
+                if (isCanceled.getAsBoolean()) {
+                    break;
+                }
+                result.addAll(checkEntry(entry));
+                onEntryChecked.run();
+            }
+            return result;
+        }
     }
 }
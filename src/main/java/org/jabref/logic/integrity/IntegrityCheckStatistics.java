@@ -0,0 +1,50 @@
+package org.jabref.logic.integrity;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects how long each checker of an {@link IntegrityCheck} took and how many messages it reported. The statistics
+ * may be recorded from multiple threads.
+ */
+public class IntegrityCheckStatistics {
+
+    private final Map<String, Counters> countersByChecker = new ConcurrentHashMap<>();
+
+    void record(String checkerName, long elapsedNanos, int messages) {
+        Counters counters = countersByChecker.computeIfAbsent(checkerName, name -> new Counters());
+        counters.runs.increment();
+        counters.messages.add(messages);
+        counters.elapsedNanos.add(elapsedNanos);
+    }
+
+    /**
+     * Returns the statistics of all checkers which have been run, the slowest checker first
+     */
+    public List<CheckerStatistics> getStatistics() {
+        return countersByChecker.entrySet().stream()
+                                .map(entry -> new CheckerStatistics(entry.getKey(),
+                                        entry.getValue().runs.sum(),
+                                        entry.getValue().messages.sum(),
+                                        Duration.ofNanos(entry.getValue().elapsedNanos.sum())))
+                                .sorted(Comparator.comparing(CheckerStatistics::elapsedTime).reversed()
+                                                  .thenComparing(CheckerStatistics::checkerName))
+                                .toList();
+    }
+
+    /**
+     * @param runs the number of times the checker was run, i.e., the number of checked entries for entry checkers
+     */
+    public record CheckerStatistics(String checkerName, long runs, long messages, Duration elapsedTime) {
+    }
+
+    private static class Counters {
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder messages = new LongAdder();
+        private final LongAdder elapsedNanos = new LongAdder();
+    }
+}
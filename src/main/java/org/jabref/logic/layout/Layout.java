@@ -99,7 +99,17 @@ public class Layout {
      */
     public String doLayout(BibEntry bibtex, BibDatabase database) {
         StringBuilder builder = new StringBuilder(100);
+        doLayout(bibtex, database, builder);
+        return builder.toString();
+    }
 
+    /**
+     * Appends the processed bibtex entry to the given builder. This allows to reuse one builder when processing many
+     * entries, e.g., in an export.
+     *
+     * @see #doLayout(BibEntry, BibDatabase)
+     */
+    public void doLayout(BibEntry bibtex, BibDatabase database, StringBuilder builder) {
         for (LayoutEntry layoutEntry : layoutEntries) {
             String fieldText = layoutEntry.doLayout(bibtex, database);
 
@@ -111,8 +121,6 @@ public class Layout {
 
             builder.append(fieldText);
         }
-
-        return builder.toString();
     }
 
     /**
@@ -88,6 +88,7 @@ import org.jabref.logic.openoffice.style.OOPreFormatter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.UnknownField;
@@ -104,6 +105,10 @@ class LayoutEntry {
     private LayoutFormatter postFormatter;
 
     private String text;
+    // The fields referenced by text, resolved once when the layout is created
+    private Field field;
+    private List<FieldCondition> fieldConditions;
+    private boolean isAndCondition;
     private List<LayoutEntry> layoutEntries;
     private final int type;
     private final List<String> invalidFormatter = new ArrayList<>();
@@ -132,6 +137,7 @@ class LayoutEntry {
                 // IS_FIELD_START and IS_FIELD_END
             }
         }
+        resolveFields();
     }
 
     public LayoutEntry(List<StringInt> parsedEntries,
@@ -194,6 +200,37 @@ class LayoutEntry {
         for (LayoutEntry layoutEntry : layoutEntries) {
             invalidFormatter.addAll(layoutEntry.getInvalidFormatters());
         }
+        resolveFields();
+    }
+
+    /**
+     * Parses the field names contained in the text once. Otherwise, they would be parsed again for each entry the layout
+     * is applied to.
+     */
+    private void resolveFields() {
+        switch (type) {
+            case LayoutHelper.IS_SIMPLE_COMMAND, LayoutHelper.IS_GROUP_START ->
+                    field = FieldFactory.parseField(text);
+            case LayoutHelper.IS_OPTION_FIELD -> {
+                if (text.startsWith("\\")) {
+                    field = FieldFactory.parseField(text.substring(1));
+                }
+            }
+            case LayoutHelper.IS_FIELD_START -> {
+                // split the strings along &, && or ; for AND formatter, or along |, || for OR formatter
+                isAndCondition = text.matches(".*(;|(\\&+)).*");
+                String[] parts = isAndCondition ? text.split("\\s*(;|(\\&+))\\s*") : text.split("\\s*(\\|+)\\s*");
+                fieldConditions = Arrays.stream(parts)
+                                        .map(part -> {
+                                            boolean negated = part.startsWith("!");
+                                            return new FieldCondition(FieldFactory.parseField(negated ? part.substring(1).trim() : part), negated);
+                                        })
+                                        .toList();
+            }
+            default -> {
+                // no fields referenced
+            }
+        }
     }
 
     public void setPostFormatter(LayoutFormatter formatter) {
@@ -205,7 +242,7 @@ class LayoutEntry {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
             case LayoutHelper.IS_SIMPLE_COMMAND:
-                String value = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database).orElse("");
+                String value = bibtex.getResolvedFieldOrAlias(field, database).orElse("");
 
                 // If a post formatter has been set, call it:
                 if (postFormatter != null) {
@@ -244,7 +281,7 @@ class LayoutEntry {
             // changed section begin - arudert
             // resolve field (recognized by leading backslash) or text
             fieldEntry = text.startsWith("\\") ? bibtex
-                    .getResolvedFieldOrAlias(FieldFactory.parseField(text.substring(1)), database)
+                    .getResolvedFieldOrAlias(field, database)
                     .orElse("") : BibDatabase.getText(text, database);
             // changed section end - arudert
         }
@@ -267,25 +304,21 @@ class LayoutEntry {
         Optional<String> field;
         boolean negated = false;
         if (type == LayoutHelper.IS_GROUP_START) {
-            field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database);
-        } else if (text.matches(".*(;|(\\&+)).*")) {
-            // split the strings along &, && or ; for AND formatter
-            String[] parts = text.split("\\s*(;|(\\&+))\\s*");
+            field = bibtex.getResolvedFieldOrAlias(this.field, database);
+        } else if (isAndCondition) {
             field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
+            for (FieldCondition condition : fieldConditions) {
+                negated = condition.negated();
+                field = bibtex.getResolvedFieldOrAlias(condition.field(), database);
                 if (field.isPresent() == negated) {
                     break;
                 }
             }
         } else {
-            // split the strings along |, ||  for OR formatter
-            String[] parts = text.split("\\s*(\\|+)\\s*");
             field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
+            for (FieldCondition condition : fieldConditions) {
+                negated = condition.negated();
+                field = bibtex.getResolvedFieldOrAlias(condition.field(), database);
                 if (field.isPresent() ^ negated) {
                     break;
                 }
@@ -622,4 +655,7 @@ class LayoutEntry {
     public String getText() {
         return text;
     }
+
+    private record FieldCondition(Field field, boolean negated) {
+    }
 }
@@ -47,10 +47,18 @@ public final class TextBasedPreviewLayout implements PreviewLayout {
 
     @Override
     public String generatePreview(BibEntry entry, BibDatabaseContext databaseContext) {
+        StringBuilder builder = new StringBuilder(100);
+        generatePreview(entry, databaseContext, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the preview of the given entry to the given builder. This allows to reuse one builder when generating the
+     * previews of many entries, e.g., when copying the citations of the selected entries.
+     */
+    public void generatePreview(BibEntry entry, BibDatabaseContext databaseContext, StringBuilder builder) {
         if (layout != null) {
-            return layout.doLayout(entry, databaseContext.getDatabase());
-        } else {
-            return "";
+            layout.doLayout(entry, databaseContext.getDatabase(), builder);
         }
     }
 
@@ -157,8 +157,10 @@ public class CSLCitationOOAdapter {
             // Sort entries based on their order of appearance in the document
             entries.sort(Comparator.comparingInt(entry -> markManager.getCitationNumber(entry.getCitationKey().orElse(""))));
 
-            for (BibEntry entry : entries) {
-                String citation = CitationStyleGenerator.generateCitation(List.of(entry), style, CSLFormatUtils.OUTPUT_FORMAT, bibDatabaseContext, bibEntryTypesManager).getFirst();
+            List<String> citations = CitationStyleGenerator.generateCitationOfEachEntry(entries, style, CSLFormatUtils.OUTPUT_FORMAT, bibDatabaseContext, bibEntryTypesManager);
+            for (int i = 0; i < entries.size(); i++) {
+                BibEntry entry = entries.get(i);
+                String citation = citations.get(i);
                 String citationKey = entry.getCitationKey().orElse("");
                 int currentNumber = markManager.getCitationNumber(citationKey);
 
@@ -0,0 +1,26 @@
+package org.jabref.logic.pdf;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The text of a PDF file, extracted page by page.
+ *
+ * @param fileHash the SHA-256 hash of the file the text was extracted from
+ */
+public record ExtractedPdfText(String fileHash, List<Page> pages) {
+
+    /**
+     * @param content     the text of the page, lines are separated by "\n"
+     * @param annotations the contents of the annotations of the page
+     */
+    public record Page(String content, List<String> annotations) {
+    }
+
+    /**
+     * Returns the text of all pages
+     */
+    public String getContent() {
+        return pages.stream().map(Page::content).collect(Collectors.joining());
+    }
+}
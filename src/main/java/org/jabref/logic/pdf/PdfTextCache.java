@@ -0,0 +1,301 @@
+package org.jabref.logic.pdf;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.logic.xmp.XmpUtilReader;
+
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Striped;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Extracts the text of PDF files and keeps it in a cache on disk.
+ * <p>
+ * Text extraction with PDFBox is slow, and several features need the text of the same files (the full text index and
+ * the AI features). Thus, the text is extracted once and stored compressed, named by the hash of the file content. A
+ * changed file has another hash and is extracted again. If the cache grows larger than its maximal size, the least
+ * recently used texts are removed.
+ */
+public class PdfTextCache {
+
+    public static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfTextCache.class);
+
+    // Increase if the stored format or the extraction changes
+    public static final int VERSION = 1;
+    private static final String FILE_EXTENSION = ".txt.gz";
+
+    private final Path directory;
+    private final long maxSize;
+
+    // Hashing a file requires reading it completely, thus the hashes are remembered as long as the file does not change
+    private final Map<Path, HashedFile> hashedFiles = new ConcurrentHashMap<>();
+
+    // Prevents extracting the same file concurrently
+    private final Striped<Lock> extractionLocks = Striped.lock(64);
+
+    // The total size of the cached texts, determined on the first write. Guarded by this.
+    private long size = -1;
+
+    private record HashedFile(long size, FileTime modified, String hash) {
+    }
+
+    private record CachedFile(Path path, long size, FileTime lastUsed) {
+    }
+
+    public PdfTextCache(Path directory, long maxSize) {
+        this.directory = Objects.requireNonNull(directory);
+        this.maxSize = maxSize;
+    }
+
+    public ExtractedPdfText getText(Path pdf) throws IOException {
+        return getText(pdf, new SimpleBooleanProperty(false)).orElseThrow();
+    }
+
+    /**
+     * Returns the text of the given PDF file, either from the cache or by extracting it.
+     *
+     * @param stopSignal stops the extraction if set to true
+     * @return the text, or an empty optional if the extraction was stopped
+     */
+    public Optional<ExtractedPdfText> getText(Path pdf, ReadOnlyBooleanProperty stopSignal) throws IOException {
+        String hash = hash(pdf);
+        Path cacheFile = directory.resolve(hash + FILE_EXTENSION);
+
+        Lock lock = extractionLocks.get(hash);
+        lock.lock();
+        try {
+            Optional<ExtractedPdfText> cachedText = read(cacheFile, hash);
+            if (cachedText.isPresent()) {
+                return cachedText;
+            }
+
+            Optional<ExtractedPdfText> text = extract(pdf, hash, stopSignal);
+            if (text.isPresent()) {
+                write(cacheFile, text.get());
+            }
+            return text;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String hash(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        Path key = file.toAbsolutePath();
+        HashedFile hashedFile = hashedFiles.get(key);
+        if ((hashedFile == null) || (hashedFile.size() != attributes.size()) || !hashedFile.modified().equals(attributes.lastModifiedTime())) {
+            String hash = com.google.common.io.Files.asByteSource(file.toFile()).hash(Hashing.sha256()).toString();
+            hashedFile = new HashedFile(attributes.size(), attributes.lastModifiedTime(), hash);
+            hashedFiles.put(key, hashedFile);
+        }
+        return hashedFile.hash();
+    }
+
+    private static Optional<ExtractedPdfText> extract(Path pdf, String hash, ReadOnlyBooleanProperty stopSignal) throws IOException {
+        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(pdf)) {
+            InterruptablePDFTextStripper stripper = new InterruptablePDFTextStripper(stopSignal);
+            stripper.setLineSeparator("\n");
+
+            List<ExtractedPdfText.Page> pages = new ArrayList<>(document.getNumberOfPages());
+            for (int pageNumber = 0; pageNumber < document.getNumberOfPages(); pageNumber++) {
+                if (stopSignal.get()) {
+                    return Optional.empty();
+                }
+                pages.add(extractPage(document, pageNumber, stripper, pdf));
+            }
+            // The stripper returns an incomplete text if stopped within the last page
+            if (stopSignal.get()) {
+                return Optional.empty();
+            }
+            return Optional.of(new ExtractedPdfText(hash, pages));
+        }
+    }
+
+    private static ExtractedPdfText.Page extractPage(PDDocument document, int pageNumber, InterruptablePDFTextStripper stripper, Path pdf) {
+        String content = "";
+        List<String> annotations = List.of();
+        try {
+            // PDFTextStripper is 1-based
+            stripper.setStartPage(pageNumber + 1);
+            stripper.setEndPage(pageNumber + 1);
+            content = stripper.getText(document);
+
+            PDPage page = document.getPage(pageNumber);
+            annotations = page.getAnnotations().stream()
+                              .map(PDAnnotation::getContents)
+                              .filter(Objects::nonNull)
+                              .toList();
+        } catch (IOException e) {
+            LOGGER.warn("Could not read page {} of {}", pageNumber, pdf.toAbsolutePath(), e);
+        }
+        return new ExtractedPdfText.Page(content, annotations);
+    }
+
+    private Optional<ExtractedPdfText> read(Path cacheFile, String hash) {
+        if (!Files.exists(cacheFile)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(Files.newInputStream(cacheFile)))) {
+            if (in.readInt() != VERSION) {
+                return Optional.empty();
+            }
+            int numberOfPages = in.readInt();
+            List<ExtractedPdfText.Page> pages = new ArrayList<>(numberOfPages);
+            for (int i = 0; i < numberOfPages; i++) {
+                String content = readString(in);
+                int numberOfAnnotations = in.readInt();
+                List<String> annotations = new ArrayList<>(numberOfAnnotations);
+                for (int j = 0; j < numberOfAnnotations; j++) {
+                    annotations.add(readString(in));
+                }
+                pages.add(new ExtractedPdfText.Page(content, annotations));
+            }
+            // Marks the text as recently used
+            Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(new ExtractedPdfText(hash, pages));
+        } catch (IOException e) {
+            // Removed concurrently or damaged, the text is extracted again
+            LOGGER.debug("Could not read cached text {}", cacheFile, e);
+            return Optional.empty();
+        }
+    }
+
+    private void write(Path cacheFile, ExtractedPdfText text) {
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(directory);
+            long replacedSize = sizeOf(cacheFile);
+            temporaryFile = Files.createTempFile(directory, "text", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(temporaryFile)))) {
+                out.writeInt(VERSION);
+                out.writeInt(text.pages().size());
+                for (ExtractedPdfText.Page page : text.pages()) {
+                    writeString(out, page.content());
+                    out.writeInt(page.annotations().size());
+                    for (String annotation : page.annotations()) {
+                        writeString(out, annotation);
+                    }
+                }
+            }
+            try {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            addToSize(cacheFile, sizeOf(cacheFile) - replacedSize);
+        } catch (IOException e) {
+            LOGGER.warn("Could not cache text in {}", cacheFile, e);
+            if (temporaryFile != null) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException ex) {
+                    LOGGER.debug("Could not delete {}", temporaryFile, ex);
+                }
+            }
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            // Not existing or removed concurrently
+            return 0;
+        }
+    }
+
+    /**
+     * Updates the total size after the given file was written and evicts texts if the cache got too large
+     */
+    private synchronized void addToSize(Path addedFile, long addedSize) throws IOException {
+        if (size < 0) {
+            size = listCachedFiles().stream().mapToLong(CachedFile::size).sum();
+        } else {
+            size += addedSize;
+        }
+        if (size > maxSize) {
+            evict(addedFile);
+        }
+    }
+
+    /**
+     * Removes the least recently used texts until the cache fits into 90% of its maximal size. The given (just added)
+     * file is kept in any case. Leaving some space avoids listing the directory again on each of the following writes.
+     */
+    private void evict(Path addedFile) throws IOException {
+        List<CachedFile> cachedFiles = listCachedFiles();
+        cachedFiles.sort(Comparator.comparing(CachedFile::lastUsed));
+
+        // The listing is exact, the running total might be off due to concurrent changes outside of JabRef
+        size = cachedFiles.stream().mapToLong(CachedFile::size).sum();
+        long targetSize = maxSize - (maxSize / 10);
+        for (CachedFile cachedFile : cachedFiles) {
+            if (size <= targetSize) {
+                break;
+            }
+            if (!cachedFile.path().equals(addedFile)) {
+                Files.deleteIfExists(cachedFile.path());
+                size -= cachedFile.size();
+            }
+        }
+    }
+
+    private List<CachedFile> listCachedFiles() throws IOException {
+        List<CachedFile> cachedFiles = new ArrayList<>();
+        if (!Files.exists(directory)) {
+            return cachedFiles;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION)).toList()) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    cachedFiles.add(new CachedFile(file, attributes.size(), attributes.lastModifiedTime()));
+                } catch (IOException e) {
+                    // Removed concurrently
+                }
+            }
+        }
+        return cachedFiles;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -1,17 +1,18 @@
 package org.jabref.logic.pdf.search;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.jabref.gui.LibraryTab;
+import org.jabref.logic.pdf.ExtractedPdfText;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
@@ -22,19 +23,16 @@ import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.pdf.search.SearchFieldConstants.ANNOTATIONS;
 import static org.jabref.model.pdf.search.SearchFieldConstants.CONTENT;
+import static org.jabref.model.pdf.search.SearchFieldConstants.HASH;
 import static org.jabref.model.pdf.search.SearchFieldConstants.MODIFIED;
 import static org.jabref.model.pdf.search.SearchFieldConstants.PAGE_NUMBER;
 import static org.jabref.model.pdf.search.SearchFieldConstants.PATH;
+import static org.jabref.model.pdf.search.SearchFieldConstants.SIZE;
 
 /**
  * Utility class for reading the data from LinkedFiles of a BibEntry for Lucene.
@@ -48,14 +46,17 @@ public final class DocumentReader {
 
     private final BibEntry entry;
     private final FilePreferences filePreferences;
+    private final PdfTextCache textCache;
 
     /**
      * Creates a new DocumentReader using a BibEntry.
      *
-     * @param bibEntry Must not be null and must have at least one LinkedFile.
+     * @param bibEntry  Must not be null and must have at least one LinkedFile.
+     * @param textCache Provides the text of the PDF files
      */
-    public DocumentReader(BibEntry bibEntry, FilePreferences filePreferences) {
+    public DocumentReader(BibEntry bibEntry, FilePreferences filePreferences, PdfTextCache textCache) {
         this.filePreferences = filePreferences;
+        this.textCache = textCache;
         if (bibEntry.getFiles().isEmpty()) {
             throw new IllegalStateException("There are no linked PDF files to this BibEntry.");
         }
@@ -91,38 +92,51 @@ public final class DocumentReader {
     }
 
     private List<Document> readPdfContents(LinkedFile pdf, Path resolvedPdfPath) {
-        List<Document> pages = new ArrayList<>();
-        try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
-            for (int pageNumber = 0; pageNumber < pdfDocument.getNumberOfPages(); pageNumber++) {
-                Document newDocument = new Document();
-                addIdentifiers(newDocument, pdf.getLink());
-                addMetaData(newDocument, resolvedPdfPath, pageNumber);
-                try {
-                    addContentIfNotEmpty(pdfDocument, newDocument, pageNumber);
-                } catch (IOException e) {
-                    LOGGER.warn("Could not read page {} of  {}", pageNumber, resolvedPdfPath.toAbsolutePath(), e);
-                }
-                pages.add(newDocument);
-            }
+        Optional<ExtractedPdfText> text = Optional.empty();
+        try {
+            text = Optional.of(textCache.getText(resolvedPdfPath));
         } catch (IOException e) {
             LOGGER.warn("Could not read {}", resolvedPdfPath.toAbsolutePath(), e);
         }
+
+        // The cache already hashed the file
+        Map<String, String> fileMetaData = getFileMetaData(resolvedPdfPath, text.map(ExtractedPdfText::fileHash));
+        List<Document> pages = new ArrayList<>();
+        List<ExtractedPdfText.Page> extractedPages = text.map(ExtractedPdfText::pages).orElse(List.of());
+        for (int pageNumber = 0; pageNumber < extractedPages.size(); pageNumber++) {
+            Document newDocument = new Document();
+            addIdentifiers(newDocument, pdf.getLink());
+            addMetaData(newDocument, fileMetaData, pageNumber);
+            addContentIfNotEmpty(extractedPages.get(pageNumber), newDocument);
+            pages.add(newDocument);
+        }
         if (pages.isEmpty()) {
             Document newDocument = new Document();
             addIdentifiers(newDocument, pdf.getLink());
-            addMetaData(newDocument, resolvedPdfPath, 0);
+            addMetaData(newDocument, fileMetaData, 0);
             pages.add(newDocument);
         }
         return pages;
     }
 
-    private void addMetaData(Document newDocument, Path resolvedPdfPath, int pageNumber) {
+    /**
+     * Determines the fingerprint of the file, which is stored with each page to detect changes of the file
+     */
+    private Map<String, String> getFileMetaData(Path resolvedPdfPath, Optional<String> knownHash) {
+        Map<String, String> fileMetaData = new HashMap<>();
         try {
-            BasicFileAttributes attributes = Files.readAttributes(resolvedPdfPath, BasicFileAttributes.class);
-            addStringField(newDocument, MODIFIED, String.valueOf(attributes.lastModifiedTime().to(TimeUnit.SECONDS)));
+            FileFingerprint fingerprint = FileFingerprint.of(resolvedPdfPath);
+            fileMetaData.put(MODIFIED, String.valueOf(fingerprint.modified()));
+            fileMetaData.put(SIZE, String.valueOf(fingerprint.size()));
+            fileMetaData.put(HASH, knownHash.isPresent() ? knownHash.get() : FileFingerprint.hash(resolvedPdfPath));
         } catch (IOException e) {
-            LOGGER.error("Could not read timestamp for {}", resolvedPdfPath, e);
+            LOGGER.error("Could not read fingerprint of {}", resolvedPdfPath, e);
         }
+        return fileMetaData;
+    }
+
+    private void addMetaData(Document newDocument, Map<String, String> fileMetaData, int pageNumber) {
+        fileMetaData.forEach((field, value) -> addStringField(newDocument, field, value));
         addStringField(newDocument, PAGE_NUMBER, String.valueOf(pageNumber));
     }
 
@@ -142,21 +156,12 @@ public final class DocumentReader {
         return LINEBREAK_WITHOUT_PERIOD_PATTERN.matcher(mergedHyphenNewlines).replaceAll("$1 ");
     }
 
-    private void addContentIfNotEmpty(PDDocument pdfDocument, Document newDocument, int pageNumber) throws IOException {
-        PDFTextStripper pdfTextStripper = new PDFTextStripper();
-        pdfTextStripper.setLineSeparator("\n");
-        // Apache PDFTextStripper is 1-based. See {@link org.apache.pdfbox.text.PDFTextStripper.processPages}
-        pdfTextStripper.setStartPage(pageNumber + 1);
-        pdfTextStripper.setEndPage(pageNumber + 1);
-
-        String pdfContent = pdfTextStripper.getText(pdfDocument);
-        if (StringUtil.isNotBlank(pdfContent)) {
-            newDocument.add(new TextField(CONTENT, mergeLines(pdfContent), Field.Store.YES));
+    private void addContentIfNotEmpty(ExtractedPdfText.Page page, Document newDocument) {
+        if (StringUtil.isNotBlank(page.content())) {
+            newDocument.add(new TextField(CONTENT, mergeLines(page.content()), Field.Store.YES));
         }
-        PDPage page = pdfDocument.getPage(pageNumber);
-        List<String> annotations = page.getAnnotations().stream().filter(annotation -> annotation.getContents() != null).map(PDAnnotation::getContents).collect(Collectors.toList());
-        if (!annotations.isEmpty()) {
-            newDocument.add(new TextField(ANNOTATIONS, annotations.stream().collect(Collectors.joining("\n")), Field.Store.YES));
+        if (!page.annotations().isEmpty()) {
+            newDocument.add(new TextField(ANNOTATIONS, String.join("\n", page.annotations()), Field.Store.YES));
         }
     }
 
@@ -0,0 +1,29 @@
+package org.jabref.logic.pdf.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Identifies the state of a file stored in the full text index to detect whether the file needs to be indexed again.
+ * <p>
+ * Comparing size and modification time is cheap. The content hash is only computed if these differ, for instance if
+ * the file was copied or touched without changing its content.
+ *
+ * @param modified the modification time in seconds
+ */
+record FileFingerprint(long size, long modified) {
+
+    static FileFingerprint of(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new FileFingerprint(attributes.size(), attributes.lastModifiedTime().to(TimeUnit.SECONDS));
+    }
+
+    static String hash(Path file) throws IOException {
+        return com.google.common.io.Files.asByteSource(file.toFile()).hash(Hashing.sha256()).toString();
+    }
+}
@@ -2,16 +2,12 @@ package org.jabref.logic.pdf.search;
 
 import java.util.List;
 import java.util.Queue;
-import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 
@@ -24,6 +20,10 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
     private TaskExecutor taskExecutor;
     private int numOfIndexedFiles = 0;
 
+    // Tasks adding many files report their progress file by file. Other tasks count as one file.
+    private volatile int numOfIndexedFilesOfCurrentTask = 0;
+    private volatile int numOfFilesOfCurrentTask = 0;
+
     private final Object lock = new Object();
     private boolean isRunning = false;
     private boolean isBlockingNewTasks = false;
@@ -44,8 +44,12 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
         }
         updateProgress();
         while (!taskQueue.isEmpty() && !isCanceled()) {
+            numOfIndexedFilesOfCurrentTask = 0;
+            numOfFilesOfCurrentTask = 1;
             taskQueue.poll().run();
-            numOfIndexedFiles++;
+            numOfIndexedFiles += numOfFilesOfCurrentTask;
+            numOfIndexedFilesOfCurrentTask = 0;
+            numOfFilesOfCurrentTask = 0;
             updateProgress();
         }
         synchronized (lock) {
@@ -55,8 +59,16 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
     }
 
     private void updateProgress() {
-        updateMessage(Localization.lang("%0 of %1 linked files added to the index", numOfIndexedFiles, numOfIndexedFiles + taskQueue.size()));
-        updateProgress(numOfIndexedFiles, numOfIndexedFiles + taskQueue.size());
+        int indexedFiles = numOfIndexedFiles + numOfIndexedFilesOfCurrentTask;
+        int files = numOfIndexedFiles + numOfFilesOfCurrentTask + taskQueue.size();
+        updateMessage(Localization.lang("%0 of %1 linked files added to the index", indexedFiles, files));
+        updateProgress(indexedFiles, files);
+    }
+
+    private void updateProgressOfCurrentTask(int indexedFiles, int files) {
+        numOfIndexedFilesOfCurrentTask = indexedFiles;
+        numOfFilesOfCurrentTask = files;
+        updateProgress();
     }
 
     private void enqueueTask(Runnable indexingTask) {
@@ -85,30 +97,21 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
     }
 
     public void rebuildIndex(PdfIndexer indexer) {
-        enqueueTask(indexer::rebuildIndex);
+        enqueueTask(() -> indexer.rebuildIndex(this::updateProgressOfCurrentTask, this::isCanceled));
     }
 
     /**
      * Updates the index by performing a delta analysis of the files already existing in the index and the files in the library.
+     * Only new and modified files are read, files no longer linked are removed.
      */
-    public void updateIndex(PdfIndexer indexer, BibDatabaseContext databaseContext) {
-        Set<String> pathsToRemove = indexer.getListOfFilePaths();
-        databaseContext.getEntries().stream()
-                       .flatMap(entry -> entry.getFiles().stream())
-                       .map(LinkedFile::getLink)
-                       .forEach(pathsToRemove::remove);
-        // The indexer checks the attached PDFs for modifications (based on the timestamp of the PDF) and reindexes the PDF if it is newer than the index. Therefore, we need to pass the whole library to the indexer for re-indexing.
-        addToIndex(indexer, databaseContext.getEntries());
-        enqueueTask(() -> indexer.removePathsFromIndex(pathsToRemove));
+    public void updateIndex(PdfIndexer indexer) {
+        enqueueTask(() -> indexer.updateIndex(this::updateProgressOfCurrentTask, this::isCanceled));
     }
 
     public void addToIndex(PdfIndexer indexer, List<BibEntry> entries) {
-        AtomicInteger counter = new AtomicInteger();
-        // To enable seeing progress in the UI, we group the entries in chunks of 50
-        // Solution inspired by https://stackoverflow.com/a/27595803/873282
-        entries.stream().collect(Collectors.groupingBy(x -> counter.getAndIncrement() / 50))
-               .values()
-               .forEach(list -> enqueueTask(() -> indexer.addToIndex(list)));
+        // The indexer processes the files in parallel and reports the progress file by file
+        List<BibEntry> entriesToIndex = List.copyOf(entries);
+        enqueueTask(() -> indexer.addToIndex(entriesToIndex, this::updateProgressOfCurrentTask, this::isCanceled));
     }
 
     public void addToIndex(PdfIndexer indexer, BibEntry entry) {
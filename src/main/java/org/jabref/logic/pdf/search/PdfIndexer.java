@@ -2,16 +2,25 @@ package org.jabref.logic.pdf.search;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -20,21 +29,28 @@ import org.jabref.model.pdf.search.SearchFieldConstants;
 import org.jabref.preferences.FilePreferences;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.lucene.analysis.en.EnglishAnalyzer;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexNotFoundException;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.MultiBits;
+import org.apache.lucene.index.StoredFields;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.Bits;
 import org.jooq.lambda.Unchecked;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -42,11 +58,29 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Indexes the text of PDF files and adds it into the lucene search index.
+ * <p>
+ * Adding many files at once (see {@link #addToIndex(List, BiConsumer, BooleanSupplier)}) extracts the text of several
+ * files in parallel, while a single thread feeds the extracted pages to the {@link IndexWriter}. Changes are committed
+ * once per batch of files or after some time has passed, as a commit is expensive.
  */
 public class PdfIndexer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PdfIndexer.class);
 
+    // Extracting the text is CPU bound. We keep one core for the user interface.
+    private static final int EXTRACTION_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    // Number of files being extracted or waiting for the index writer. Limits the memory used for extracted text.
+    private static final int MAX_PENDING_FILES = EXTRACTION_THREADS * 2;
+
+    private static final int FILES_PER_COMMIT = 500;
+    private static final Duration MAX_TIME_BETWEEN_COMMITS = Duration.ofMinutes(1);
+
+    private static final Set<String> FINGERPRINT_FIELDS = Set.of(SearchFieldConstants.MODIFIED, SearchFieldConstants.SIZE, SearchFieldConstants.HASH);
+
+    private record FileToIndex(BibEntry entry, LinkedFile linkedFile) {
+    }
+
     @VisibleForTesting
     @Nullable // null might happen if lock is held by another JabRef instance
     IndexWriter indexWriter;
@@ -55,12 +89,12 @@ public class PdfIndexer {
 
     private final FilePreferences filePreferences;
 
+    private final PdfTextCache textCache;
+
     @Nullable
     private final Directory indexDirectory;
 
-    private IndexReader reader;
-
-    private PdfIndexer(BibDatabaseContext databaseContext, Directory indexDirectory, FilePreferences filePreferences) {
+    private PdfIndexer(BibDatabaseContext databaseContext, Directory indexDirectory, FilePreferences filePreferences, PdfTextCache textCache) {
         this.databaseContext = databaseContext;
         if (indexDirectory == null) {
             // FIXME: This should never happen, but was reported at https://github.com/JabRef/jabref/issues/10781.
@@ -77,21 +111,22 @@ public class PdfIndexer {
             this.indexDirectory = indexDirectory;
         }
         this.filePreferences = filePreferences;
+        this.textCache = textCache;
     }
 
     /**
      * Method is public, because DatabaseSearcherWithBibFilesTest resides in another package
      */
     @VisibleForTesting
-    public static PdfIndexer of(BibDatabaseContext databaseContext, Path indexDirectory, FilePreferences filePreferences) throws IOException {
-        return new PdfIndexer(databaseContext, new NIOFSDirectory(indexDirectory), filePreferences);
+    public static PdfIndexer of(BibDatabaseContext databaseContext, Path indexDirectory, FilePreferences filePreferences, PdfTextCache textCache) throws IOException {
+        return new PdfIndexer(databaseContext, new NIOFSDirectory(indexDirectory), filePreferences, textCache);
     }
 
     /**
      * Method is public, because DatabaseSearcherWithBibFilesTest resides in another package
      */
-    public static PdfIndexer of(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
-        return new PdfIndexer(databaseContext, new NIOFSDirectory(databaseContext.getFulltextIndexPath()), filePreferences);
+    public static PdfIndexer of(BibDatabaseContext databaseContext, FilePreferences filePreferences, PdfTextCache textCache) throws IOException {
+        return new PdfIndexer(databaseContext, new NIOFSDirectory(databaseContext.getFulltextIndexPath()), filePreferences, textCache);
     }
 
     /**
@@ -104,7 +139,7 @@ public class PdfIndexer {
             return;
         }
         LOGGER.debug("Creating new index for directory {}.", indexDirectory);
-        initializeIndexWriterAndReader(IndexWriterConfig.OpenMode.CREATE);
+        initializeIndexWriter(IndexWriterConfig.OpenMode.CREATE);
     }
 
     /**
@@ -114,14 +149,14 @@ public class PdfIndexer {
         LOGGER.trace("Getting the index writer");
         if (indexWriter == null) {
             LOGGER.trace("Initializing the index writer");
-            initializeIndexWriterAndReader(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            initializeIndexWriter(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
         } else {
             LOGGER.trace("Using existing index writer");
         }
         return Optional.ofNullable(indexWriter);
     }
 
-    private void initializeIndexWriterAndReader(IndexWriterConfig.OpenMode mode) {
+    private void initializeIndexWriter(IndexWriterConfig.OpenMode mode) {
         if (indexDirectory == null) {
             LOGGER.info("Index directory must not be null. Returning.");
             return;
@@ -138,12 +173,6 @@ public class PdfIndexer {
             //        This requires a major rewrite of the code, though.
             //        Accessing the index using a permanent writer object is (much) faster than always
             //        closing and opening the writer and reader on demand.
-            return;
-        }
-        try {
-            reader = DirectoryReader.open(indexWriter);
-        } catch (IOException e) {
-            LOGGER.error("Could not initialize the IndexReader", e);
         }
     }
 
@@ -151,22 +180,237 @@ public class PdfIndexer {
      * Rebuilds the PDF index. All PDF files linked to entries in the database will be re-indexed.
      */
     public void rebuildIndex() {
+        rebuildIndex((indexedFiles, files) -> {
+        }, () -> false);
+    }
+
+    /**
+     * Rebuilds the PDF index. All PDF files linked to entries in the database will be re-indexed.
+     *
+     * @see #addToIndex(List, BiConsumer, BooleanSupplier)
+     */
+    public void rebuildIndex(BiConsumer<Integer, Integer> progressHandler, BooleanSupplier isCanceled) {
         LOGGER.debug("Rebuilding index.");
         createIndex();
-        addToIndex(databaseContext.getEntries());
+        addToIndex(databaseContext.getEntries(), progressHandler, isCanceled);
+    }
+
+    /**
+     * Synchronizes the index with the library: Files no longer linked by any entry are removed from the index, files
+     * which are new or were modified since they were indexed are (re-)indexed. Unchanged files are not read again.
+     *
+     * @see #addToIndex(List, BiConsumer, BooleanSupplier)
+     */
+    public void updateIndex(BiConsumer<Integer, Integer> progressHandler, BooleanSupplier isCanceled) {
+        List<BibEntry> entries = List.copyOf(databaseContext.getEntries());
+        Set<String> orphanedPaths = getListOfFilePaths();
+        entries.stream()
+               .flatMap(entry -> entry.getFiles().stream())
+               .map(LinkedFile::getLink)
+               .forEach(orphanedPaths::remove);
+        LOGGER.debug("Removing {} files no longer linked from the index.", orphanedPaths.size());
+        removePathsFromIndex(orphanedPaths);
+
+        addToIndex(entries, progressHandler, isCanceled);
     }
 
     public void addToIndex(List<BibEntry> entries) {
-        int count = 0;
-        for (BibEntry entry : entries) {
-            addToIndex(entry, false);
-            count++;
-            if (count % 100 == 0) {
+        addToIndex(entries, (indexedFiles, files) -> {
+        }, () -> false);
+    }
+
+    /**
+     * Adds all PDF files linked to the given entries to the index. Files which are already indexed and up-to-date are
+     * skipped.
+     * <p>
+     * The text of the files is extracted in parallel. The changes are committed once per batch of files.
+     *
+     * @param progressHandler called with the number of processed files and the number of files to process
+     * @param isCanceled      checked after each file. Files processed so far are kept in the index.
+     */
+    public void addToIndex(List<BibEntry> entries, BiConsumer<Integer, Integer> progressHandler, BooleanSupplier isCanceled) {
+        Optional<IndexWriter> optionalIndexWriter = getIndexWriter();
+        if (optionalIndexWriter.isEmpty()) {
+            return;
+        }
+        IndexWriter writer = optionalIndexWriter.get();
+
+        List<FileToIndex> filesToIndex = getFilesToIndex(entries, writer);
+        int numberOfFiles = filesToIndex.size();
+        progressHandler.accept(0, numberOfFiles);
+        if (filesToIndex.isEmpty()) {
+            // Modification times of touched files might have been updated
+            if (writer.hasUncommittedChanges()) {
                 doCommit();
             }
+            return;
         }
-        doCommit();
-        LOGGER.debug("Added {} documents to the index.", count);
+
+        ExecutorService executor = Executors.newFixedThreadPool(EXTRACTION_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("pdf-indexer-%d").setDaemon(true).build());
+        CompletionService<List<Document>> extractedFiles = new ExecutorCompletionService<>(executor);
+        int submittedFiles = 0;
+        int processedFiles = 0;
+        int uncommittedFiles = 0;
+        Instant lastCommit = Instant.now();
+        try {
+            while ((processedFiles < numberOfFiles) && !isCanceled.getAsBoolean()) {
+                while ((submittedFiles < numberOfFiles) && ((submittedFiles - processedFiles) < MAX_PENDING_FILES)) {
+                    FileToIndex file = filesToIndex.get(submittedFiles++);
+                    extractedFiles.submit(() -> new DocumentReader(file.entry(), filePreferences, textCache)
+                            .readLinkedPdf(databaseContext, file.linkedFile())
+                            .orElse(List.of()));
+                }
+
+                Future<List<Document>> extractedFile = extractedFiles.take();
+                try {
+                    List<Document> pages = extractedFile.get();
+                    if (!pages.isEmpty()) {
+                        writer.addDocuments(pages);
+                    }
+                } catch (ExecutionException e) {
+                    LOGGER.warn("Could not extract text for the index.", e.getCause());
+                }
+                processedFiles++;
+                uncommittedFiles++;
+                progressHandler.accept(processedFiles, numberOfFiles);
+
+                if ((uncommittedFiles >= FILES_PER_COMMIT) || Duration.between(lastCommit, Instant.now()).compareTo(MAX_TIME_BETWEEN_COMMITS) > 0) {
+                    writer.commit();
+                    uncommittedFiles = 0;
+                    lastCommit = Instant.now();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LOGGER.warn("Could not add documents to the index.", e);
+        } finally {
+            executor.shutdownNow();
+            doCommit();
+        }
+        LOGGER.debug("Added {} files to the index.", processedFiles);
+    }
+
+    /**
+     * Determines the linked PDF files of the given entries which are not yet indexed or outdated. Outdated files are
+     * removed from the index.
+     */
+    private List<FileToIndex> getFilesToIndex(List<BibEntry> entries, IndexWriter writer) {
+        List<FileToIndex> filesToIndex = new ArrayList<>();
+        List<Term> outdatedFiles = new ArrayList<>();
+        Set<String> seenLinks = new HashSet<>();
+        try (IndexReader reader = DirectoryReader.open(writer)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            for (BibEntry entry : entries) {
+                for (LinkedFile linkedFile : entry.getFiles()) {
+                    // A file linked by several entries is indexed once
+                    if (!isPdf(linkedFile) || !seenLinks.add(linkedFile.getLink())) {
+                        continue;
+                    }
+                    Optional<Path> resolvedPath = linkedFile.findIn(databaseContext, filePreferences);
+                    if (resolvedPath.isEmpty()) {
+                        LOGGER.debug("Could not find {}", linkedFile.getLink());
+                        continue;
+                    }
+                    switch (getIndexState(searcher, linkedFile.getLink(), resolvedPath.get())) {
+                        case UP_TO_DATE -> LOGGER.debug("File {} is already indexed and up-to-date.", linkedFile.getLink());
+                        case TOUCHED -> updateModificationTime(searcher, writer, linkedFile.getLink(), resolvedPath.get());
+                        case OUTDATED -> {
+                            outdatedFiles.add(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
+                            filesToIndex.add(new FileToIndex(entry, linkedFile));
+                        }
+                        case NOT_INDEXED -> filesToIndex.add(new FileToIndex(entry, linkedFile));
+                    }
+                }
+            }
+            if (!outdatedFiles.isEmpty()) {
+                LOGGER.debug("Removing {} outdated files from the index.", outdatedFiles.size());
+                writer.deleteDocuments(outdatedFiles.toArray(Term[]::new));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not determine the files to index.", e);
+        }
+        return filesToIndex;
+    }
+
+    private enum IndexState {
+        NOT_INDEXED, OUTDATED, UP_TO_DATE,
+        /**
+         * The modification time of the file changed, but its content did not
+         */
+        TOUCHED
+    }
+
+    /**
+     * Compares the fingerprint stored in the index with the one of the file. The content hash of the file is only
+     * computed if size or modification time differ.
+     */
+    private static IndexState getIndexState(IndexSearcher searcher, String link, Path resolvedPath) throws IOException {
+        TopDocs topDocs = searcher.search(new TermQuery(new Term(SearchFieldConstants.PATH, link)), 1);
+        if (topDocs.scoreDocs.length == 0) {
+            return IndexState.NOT_INDEXED;
+        }
+        Document doc = searcher.getIndexReader().storedFields().document(topDocs.scoreDocs[0].doc, FINGERPRINT_FIELDS);
+        IndexableField modifiedField = doc.getField(SearchFieldConstants.MODIFIED);
+        IndexableField sizeField = doc.getField(SearchFieldConstants.SIZE);
+        IndexableField hashField = doc.getField(SearchFieldConstants.HASH);
+        if ((modifiedField == null) || (sizeField == null) || (hashField == null)) {
+            // Indexed by an older version of JabRef
+            return IndexState.OUTDATED;
+        }
+
+        FileFingerprint fingerprint = FileFingerprint.of(resolvedPath);
+        if (fingerprint.size() != Long.parseLong(sizeField.stringValue())) {
+            return IndexState.OUTDATED;
+        }
+        if (Long.parseLong(modifiedField.stringValue()) >= fingerprint.modified()) {
+            return IndexState.UP_TO_DATE;
+        }
+        // The file was touched, but its content might be the same
+        if (hashField.stringValue().equals(FileFingerprint.hash(resolvedPath))) {
+            return IndexState.TOUCHED;
+        }
+        return IndexState.OUTDATED;
+    }
+
+    /**
+     * Stores the current modification time of a touched file with each of its pages. Otherwise, the file would be
+     * hashed again on each update of the index.
+     */
+    private static void updateModificationTime(IndexSearcher searcher, IndexWriter writer, String link, Path resolvedPath) throws IOException {
+        LOGGER.debug("File {} was touched, but its content did not change. Updating its modification time.", link);
+        Term pathTerm = new Term(SearchFieldConstants.PATH, link);
+        IndexReader reader = searcher.getIndexReader();
+        TopDocs topDocs = searcher.search(new TermQuery(pathTerm), Math.max(1, reader.maxDoc()));
+        String modified = String.valueOf(FileFingerprint.of(resolvedPath).modified());
+
+        // Lucene cannot update a stored field in place. Thus, the pages are restored from their stored fields, which
+        // are all fields written by DocumentReader.
+        StoredFields storedFields = reader.storedFields();
+        List<Document> pages = new ArrayList<>(topDocs.scoreDocs.length);
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            Document page = new Document();
+            for (IndexableField field : storedFields.document(scoreDoc.doc)) {
+                switch (field.name()) {
+                    case SearchFieldConstants.MODIFIED ->
+                            page.add(new StringField(SearchFieldConstants.MODIFIED, modified, Field.Store.YES));
+                    case SearchFieldConstants.CONTENT, SearchFieldConstants.ANNOTATIONS ->
+                            page.add(new TextField(field.name(), field.stringValue(), Field.Store.YES));
+                    default ->
+                            page.add(new StringField(field.name(), field.stringValue(), Field.Store.YES));
+                }
+            }
+            pages.add(page);
+        }
+        writer.updateDocuments(pathTerm, pages);
+    }
+
+    private static boolean isPdf(LinkedFile linkedFile) {
+        return !linkedFile.isOnlineLink() &&
+                (StandardFileType.PDF.getName().equals(linkedFile.getFileType()) ||
+                        // We do not require the file type to be set
+                        linkedFile.getLink().endsWith(".pdf") || linkedFile.getLink().endsWith(".PDF"));
     }
 
     /**
@@ -178,13 +422,6 @@ public class PdfIndexer {
         addToIndex(entry, entry.getFiles(), true);
     }
 
-    private void addToIndex(BibEntry entry, boolean shouldCommit) {
-        addToIndex(entry, entry.getFiles(), false);
-        if (shouldCommit) {
-            doCommit();
-        }
-    }
-
     /**
      * Adds a list of pdf files linked to one entry in the database to an existing (or new) Lucene search index
      *
@@ -217,14 +454,7 @@ public class PdfIndexer {
      * @param linkedFilePath the path to the file to be removed
      */
     public void removeFromIndex(String linkedFilePath) {
-        try {
-            getIndexWriter().ifPresent(Unchecked.consumer(writer -> {
-                writer.deleteDocuments(new Term(SearchFieldConstants.PATH, linkedFilePath));
-                writer.commit();
-            }));
-        } catch (UncheckedIOException e) {
-            LOGGER.debug("Could not remove document {} from the index.", linkedFilePath, e);
-        }
+        removePathsFromIndex(List.of(linkedFilePath));
     }
 
     /**
@@ -240,14 +470,26 @@ public class PdfIndexer {
      * Removes a list of files linked to a bib-entry from the index
      */
     public void removeFromIndex(Collection<LinkedFile> linkedFiles) {
-        for (LinkedFile linkedFile : linkedFiles) {
-            removeFromIndex(linkedFile.getLink());
-        }
+        removePathsFromIndex(linkedFiles.stream().map(LinkedFile::getLink).toList());
     }
 
+    /**
+     * Removes the files identified by their paths from the index using a single commit
+     */
     public void removePathsFromIndex(Collection<String> linkedFiles) {
-        for (String linkedFile : linkedFiles) {
-            removeFromIndex(linkedFile);
+        if (linkedFiles.isEmpty()) {
+            return;
+        }
+        Term[] terms = linkedFiles.stream()
+                                  .map(linkedFile -> new Term(SearchFieldConstants.PATH, linkedFile))
+                                  .toArray(Term[]::new);
+        try {
+            getIndexWriter().ifPresent(Unchecked.consumer(writer -> {
+                writer.deleteDocuments(terms);
+                writer.commit();
+            }));
+        } catch (UncheckedIOException e) {
+            LOGGER.debug("Could not remove documents {} from the index.", linkedFiles, e);
         }
     }
 
@@ -263,10 +505,7 @@ public class PdfIndexer {
     }
 
     private void addToIndex(BibEntry entry, LinkedFile linkedFile, boolean shouldCommit) {
-        if (linkedFile.isOnlineLink() ||
-                (!StandardFileType.PDF.getName().equals(linkedFile.getFileType()) &&
-                        // We do not require the file type to be set
-                        (!linkedFile.getLink().endsWith(".pdf") && !linkedFile.getLink().endsWith(".PDF")))) {
+        if (!isPdf(linkedFile)) {
             return;
         }
         Optional<Path> resolvedPath = linkedFile.findIn(databaseContext, filePreferences);
@@ -274,31 +513,33 @@ public class PdfIndexer {
             LOGGER.debug("Could not find {}", linkedFile.getLink());
             return;
         }
+        Optional<IndexWriter> optionalIndexWriter = getIndexWriter();
+        if (optionalIndexWriter.isEmpty()) {
+            return;
+        }
         try {
             // Check if a document with this path is already in the index
-            try {
-                IndexSearcher searcher = new IndexSearcher(reader);
-                TermQuery query = new TermQuery(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
-                TopDocs topDocs = searcher.search(query, 1);
-                // If a document was found, check if is less current than the one in the FS
-                if (topDocs.scoreDocs.length > 0) {
-                    Document doc = reader.storedFields().document(topDocs.scoreDocs[0].doc);
-                    long indexModificationTime = Long.parseLong(doc.getField(SearchFieldConstants.MODIFIED).stringValue());
-                    BasicFileAttributes attributes = Files.readAttributes(resolvedPath.get(), BasicFileAttributes.class);
-                    if (indexModificationTime >= attributes.lastModifiedTime().to(TimeUnit.SECONDS)) {
-                        LOGGER.debug("File {} is already indexed and up-to-date.", linkedFile.getLink());
-                        return;
-                    } else {
-                        LOGGER.debug("File {} is already indexed but outdated. Removing from index.", linkedFile.getLink());
-                        removeFromIndex(linkedFile.getLink());
+            try (IndexReader reader = DirectoryReader.open(optionalIndexWriter.get())) {
+                IndexState indexState = getIndexState(new IndexSearcher(reader), linkedFile.getLink(), resolvedPath.get());
+                if (indexState == IndexState.UP_TO_DATE) {
+                    LOGGER.debug("File {} is already indexed and up-to-date.", linkedFile.getLink());
+                    return;
+                } else if (indexState == IndexState.TOUCHED) {
+                    updateModificationTime(new IndexSearcher(reader), optionalIndexWriter.get(), linkedFile.getLink(), resolvedPath.get());
+                    if (shouldCommit) {
+                        optionalIndexWriter.get().commit();
                     }
+                    return;
+                } else if (indexState == IndexState.OUTDATED) {
+                    LOGGER.debug("File {} is already indexed but outdated. Removing from index.", linkedFile.getLink());
+                    optionalIndexWriter.get().deleteDocuments(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
                 }
             } catch (IndexNotFoundException e) {
                 LOGGER.debug("Index not found. Continuing.", e);
             }
             LOGGER.debug("Adding {} to index", linkedFile.getLink());
             // If no document was found, add the new one
-            Optional<List<Document>> pages = new DocumentReader(entry, filePreferences).readLinkedPdf(this.databaseContext, linkedFile);
+            Optional<List<Document>> pages = new DocumentReader(entry, filePreferences, textCache).readLinkedPdf(this.databaseContext, linkedFile);
             if (pages.isPresent()) {
                 getIndexWriter().ifPresent(Unchecked.consumer(writer -> {
                     writer.addDocuments(pages.get());
@@ -327,12 +568,17 @@ public class PdfIndexer {
             return paths;
         }
         try (IndexReader reader = DirectoryReader.open(optionalIndexWriter.get())) {
-            IndexSearcher searcher = new IndexSearcher(reader);
-            MatchAllDocsQuery query = new MatchAllDocsQuery();
-            TopDocs allDocs = searcher.search(query, Integer.MAX_VALUE);
-            for (ScoreDoc scoreDoc : allDocs.scoreDocs) {
-                Document doc = reader.storedFields().document(scoreDoc.doc);
-                paths.add(doc.getField(SearchFieldConstants.PATH).stringValue());
+            // Each page is a document. Only the path is loaded, not the (large) content of the page.
+            Set<String> fieldsToLoad = Set.of(SearchFieldConstants.PATH);
+            StoredFields storedFields = reader.storedFields();
+            Bits liveDocs = MultiBits.getLiveDocs(reader);
+            for (int docId = 0; docId < reader.maxDoc(); docId++) {
+                if ((liveDocs == null) || liveDocs.get(docId)) {
+                    IndexableField path = storedFields.document(docId, fieldsToLoad).getField(SearchFieldConstants.PATH);
+                    if (path != null) {
+                        paths.add(path.stringValue());
+                    }
+                }
             }
         } catch (IOException e) {
             LOGGER.debug("Could not read from index. Returning intermediate result.", e);
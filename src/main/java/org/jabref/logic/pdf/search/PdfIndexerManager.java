@@ -4,7 +4,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.preferences.FilePreferences;
 
@@ -19,6 +21,9 @@ import org.slf4j.LoggerFactory;
  * or the file preferences, we need to create a new PdfIndexer. Otherwise, we can reuse the existing one.
  * <p>
  * This manager implements a <a href="https://www.neatcode.org/object-pool/">Object Pool pattern</a> for {@link PdfIndexer}.
+ * <p>
+ * All indexers share one {@link PdfTextCache}, which has to be set using {@link #setTextCache(PdfTextCache)} before the
+ * first indexer is requested.
  */
 public class PdfIndexerManager {
 
@@ -30,7 +35,16 @@ public class PdfIndexerManager {
     // We store the file preferences for each path, so that we can update the indexer when the preferences change
     private static Map<Path, FilePreferences> pathFilePreferencesMap = new HashMap<>();
 
+    private static PdfTextCache textCache;
+
+    public static void setTextCache(PdfTextCache textCache) {
+        PdfIndexerManager.textCache = Objects.requireNonNull(textCache);
+    }
+
     public static @NonNull PdfIndexer getIndexer(BibDatabaseContext context, FilePreferences filePreferences) throws IOException {
+        if (textCache == null) {
+            throw new IllegalStateException("The text cache has to be set before requesting an indexer");
+        }
         Path fulltextIndexPath = context.getFulltextIndexPath();
         PdfIndexer indexer = indexerMap.get(fulltextIndexPath);
         if (indexer != null) {
@@ -42,13 +56,13 @@ public class PdfIndexerManager {
             }
             LOGGER.debug("File preferences have changed, updating indexer");
             indexer.close();
-            indexer = PdfIndexer.of(context, filePreferences);
+            indexer = PdfIndexer.of(context, filePreferences, textCache);
             indexerMap.put(fulltextIndexPath, indexer);
             pathFilePreferencesMap.put(fulltextIndexPath, filePreferences);
             return indexer;
         }
         LOGGER.debug("No indexer found for context {}, creating new one", context);
-        indexer = PdfIndexer.of(context, filePreferences);
+        indexer = PdfIndexer.of(context, filePreferences, textCache);
         indexerMap.put(fulltextIndexPath, indexer);
         pathFilePreferencesMap.put(fulltextIndexPath, filePreferences);
         return indexer;
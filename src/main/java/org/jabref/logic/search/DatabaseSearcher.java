@@ -3,10 +3,13 @@ package org.jabref.logic.search;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.FieldTokenIndex;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,10 +20,21 @@ public class DatabaseSearcher {
     private final SearchQuery query;
 
     private final BibDatabase database;
+    private final Optional<FieldTokenIndex> index;
 
     public DatabaseSearcher(SearchQuery query, BibDatabase database) {
         this.query = Objects.requireNonNull(query);
         this.database = Objects.requireNonNull(database);
+        this.index = Optional.empty();
+    }
+
+    /**
+     * @param index an index of the given database used to narrow down the entries the query is evaluated on
+     */
+    public DatabaseSearcher(SearchQuery query, BibDatabase database, FieldTokenIndex index) {
+        this.query = Objects.requireNonNull(query);
+        this.database = Objects.requireNonNull(database);
+        this.index = Optional.of(index);
     }
 
     /**
@@ -34,7 +48,11 @@ public class DatabaseSearcher {
             return Collections.emptyList();
         }
 
-        List<BibEntry> matchEntries = database.getEntries().stream().filter(query::isMatch).toList();
+        Optional<Set<BibEntry>> candidates = index.flatMap(query::getCandidates);
+        List<BibEntry> matchEntries = database.getEntries().stream()
+                                              .filter(entry -> candidates.map(candidateSet -> candidateSet.contains(entry)).orElse(true))
+                                              .filter(query::isMatch)
+                                              .toList();
         return BibDatabases.purgeEmptyEntries(matchEntries);
     }
 }
@@ -5,12 +5,14 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.FieldTokenIndex;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.rules.ContainsBasedSearchRule;
 import org.jabref.model.search.rules.GrammarBasedSearchRule;
@@ -77,6 +79,16 @@ public class SearchQuery implements SearchMatcher {
         return rule.applyRule(getQuery(), entry);
     }
 
+    /**
+     * Determines the entries which might match this query using the given index. Only these entries need to be checked
+     * using {@link #isMatch(BibEntry)}.
+     *
+     * @return the candidates (compared by identity), or an empty optional if all entries need to be checked
+     */
+    public Optional<Set<BibEntry>> getCandidates(FieldTokenIndex index) {
+        return rule.getCandidates(getQuery(), index).map(index::getEntries);
+    }
+
     public boolean isValid() {
         return rule.validateSearchStrings(getQuery());
     }
@@ -5,7 +5,9 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,6 +42,11 @@ public abstract class DBMSProcessor {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
+    /**
+     * Maximal number of entries or fields sent or requested by one statement or one JDBC batch
+     */
+    private static final int BATCH_SIZE = 500;
+
     protected final Connection connection;
 
     protected DatabaseConnectionProperties connectionProperties;
@@ -168,7 +175,10 @@ public abstract class DBMSProcessor {
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
+        // The number of parameters of the multi-row insert is limited by the database systems
+        for (List<BibEntry> partition : Lists.partition(notYetExistingEntries, BATCH_SIZE)) {
+            insertIntoEntryTable(partition);
+        }
         insertIntoFieldTable(notYetExistingEntries);
     }
 
@@ -217,7 +227,7 @@ public abstract class DBMSProcessor {
      * @return <code>true</code> if existent, else <code>false</code>
      */
     private List<BibEntry> getNotYetExistingEntries(List<BibEntry> bibEntries) {
-        List<Integer> remoteIds = new ArrayList<>();
+        Set<Integer> remoteIds = new HashSet<>();
         List<Integer> localIds = bibEntries.stream()
                                            .map(BibEntry::getSharedBibEntryData)
                                            .map(SharedBibEntryData::getSharedID)
@@ -227,10 +237,13 @@ public abstract class DBMSProcessor {
             return bibEntries;
         }
         try {
-            String selectQuery = "SELECT * FROM " +
+            String selectQuery = "SELECT " +
+                    escape("SHARED_ID") +
+                    " FROM " +
                     escape_Table("ENTRY");
 
-            try (ResultSet resultSet = connection.createStatement().executeQuery(selectQuery)) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(selectQuery)) {
                 while (resultSet.next()) {
                     int id = resultSet.getInt("SHARED_ID");
                     remoteIds.add(id);
@@ -245,56 +258,66 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Inserts the given list of BibEntry into FIELD table.
+     * Inserts the given list of BibEntry into FIELD table. The fields are sent in JDBC batches using one prepared
+     * statement and are committed at once.
      *
      * @param bibEntries {@link BibEntry} to be inserted
      */
     protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
         try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
-
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape_Table("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
-
-            if (numFields == 0) {
-                return; // Prevent SQL Exception
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+            try {
+                insertFields(bibEntries);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback(); // undo changes made in current transaction
+                throw e;
+            } finally {
+                connection.setAutoCommit(true); // enable auto commit mode again
             }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
 
-            // Number of commas is fields.size() - 1
-            insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, (numFields - 1))));
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
+    private void insertFields(List<BibEntry> bibEntries) throws SQLException {
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(getInsertFieldQuery())) {
+            int fieldsInBatch = 0;
+            for (BibEntry bibEntry : bibEntries) {
+                for (Map.Entry<Field, String> field : bibEntry.getFieldMap().entrySet()) {
+                    addFieldToBatch(preparedFieldStatement, bibEntry.getSharedBibEntryData().getSharedID(), field.getKey(), field.getValue());
+                    fieldsInBatch++;
+                    if (fieldsInBatch == BATCH_SIZE) {
+                        preparedFieldStatement.executeBatch();
+                        fieldsInBatch = 0;
                     }
                 }
-                preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+            if (fieldsInBatch > 0) {
+                preparedFieldStatement.executeBatch();
+            }
         }
     }
 
+    private String getInsertFieldQuery() {
+        return "INSERT INTO " +
+                escape_Table("FIELD") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ", " +
+                escape("VALUE") +
+                ") VALUES(?, ?, ?)";
+    }
+
+    private static void addFieldToBatch(PreparedStatement preparedFieldStatement, int sharedID, Field field, String value) throws SQLException {
+        preparedFieldStatement.setInt(1, sharedID);
+        preparedFieldStatement.setString(2, field.getName());
+        preparedFieldStatement.setString(3, value);
+        preparedFieldStatement.addBatch();
+    }
+
     /**
      * Updates the whole {@link BibEntry} on shared database.
      *
@@ -319,7 +342,7 @@ public abstract class DBMSProcessor {
             // update only if local version is higher or the entries are equal
             if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
                                                                                      .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
-                insertOrUpdateFields(localBibEntry);
+                insertOrUpdateFields(localBibEntry, sharedBibEntry);
 
                 // updating entry type
                 String updateEntryTypeQuery = "UPDATE " +
@@ -358,90 +381,67 @@ public abstract class DBMSProcessor {
     private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
         Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
         nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            String deleteFieldQuery = "DELETE FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery)) {
+        if (nullFields.isEmpty()) {
+            return;
+        }
+
+        String deleteFieldQuery = "DELETE FROM " +
+                escape_Table("FIELD") +
+                " WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+
+        try (PreparedStatement preparedDeleteFieldStatement = connection.prepareStatement(deleteFieldQuery)) {
+            for (Field nullField : nullFields) {
                 preparedDeleteFieldStatement.setString(1, nullField.getName());
                 preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
+                preparedDeleteFieldStatement.addBatch();
             }
+            preparedDeleteFieldStatement.executeBatch();
         }
     }
 
     /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
+     * Helping method. Inserts a key-value pair into FIELD table for every field not existing on the shared entry.
+     * Fields existing on the shared entry are only updated if their value differs. Both are sent as JDBC batches.
      */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
-            }
-
-            String selectFieldQuery = "SELECT * FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery)) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        String updateFieldQuery = "UPDATE " +
-                                escape_Table("FIELD") +
-                                " SET " +
-                                escape("VALUE") +
-                                " = ? WHERE " +
-                                escape("NAME") +
-                                " = ? AND " +
-                                escape("ENTRY_SHARED_ID") +
-                                " = ?";
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery)) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        String insertFieldQuery = "INSERT INTO " +
-                                escape_Table("FIELD") +
-                                "(" +
-                                escape("ENTRY_SHARED_ID") +
-                                ", " +
-                                escape("NAME") +
-                                ", " +
-                                escape("VALUE") +
-                                ") VALUES(?, ?, ?)";
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery)) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
+    private void insertOrUpdateFields(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+        int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+        String updateFieldQuery = "UPDATE " +
+                escape_Table("FIELD") +
+                " SET " +
+                escape("VALUE") +
+                " = ? WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+
+        try (PreparedStatement preparedUpdateFieldStatement = connection.prepareStatement(updateFieldQuery);
+             PreparedStatement preparedInsertFieldStatement = connection.prepareStatement(getInsertFieldQuery())) {
+            boolean hasUpdates = false;
+            boolean hasInserts = false;
+            for (Map.Entry<Field, String> field : localBibEntry.getFieldMap().entrySet()) {
+                Optional<String> sharedValue = sharedBibEntry.getField(field.getKey());
+                if (sharedValue.isEmpty()) {
+                    addFieldToBatch(preparedInsertFieldStatement, sharedID, field.getKey(), field.getValue());
+                    hasInserts = true;
+                } else if (!sharedValue.get().equals(field.getValue())) {
+                    preparedUpdateFieldStatement.setString(1, field.getValue());
+                    preparedUpdateFieldStatement.setString(2, field.getKey().getName());
+                    preparedUpdateFieldStatement.setInt(3, sharedID);
+                    preparedUpdateFieldStatement.addBatch();
+                    hasUpdates = true;
                 }
             }
+            if (hasUpdates) {
+                preparedUpdateFieldStatement.executeBatch();
+            }
+            if (hasInserts) {
+                preparedInsertFieldStatement.executeBatch();
+            }
         }
     }
 
@@ -488,13 +488,13 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Queries the database for shared entries in 500 element batches.
+     * Queries the database for shared entries in batches of {@value #BATCH_SIZE} entries.
      * Optionally, they are filtered by the given list of sharedIds
      *
      * @param sharedIDs the list of Ids to filter. If list is empty, then no filter is applied
      */
     public List<BibEntry> partitionAndGetSharedEntries(List<Integer> sharedIDs) {
-        List<List<Integer>> partitions = Lists.partition(sharedIDs, 500);
+        List<List<Integer>> partitions = Lists.partition(sharedIDs, BATCH_SIZE);
         List<BibEntry> result = new ArrayList<>();
 
         for (List<Integer> sublist : partitions) {
@@ -584,12 +584,17 @@ public abstract class DBMSProcessor {
      */
     public Map<Integer, Integer> getSharedIDVersionMapping() {
         Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
-        String selectEntryQuery = "SELECT * FROM " +
+        String selectEntryQuery = "SELECT " +
+                escape("SHARED_ID") +
+                ", " +
+                escape("VERSION") +
+                " FROM " +
                 escape_Table("ENTRY") +
                 " ORDER BY " +
                 escape("SHARED_ID");
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery)) {
+        try (Statement statement = connection.createStatement();
+             ResultSet selectEntryResultSet = statement.executeQuery(selectEntryQuery)) {
             while (selectEntryResultSet.next()) {
                 sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
             }
@@ -704,4 +709,12 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about changes of the given
+     * shared entries. Clients may then pull these entries only. By default, this is the same as {@link #notifyClients()}.
+     */
+    public void notifyClients(Collection<Integer> sharedIDs) {
+        notifyClients();
+    }
 }
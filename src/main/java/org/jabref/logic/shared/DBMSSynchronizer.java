@@ -3,11 +3,13 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.FieldPreferences;
@@ -45,6 +47,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
 
+    private static final int MAX_PENDING_ENTRIES = 50;
+
     private DBMSProcessor dbmsProcessor;
     private String dbName;
     private final BibDatabaseContext bibDatabaseContext;
@@ -56,7 +60,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final GlobalCitationKeyPatterns globalCiteKeyPattern;
     private final FieldPreferences fieldPreferences;
     private final FileUpdateMonitor fileMonitor;
-    private Optional<BibEntry> lastEntryChanged;
+    // Locally changed entries which are pushed with the next synchronization (keyed by id, because BibEntry#equals compares the fields)
+    // Changed by the JavaFX thread and drained by the thread listening for notifications of other clients, thus all
+    // accesses are synchronized on the map
+    private final Map<String, BibEntry> pendingEntries = new LinkedHashMap<>();
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             FieldPreferences fieldPreferences,
@@ -69,7 +76,6 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         this.eventBus = new EventBus();
         this.keywordSeparator = keywordSeparator;
         this.globalCiteKeyPattern = Objects.requireNonNull(globalCiteKeyPattern);
-        this.lastEntryChanged = Optional.empty();
     }
 
     /**
@@ -81,16 +87,19 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            pushPendingEntries();
             synchronizeLocalDatabase();
             dbmsProcessor.insertEntries(event.getBibEntries());
-            // Reset last changed entry because it just has already been synchronized -> Why necessary?
-            lastEntryChanged = Optional.empty();
+            dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
         }
     }
 
     /**
      * Listening method. Updates an existing shared {@link BibEntry}.
+     * <p>
+     * Changes which are filtered out (e.g., typing in the entry editor) are not pushed at once. The changed entries are
+     * queued, so that further changes of an entry are coalesced into one update. The queue is pushed with the next
+     * synchronization or as soon as it holds {@value #MAX_PENDING_ENTRIES} entries.
      */
     @Subscribe
     public void listen(FieldChangedEvent event) {
@@ -99,12 +108,22 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
         if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(event) && checkCurrentConnection() && !event.isFilteredOut()) {
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            synchronized (pendingEntries) {
+                pendingEntries.remove(bibEntry.getId());
+            }
+            pushPendingEntries();
             synchronizeSharedEntry(bibEntry);
             synchronizeLocalDatabase(); // Pull changes for the case that there were some
-        } else {
-            // Set new BibEntry that has been changed last
-            lastEntryChanged = Optional.of(bibEntry);
+        } else if (isEventSourceAccepted(event)) {
+            // Changes pulled from the shared database need not be pushed back
+            boolean isQueueFull;
+            synchronized (pendingEntries) {
+                pendingEntries.put(bibEntry.getId(), bibEntry);
+                isQueueFull = pendingEntries.size() >= MAX_PENDING_ENTRIES;
+            }
+            if (isQueueFull) {
+                pullLastEntryChanges();
+            }
         }
     }
 
@@ -117,8 +136,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // In this case DBSynchronizer should not try to delete the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            pushPendingEntries();
             dbmsProcessor.removeEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
             synchronizeLocalDatabase();
         }
     }
@@ -180,38 +200,31 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = localEntries.stream()
+                                                                          .collect(Collectors.groupingBy(entry -> entry.getSharedBibEntryData().getSharedID()));
+
+        // compare versions to find the entries changed on the shared database
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (matchingLocalEntries == null) {
+                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (matchingLocalEntries.stream().anyMatch(localEntry -> idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+
+        if (!entriesToUpdateInLocalDatabase.isEmpty()) {
+            // fetch all changed entries at once instead of querying each entry on its own
+            for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(entriesToUpdateInLocalDatabase)) {
+                int sharedID = sharedEntry.getSharedBibEntryData().getSharedID();
+                for (BibEntry localEntry : localEntriesBySharedID.get(sharedID)) {
+                    if (idVersionMap.get(sharedID) > localEntry.getSharedBibEntryData().getVersion()) {
+                        updateLocalEntry(localEntry, sharedEntry);
                     }
                 }
             }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
-                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
-            }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
@@ -220,6 +233,26 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Copies type, version, and fields of the shared entry to the local one.
+     */
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData()
+                  .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        sharedEntry.getFieldMap().forEach(
+                // copy remote values to local entry
+                (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+        );
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(
+                          field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                  );
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -231,6 +264,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
                 localEntries.stream()
                             .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
                             .collect(Collectors.toList());
+        removeLocalEntries(entriesToRemove);
+    }
+
+    private void removeLocalEntries(List<BibEntry> entriesToRemove) {
         if (!entriesToRemove.isEmpty()) {
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
@@ -249,6 +286,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         try {
             BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences); // perform possibly existing save actions
             dbmsProcessor.updateEntry(bibEntry);
+            dbmsProcessor.notifyClients(List.of(bibEntry.getSharedBibEntryData().getSharedID()));
         } catch (OfflineLockException exception) {
             eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
         } catch (SQLException e) {
@@ -318,34 +356,84 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
         // First synchronize entry, then synchronize database
-        pullWithLastEntry();
+        pushPendingEntries();
         synchronizeLocalDatabase();
         synchronizeLocalMetaData();
     }
 
     /**
-     * Synchronizes local BibEntries only if last entry changes still remain
+     * Pulls the changes of the given shared entries only, e.g., as notified by another client. In contrast to
+     * {@link #pullChanges()}, the other shared entries are not compared with the local ones.
+     */
+    public void pullChanges(Set<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty() || !checkCurrentConnection()) {
+            return;
+        }
+        pushPendingEntries();
+
+        List<BibEntry> sharedEntries = dbmsProcessor.partitionAndGetSharedEntries(new ArrayList<>(sharedIDs));
+        Map<Integer, BibEntry> sharedEntriesByID = sharedEntries.stream()
+                                                                .collect(Collectors.toMap(entry -> entry.getSharedBibEntryData().getSharedID(), Function.identity()));
+        Set<Integer> localSharedIDs = new HashSet<>();
+        List<BibEntry> entriesToRemove = new ArrayList<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            int sharedID = localEntry.getSharedBibEntryData().getSharedID();
+            if (!sharedIDs.contains(sharedID)) {
+                continue;
+            }
+            localSharedIDs.add(sharedID);
+            BibEntry sharedEntry = sharedEntriesByID.get(sharedID);
+            if (sharedEntry == null) {
+                entriesToRemove.add(localEntry);
+            } else if (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion()) {
+                updateLocalEntry(localEntry, sharedEntry);
+            }
+        }
+        removeLocalEntries(entriesToRemove);
+
+        List<BibEntry> entriesToInsert = sharedEntries.stream()
+                                                      .filter(entry -> !localSharedIDs.contains(entry.getSharedBibEntryData().getSharedID()))
+                                                      .toList();
+        if (!entriesToInsert.isEmpty()) {
+            bibDatabase.insertEntries(entriesToInsert, EntriesEventSource.SHARED);
+        }
+    }
+
+    /**
+     * Synchronizes local BibEntries only if pending entry changes still remain
      */
     public void pullLastEntryChanges() {
-        if (!lastEntryChanged.isEmpty()) {
+        boolean hasPendingEntries;
+        synchronized (pendingEntries) {
+            hasPendingEntries = !pendingEntries.isEmpty();
+        }
+        if (hasPendingEntries) {
             if (!checkCurrentConnection()) {
                 return;
             }
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            pushPendingEntries();
             // Pull changes for the case that there were some
             synchronizeLocalDatabase();
         }
     }
 
     /**
-     * Synchronizes local BibEntries and pulls remaining last entry changes
+     * Pushes the pending entry changes to the shared database
      */
-    private void pullWithLastEntry() {
-        if (!lastEntryChanged.isEmpty() && isPresentLocalBibEntry(lastEntryChanged.get())) {
-            synchronizeSharedEntry(lastEntryChanged.get());
+    private void pushPendingEntries() {
+        // Copy first, as applying the save actions may change the entries again
+        // The lock is not held while pushing, so that changing an entry does not wait for the database
+        List<BibEntry> entries;
+        synchronized (pendingEntries) {
+            entries = List.copyOf(pendingEntries.values());
+            pendingEntries.clear();
+        }
+        for (BibEntry entry : entries) {
+            if (isPresentLocalBibEntry(entry)) {
+                synchronizeSharedEntry(entry);
+            }
         }
-        lastEntryChanged = Optional.empty();
     }
 
     /**
@@ -400,8 +488,14 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    private static List<Integer> getSharedIDs(List<BibEntry> bibEntries) {
+        return bibEntries.stream()
+                         .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                         .toList();
+    }
+
     private boolean isPresentLocalBibEntry(BibEntry bibEntry) {
-        return bibDatabase.getEntries().contains(bibEntry);
+        return bibDatabase.containsEntryWithId(bibEntry.getId());
     }
 
     @Override
@@ -4,8 +4,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
 import org.jabref.logic.util.HeadlessExecutorService;
@@ -19,8 +21,13 @@ import org.postgresql.PGConnection;
  */
 public class PostgreSQLProcessor extends DBMSProcessor {
 
+    // The payload of a notification is limited to 8000 bytes. If more entries changed, all changes are pulled.
+    private static final int MAX_NOTIFIED_ENTRIES = 500;
+
     private PostgresSQLNotificationListener listener;
 
+    private final AtomicLong notificationSequenceNumber = new AtomicLong();
+
     private int VERSION_DB_STRUCT_DEFAULT = -1;
     private final int CURRENT_VERSION_DB_STRUCT = 1;
 
@@ -166,8 +173,26 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
     @Override
     public void notifyClients() {
-        try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+        notifyClients(PostgresSQLNotificationListener.createPayload(PROCESSOR_ID, notificationSequenceNumber.incrementAndGet()));
+    }
+
+    @Override
+    public void notifyClients(Collection<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty()) {
+            return;
+        }
+        if (sharedIDs.size() > MAX_NOTIFIED_ENTRIES) {
+            notifyClients();
+        } else {
+            notifyClients(PostgresSQLNotificationListener.createPayload(PROCESSOR_ID, notificationSequenceNumber.incrementAndGet(), sharedIDs));
+        }
+    }
+
+    private void notifyClients(String payload) {
+        // The channel name is lower case, as the unquoted name in LISTEN is folded to lower case
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pg_notify('jabrefliveupdate', ?)")) {
+            preparedStatement.setString(1, payload);
+            preparedStatement.execute();
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
@@ -1,10 +1,17 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.postgresql.PGConnection;
 import org.postgresql.PGNotification;
 import org.slf4j.Logger;
@@ -12,15 +19,26 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A listener for PostgreSQL database notifications.
+ * <p>
+ * The payload of a notification consists of the id of the notifying processor, a sequence number, and optionally the
+ * shared ids of the changed entries, separated by semicolons. If the shared ids are given, only these entries are
+ * pulled. All changes are pulled if no shared ids are given or if notifications of a client have been missed, i.e.,
+ * there is a gap in its sequence numbers.
  */
 public class PostgresSQLNotificationListener implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
+    private static final String SEPARATOR = ";";
+    private static final String ID_SEPARATOR = ",";
+
     private final DBMSSynchronizer dbmsSynchronizer;
     private final PGConnection pgConnection;
     private volatile boolean stop;
 
+    // The sequence number of the last notification of each other processor
+    private final Map<String, Long> lastSequenceNumbers = new HashMap<>();
+
     public PostgresSQLNotificationListener(DBMSSynchronizer dbmsSynchronizer, PGConnection pgConnection) {
         this.dbmsSynchronizer = dbmsSynchronizer;
         this.pgConnection = pgConnection;
@@ -36,9 +54,7 @@ public class PostgresSQLNotificationListener implements Runnable {
 
                 if (notifications != null) {
                     for (PGNotification notification : notifications) {
-                        if (!notification.getName().equals(DBMSProcessor.PROCESSOR_ID)) {
-                            dbmsSynchronizer.pullChanges();
-                        }
+                        handleNotification(notification.getParameter());
                     }
                 }
 
@@ -50,6 +66,58 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    @VisibleForTesting
+    void handleNotification(String payload) {
+        String[] parts = payload.split(SEPARATOR, -1);
+        String processorID = parts[0];
+        if (processorID.equals(DBMSProcessor.PROCESSOR_ID)) {
+            return;
+        }
+        if (parts.length < 2) {
+            // Notification without sequence number, e.g., of an older JabRef version
+            dbmsSynchronizer.pullChanges();
+            return;
+        }
+
+        try {
+            long sequenceNumber = Long.parseLong(parts[1]);
+            Long lastSequenceNumber = lastSequenceNumbers.put(processorID, sequenceNumber);
+            boolean isGap = (lastSequenceNumber != null) && (sequenceNumber != lastSequenceNumber + 1);
+            if (isGap || (parts.length < 3)) {
+                dbmsSynchronizer.pullChanges();
+            } else {
+                dbmsSynchronizer.pullChanges(parseSharedIDs(parts[2]));
+            }
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Could not parse notification {}", payload, e);
+            dbmsSynchronizer.pullChanges();
+        }
+    }
+
+    private static Set<Integer> parseSharedIDs(String sharedIDs) {
+        if (sharedIDs.isEmpty()) {
+            return Set.of();
+        }
+        return Arrays.stream(sharedIDs.split(ID_SEPARATOR))
+                     .map(Integer::valueOf)
+                     .collect(Collectors.toSet());
+    }
+
+    /**
+     * Creates the payload of a notification making the clients pull all changes
+     */
+    public static String createPayload(String processorID, long sequenceNumber) {
+        return processorID + SEPARATOR + sequenceNumber;
+    }
+
+    /**
+     * Creates the payload of a notification making the clients pull the given entries only
+     */
+    public static String createPayload(String processorID, long sequenceNumber, Collection<Integer> sharedIDs) {
+        return createPayload(processorID, sequenceNumber) + SEPARATOR
+                + sharedIDs.stream().map(String::valueOf).collect(Collectors.joining(ID_SEPARATOR));
+    }
+
     public void stop() {
         stop = true;
     }
@@ -29,9 +29,19 @@ class CitationKeyBasedFileFinder implements FileFinder {
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationKeyBasedFileFinder.class);
 
     private final boolean exactKeyOnly;
+    private final Optional<DirectorySnapshot> snapshot;
 
     CitationKeyBasedFileFinder(boolean exactKeyOnly) {
+        this(exactKeyOnly, Optional.empty());
+    }
+
+    /**
+     * @param snapshot the files of the directories to search. The directories are walked if the snapshot does not
+     *                 cover the directories of a search.
+     */
+    CitationKeyBasedFileFinder(boolean exactKeyOnly, Optional<DirectorySnapshot> snapshot) {
         this.exactKeyOnly = exactKeyOnly;
+        this.snapshot = snapshot;
     }
 
     @Override
@@ -49,7 +59,17 @@ class CitationKeyBasedFileFinder implements FileFinder {
         List<Path> result = new ArrayList<>();
 
         // First scan directories
-        Set<Path> filesWithExtension = findFilesByExtension(directories, extensions);
+        Set<Path> filesWithExtension;
+        if (snapshot.isPresent() && snapshot.get().covers(directories)) {
+            // Only files starting with the key (or the key cleaned for file names) can match
+            filesWithExtension = new HashSet<>();
+            Stream.concat(snapshot.get().getFilesStartingWith(citeKey).stream(),
+                          snapshot.get().getFilesStartingWith(FileNameCleaner.cleanFileName(citeKey)).stream())
+                  .filter(file -> extensions.contains(FileUtil.getFileExtension(file).orElse("")))
+                  .forEach(filesWithExtension::add);
+        } else {
+            filesWithExtension = findFilesByExtension(directories, extensions);
+        }
 
         // Now look for keys
         for (Path file : filesWithExtension) {
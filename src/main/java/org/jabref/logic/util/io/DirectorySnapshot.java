@@ -0,0 +1,104 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * The files contained in some directories (including all subdirectories) at one point in time.
+ * <p>
+ * Searching the files of many entries requires walking the directories for each entry. Instead, the directories can be
+ * walked once to create a snapshot, which is passed to the {@link FileFinder}s, see
+ * {@link FileFinders#constructFromConfiguration(AutoLinkPreferences, DirectorySnapshot)}. The snapshot is not updated,
+ * so it should only be used for one batch of entries.
+ */
+public class DirectorySnapshot {
+
+    private final List<Path> directories;
+    private final NavigableMap<String, List<Path>> filesByName = new TreeMap<>();
+    private final Map<Path, List<Path>> filesByDirectory = new HashMap<>();
+    // The directories might be nested (e.g., the directory of the library and a subdirectory), thus a file can be found
+    // several times
+    private final Set<Path> recordedFiles = new HashSet<>();
+
+    private DirectorySnapshot(List<Path> directories) {
+        this.directories = List.copyOf(directories);
+    }
+
+    /**
+     * Walks the given directories and records all files found
+     */
+    public static DirectorySnapshot of(List<Path> directories) throws IOException {
+        DirectorySnapshot snapshot = new DirectorySnapshot(directories);
+        for (Path directory : directories) {
+            if (Files.exists(directory)) {
+                try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, (path, attributes) -> !attributes.isDirectory(), FileVisitOption.FOLLOW_LINKS)) {
+                    pathStream.forEach(snapshot::addFile);
+                } catch (UncheckedIOException e) {
+                    throw new IOException("Problem in finding files", e);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private void addFile(Path file) {
+        if (!recordedFiles.add(file.toAbsolutePath().normalize())) {
+            return;
+        }
+        filesByName.computeIfAbsent(file.getFileName().toString(), name -> new ArrayList<>()).add(file);
+        filesByDirectory.computeIfAbsent(file.getParent(), directory -> new ArrayList<>()).add(file);
+    }
+
+    /**
+     * Checks whether the snapshot has been created for the given directories
+     */
+    public boolean covers(List<Path> directories) {
+        return this.directories.equals(directories);
+    }
+
+    /**
+     * Returns all files whose name starts with the given prefix
+     */
+    public List<Path> getFilesStartingWith(String prefix) {
+        return flatten(filesByName.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values());
+    }
+
+    /**
+     * Returns the files directly contained in the given directory
+     */
+    public List<Path> getFilesIn(Path directory) {
+        return filesByDirectory.getOrDefault(directory, List.of());
+    }
+
+    /**
+     * Returns the files contained in the given directory or one of its subdirectories
+     */
+    public List<Path> getFilesBelow(Path directory) {
+        List<Path> files = new ArrayList<>();
+        filesByDirectory.forEach((parent, filesOfParent) -> {
+            if (parent.startsWith(directory)) {
+                files.addAll(filesOfParent);
+            }
+        });
+        return files;
+    }
+
+    private static List<Path> flatten(Collection<List<Path>> lists) {
+        List<Path> result = new ArrayList<>();
+        lists.forEach(result::addAll);
+        return result;
+    }
+}
@@ -1,17 +1,31 @@
 package org.jabref.logic.util.io;
 
+import java.util.Optional;
+
 public class FileFinders {
     /**
      * Creates a preconfigured file finder based on the given AutoLink preferences.
      */
     public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences) {
+        return constructFromConfiguration(autoLinkPreferences, Optional.empty());
+    }
+
+    /**
+     * Creates a preconfigured file finder based on the given AutoLink preferences, which searches the given snapshot
+     * instead of walking the directories. Use this if files of many entries are searched.
+     */
+    public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences, DirectorySnapshot snapshot) {
+        return constructFromConfiguration(autoLinkPreferences, Optional.of(snapshot));
+    }
+
+    private static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences, Optional<DirectorySnapshot> snapshot) {
         return switch (autoLinkPreferences.getCitationKeyDependency()) {
             case START ->
-                    new CitationKeyBasedFileFinder(false);
+                    new CitationKeyBasedFileFinder(false, snapshot);
             case EXACT ->
-                    new CitationKeyBasedFileFinder(true);
+                    new CitationKeyBasedFileFinder(true, snapshot);
             case REGEX ->
-                    new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordSeparator());
+                    new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordSeparator(), snapshot);
         };
     }
 }
@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -29,13 +30,24 @@ class RegExpBasedFileFinder implements FileFinder {
 
     private final String regExp;
     private final Character keywordDelimiter;
+    private final Optional<DirectorySnapshot> snapshot;
 
     /**
      * @param regExp The expression deciding which names are acceptable.
      */
     RegExpBasedFileFinder(String regExp, Character keywordDelimiter) {
+        this(regExp, keywordDelimiter, Optional.empty());
+    }
+
+    /**
+     * @param regExp   The expression deciding which names are acceptable.
+     * @param snapshot The files of the directories to search. Used for expressions matching files in the directory
+     *                 ({@code name}) or in the directory and all its subdirectories ({@code **}{@code /name}).
+     */
+    RegExpBasedFileFinder(String regExp, Character keywordDelimiter, Optional<DirectorySnapshot> snapshot) {
         this.regExp = regExp;
         this.keywordDelimiter = keywordDelimiter;
+        this.snapshot = snapshot;
     }
 
     /**
@@ -124,11 +136,53 @@ class RegExpBasedFileFinder implements FileFinder {
     private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            Optional<List<Path>> filesInSnapshot = findFileInSnapshot(entry, dirs, directory, extensionRegExp);
+            if (filesInSnapshot.isPresent()) {
+                res.addAll(filesInSnapshot.get());
+            } else {
+                res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            }
         }
         return res;
     }
 
+    /**
+     * Searches the snapshot instead of walking the directory. Only simple expressions are supported.
+     *
+     * @return the found files or an empty Optional if the snapshot cannot be used for the search
+     */
+    private Optional<List<Path>> findFileInSnapshot(BibEntry entry, List<Path> dirs, Path directory, String extensionRegExp) throws IOException {
+        if (snapshot.isEmpty() || !snapshot.get().covers(dirs) || regExp.startsWith("/")) {
+            return Optional.empty();
+        }
+
+        String[] fileParts = splitIntoParts(regExp);
+        List<Path> candidates;
+        if (fileParts.length == 1) {
+            candidates = snapshot.get().getFilesIn(directory);
+        } else if ((fileParts.length == 2) && "**".equals(fileParts[0])) {
+            candidates = snapshot.get().getFilesBelow(directory);
+        } else {
+            return Optional.empty();
+        }
+
+        Pattern toMatch = createFileNamePattern(fileParts, extensionRegExp, entry);
+        return Optional.of(candidates.stream()
+                                     .filter(path -> toMatch.matcher(path.getFileName().toString()).matches())
+                                     .toList());
+    }
+
+    private static String[] splitIntoParts(String fileName) {
+        // Escape handling...
+        Matcher m = ESCAPE_PATTERN.matcher(fileName);
+        StringBuilder s = new StringBuilder();
+        while (m.find()) {
+            m.appendReplacement(s, m.group(1) + '/' + m.group(2));
+        }
+        m.appendTail(s);
+        return s.toString().split("/");
+    }
+
     /**
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
@@ -145,15 +199,7 @@ class RegExpBasedFileFinder implements FileFinder {
             actualDirectory = directory;
         }
 
-        // Escape handling...
-        Matcher m = ESCAPE_PATTERN.matcher(fileName);
-        StringBuilder s = new StringBuilder();
-        while (m.find()) {
-            m.appendReplacement(s, m.group(1) + '/' + m.group(2));
-        }
-        m.appendTail(s);
-        fileName = s.toString();
-        String[] fileParts = fileName.split("/");
+        String[] fileParts = splitIntoParts(fileName);
 
         if (fileParts.length == 0) {
             return resultFiles;
@@ -32,6 +32,7 @@ import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
@@ -54,6 +55,9 @@ public class BibDatabase {
     private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
+    // Derived from the entries, thus not included in equals
+    private final CitationKeyIndex citationKeyIndex = new CitationKeyIndex();
+
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
@@ -149,7 +153,7 @@ public class BibDatabase {
      * Returns the entry with the given citation key.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+        return getEntriesByCitationKey(key).stream().findFirst();
     }
 
     /**
@@ -159,8 +163,16 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
+        if (key == null) {
+            return new ArrayList<>();
+        }
+        List<BibEntry> indexedEntries = citationKeyIndex.get(key);
+        if (indexedEntries.size() <= 1) {
+            return new ArrayList<>(indexedEntries);
+        }
 
+        // Duplicate keys are rare, thus we can afford a scan to restore the database order
+        List<BibEntry> result = new ArrayList<>();
         for (BibEntry entry : entries) {
             entry.getCitationKey().ifPresent(entryKey -> {
                 if (key.equals(entryKey)) {
@@ -198,6 +210,7 @@ public class BibDatabase {
         for (BibEntry entry : newEntries) {
             entry.registerListener(this);
         }
+        citationKeyIndex.addAll(newEntries);
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
         } else {
@@ -234,12 +247,22 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
+        List<BibEntry> removedEntries = new ArrayList<>();
+        boolean anyRemoved = entries.removeIf(entry -> {
+            if (ids.contains(entry.getId())) {
+                removedEntries.add(entry);
+                return true;
+            }
+            return false;
+        });
         if (anyRemoved) {
+            citationKeyIndex.removeAll(removedEntries);
+            // Changes of removed entries must not be relayed (and indexed) anymore. Re-inserting registers again.
+            removedEntries.forEach(entry -> entry.unregisterListener(this));
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
     }
@@ -566,6 +589,9 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (InternalField.KEY_FIELD.equals(event.getField())) {
+            citationKeyIndex.updateKey(event.getBibEntry(), event.getOldValue(), event.getNewValue());
+        }
         eventBus.post(event);
     }
 
@@ -603,10 +629,7 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        return citationKeyIndex.count(key);
     }
 
     /**
@@ -19,6 +19,7 @@ import org.jabref.logic.shared.DatabaseSynchronizer;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipCache;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.study.Study;
 import org.jabref.preferences.FilePreferences;
@@ -59,6 +60,7 @@ public class BibDatabaseContext {
     private DatabaseSynchronizer dbmsSynchronizer;
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
+    private GroupMembershipCache groupMembershipCache;
 
     public BibDatabaseContext() {
         this(new BibDatabase());
@@ -125,6 +127,16 @@ public class BibDatabaseContext {
         this.metaData = Objects.requireNonNull(metaData);
     }
 
+    /**
+     * Returns the cache of the entries matched by the groups of this library. The cache is created on first use.
+     */
+    public synchronized GroupMembershipCache getGroupMembershipCache() {
+        if (groupMembershipCache == null) {
+            groupMembershipCache = new GroupMembershipCache(database);
+        }
+        return groupMembershipCache;
+    }
+
     public boolean isBiblatexMode() {
         return getMode() == BibDatabaseMode.BIBLATEX;
     }
@@ -0,0 +1,94 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.strings.StringUtil;
+
+/**
+ * Maintains a multimap from citation keys to the entries carrying that key.
+ * <p>
+ * The index is kept in sync by {@link BibDatabase} when entries are inserted or removed and when the citation key of
+ * an entry changes (see {@link org.jabref.model.entry.event.FieldChangedEvent}). Lookups are thus O(1) instead of a
+ * scan over all entries. Blank keys are never indexed, which mirrors {@link BibEntry#getCitationKey()}.
+ * <p>
+ * Entries are compared by identity, because the same key can legitimately be shared by several entries which are
+ * equal according to {@link BibEntry#equals(Object)}.
+ */
+class CitationKeyIndex {
+
+    private final Map<String, List<BibEntry>> entriesByKey = new HashMap<>();
+
+    public synchronized void addAll(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            entry.getCitationKey().ifPresent(key -> add(key, entry, 1));
+        }
+    }
+
+    public synchronized void removeAll(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            entry.getCitationKey().ifPresent(key -> remove(key, entry));
+        }
+    }
+
+    /**
+     * Moves the given entry from the old key to the new key.
+     *
+     * @param oldKey the previous key, may be null or blank if the entry had no key
+     * @param newKey the new key, may be null or blank if the key was removed
+     */
+    public synchronized void updateKey(BibEntry entry, String oldKey, String newKey) {
+        int occurrences;
+        if (StringUtil.isBlank(oldKey)) {
+            occurrences = 1;
+        } else {
+            occurrences = remove(oldKey, entry);
+        }
+        if ((occurrences > 0) && !StringUtil.isBlank(newKey)) {
+            add(newKey, entry, occurrences);
+        }
+    }
+
+    public synchronized List<BibEntry> get(String key) {
+        List<BibEntry> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return List.of();
+        }
+        return new ArrayList<>(entries);
+    }
+
+    public synchronized int count(String key) {
+        List<BibEntry> entries = entriesByKey.get(key);
+        return entries == null ? 0 : entries.size();
+    }
+
+    private void add(String key, BibEntry entry, int occurrences) {
+        List<BibEntry> entries = entriesByKey.computeIfAbsent(key, k -> new ArrayList<>(1));
+        for (int i = 0; i < occurrences; i++) {
+            entries.add(entry);
+        }
+    }
+
+    /**
+     * Removes all occurrences of the given entry from the list of the given key.
+     *
+     * @return the number of removed occurrences
+     */
+    private int remove(String key, BibEntry entry) {
+        List<BibEntry> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return 0;
+        }
+        int sizeBefore = entries.size();
+        entries.removeIf(candidate -> candidate == entry);
+        int removed = sizeBefore - entries.size();
+        if (entries.isEmpty()) {
+            entriesByKey.remove(key);
+        }
+        return removed;
+    }
+}
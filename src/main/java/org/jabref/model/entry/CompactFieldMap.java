@@ -0,0 +1,199 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * The field values of a {@link BibEntry}, stored in one array of alternating fields and values.
+ * <p>
+ * A {@link java.util.concurrent.ConcurrentHashMap} needs a table of at least 16 slots and one node object per field,
+ * which adds up for libraries with hundreds of thousands of entries. An entry has only a few dozen fields, so a linear
+ * scan of a compact array is as fast as hashing. Entries are read by many threads, but rarely written. Therefore,
+ * each modification replaces the array (copy-on-write): readers never block and iterators work on a snapshot, similar
+ * to the weakly consistent iterators of a concurrent map. As in a concurrent map, neither fields nor values may be
+ * <code>null</code>.
+ */
+final class CompactFieldMap extends AbstractMap<Field, String> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    // Fields at even, values at odd positions
+    private volatile Object[] fieldsAndValues = EMPTY;
+
+    private Set<Map.Entry<Field, String>> entrySet;
+
+    CompactFieldMap() {
+    }
+
+    CompactFieldMap(Map<Field, String> content) {
+        content.forEach(this::put);
+    }
+
+    @Override
+    public int size() {
+        return fieldsAndValues.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return fieldsAndValues.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && indexOf(fieldsAndValues, key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        Object[] current = fieldsAndValues;
+        int index = indexOf(current, key);
+        return index >= 0 ? (String) current[index + 1] : null;
+    }
+
+    @Override
+    public synchronized String put(Field field, String value) {
+        Objects.requireNonNull(field);
+        Objects.requireNonNull(value);
+        Object[] current = fieldsAndValues;
+        int index = indexOf(current, field);
+        Object[] updated;
+        if (index >= 0) {
+            if (current[index + 1] == value) {
+                return value;
+            }
+            updated = current.clone();
+        } else {
+            index = current.length;
+            updated = Arrays.copyOf(current, current.length + 2);
+            updated[index] = field;
+        }
+        updated[index + 1] = value;
+        fieldsAndValues = updated;
+        return index < current.length ? (String) current[index + 1] : null;
+    }
+
+    @Override
+    public synchronized String remove(Object key) {
+        if (key == null) {
+            return null;
+        }
+        Object[] current = fieldsAndValues;
+        int index = indexOf(current, key);
+        if (index < 0) {
+            return null;
+        }
+        Object[] updated = new Object[current.length - 2];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(current, index + 2, updated, index, current.length - index - 2);
+        fieldsAndValues = updated;
+        return (String) current[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        fieldsAndValues = EMPTY;
+    }
+
+    /**
+     * Finds the position of the given field. The field is compared as by a hash map (equal hash code and equal
+     * according to the given key), so an {@link org.jabref.model.entry.field.UnknownField} does not find a standard
+     * field of the same name.
+     */
+    private static int indexOf(Object[] fieldsAndValues, Object key) {
+        for (int i = 0; i < fieldsAndValues.length; i += 2) {
+            if (fieldsAndValues[i] == key) {
+                return i;
+            }
+        }
+        for (int i = 0; i < fieldsAndValues.length; i += 2) {
+            Object field = fieldsAndValues[i];
+            if (key.equals(field) && (key.hashCode() == field.hashCode())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Set<Map.Entry<Field, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<Field, String>> {
+
+        @Override
+        public Iterator<Map.Entry<Field, String>> iterator() {
+            Object[] snapshot = fieldsAndValues;
+            return new Iterator<>() {
+                private int next = 0;
+                private Field last;
+
+                @Override
+                public boolean hasNext() {
+                    return next < snapshot.length;
+                }
+
+                @Override
+                public Map.Entry<Field, String> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    last = (Field) snapshot[next];
+                    Map.Entry<Field, String> entry = new FieldEntry(last, (String) snapshot[next + 1]);
+                    next += 2;
+                    return entry;
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    CompactFieldMap.this.remove(last);
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return CompactFieldMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactFieldMap.this.clear();
+        }
+    }
+
+    /**
+     * Writes changed values through to the map
+     */
+    private class FieldEntry extends AbstractMap.SimpleEntry<Field, String> {
+
+        FieldEntry(Field field, String value) {
+            super(field, value);
+        }
+
+        @Override
+        public String setValue(String value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
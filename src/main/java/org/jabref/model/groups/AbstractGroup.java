@@ -9,6 +9,7 @@ import javafx.beans.property.StringProperty;
 import javafx.scene.paint.Color;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.strings.StringUtil;
 
@@ -136,6 +137,14 @@ public abstract class AbstractGroup implements SearchMatcher {
      */
     public abstract boolean contains(BibEntry entry);
 
+    /**
+     * Returns whether changing the given field of an entry may change whether this group contains the entry. By
+     * default, all fields are considered.
+     */
+    public boolean dependsOn(Field field) {
+        return true;
+    }
+
     @Override
     public boolean isMatch(BibEntry entry) {
         return contains(entry);
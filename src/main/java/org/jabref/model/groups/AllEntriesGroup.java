@@ -3,6 +3,7 @@ package org.jabref.model.groups;
 import java.util.Objects;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 
 /**
  * This group contains all entries. Always. At any time!
@@ -34,6 +35,11 @@ public class AllEntriesGroup extends AbstractGroup {
         return true;
     }
 
+    @Override
+    public boolean dependsOn(Field field) {
+        return false;
+    }
+
     @Override
     public boolean isDynamic() {
         // this is actually a special case; I define it as non-dynamic
@@ -5,6 +5,7 @@ import java.util.Set;
 import javafx.collections.ObservableList;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.util.TreeCollector;
 
 public abstract class AutomaticGroup extends AbstractGroup {
@@ -17,6 +18,11 @@ public abstract class AutomaticGroup extends AbstractGroup {
         return false;
     }
 
+    @Override
+    public boolean dependsOn(Field field) {
+        return false;
+    }
+
     @Override
     public boolean isDynamic() {
         return false;
@@ -0,0 +1,179 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.SearchMatcher;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * The entries of a library matched by nodes of its group tree (taking the hierarchical context into account, see
+ * {@link GroupTreeNode#getSearchMatcher()}).
+ * <p>
+ * Finding the matches of a node evaluates its groups for each entry of the library, which is slow for large libraries
+ * with many groups. Thus, the matches of a node are determined once and are updated incrementally: added entries are
+ * evaluated, removed entries are dropped, and a changed entry is only evaluated again by the nodes depending on the
+ * changed field (see {@link GroupTreeNode#dependsOn(Field)}). If the groups combined by a node change (e.g., the group
+ * is edited or a subgroup is added), the matches of the node are determined again.
+ */
+public class GroupMembershipCache {
+
+    private final BibDatabase database;
+
+    // Compared by identity, because GroupTreeNode#equals compares the groups. Removed nodes are not kept alive.
+    private final Map<GroupTreeNode, NodeMatches> matchesOfNodes = new MapMaker().weakKeys().makeMap();
+
+    // The changes of the library while the matches are determined, applied before the matches are published
+    private final Map<NodeMatches, List<Consumer<NodeMatches>>> pendingChanges = new IdentityHashMap<>();
+
+    public GroupMembershipCache(BibDatabase database) {
+        this.database = database;
+        database.registerListener(this);
+    }
+
+    /**
+     * Returns the number of entries matched by the given node. The property is updated when entries are added, removed,
+     * or changed. When the matches of the node are determined again, a new property is returned.
+     * <p>
+     * Determining the matches takes long for large libraries. It does not block the updates of the other nodes.
+     */
+    public ReadOnlyIntegerProperty numberOfMatchesProperty(GroupTreeNode node) {
+        return getMatches(node).numberOfMatches.getReadOnlyProperty();
+    }
+
+    /**
+     * Drops the matches of the given node, so that they are determined again on the next request. Required if the
+     * entries contained in a group change without a change of the entries, e.g., for a {@link TexGroup}.
+     */
+    public synchronized void invalidate(GroupTreeNode node) {
+        matchesOfNodes.remove(node);
+    }
+
+    private NodeMatches getMatches(GroupTreeNode node) {
+        List<AbstractGroup> groups = node.getGroupsOfSearchMatcher();
+        NodeMatches matches;
+        List<BibEntry> entries;
+        synchronized (this) {
+            NodeMatches cachedMatches = matchesOfNodes.get(node);
+            if ((cachedMatches != null) && cachedMatches.isCombining(groups)) {
+                return cachedMatches;
+            }
+            matches = new NodeMatches(groups, node.getSearchMatcher());
+            // Changes after taking the snapshot are recorded and applied to the determined matches
+            pendingChanges.put(matches, new ArrayList<>());
+            entries = List.copyOf(database.getEntries());
+        }
+
+        List<BibEntry> matchedEntries;
+        try {
+            matchedEntries = entries.stream().filter(matches.matcher::isMatch).toList();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingChanges.remove(matches);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            matches.entries.addAll(matchedEntries);
+            pendingChanges.remove(matches).forEach(change -> change.accept(matches));
+            matches.numberOfMatches.set(matches.entries.size());
+            matchesOfNodes.put(node, matches);
+            return matches;
+        }
+    }
+
+    /**
+     * Applies a change of the library to the determined matches and records it for the matches being determined
+     */
+    private synchronized void apply(Consumer<NodeMatches> change) {
+        matchesOfNodes.values().forEach(change);
+        pendingChanges.values().forEach(changes -> changes.add(change));
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        List<BibEntry> addedEntries = event.getBibEntries();
+        apply(matches -> addedEntries.forEach(matches::update));
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        List<BibEntry> removedEntries = event.getBibEntries();
+        apply(matches -> removedEntries.forEach(matches::remove));
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        Field field = event.getField();
+        BibEntry changedEntry = event.getBibEntry();
+        apply(matches -> {
+            if (matches.dependsOn(field)) {
+                matches.update(changedEntry);
+            }
+        });
+    }
+
+    private static class NodeMatches {
+
+        private final List<AbstractGroup> groups;
+        private final SearchMatcher matcher;
+        // Compared by identity, because equal entries are different entries of the library
+        private final Set<BibEntry> entries = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final ReadOnlyIntegerWrapper numberOfMatches = new ReadOnlyIntegerWrapper();
+
+        NodeMatches(List<AbstractGroup> groups, SearchMatcher matcher) {
+            this.groups = groups;
+            this.matcher = matcher;
+        }
+
+        /**
+         * Checks whether these matches have been determined for the given groups (which are compared by identity)
+         */
+        boolean isCombining(List<AbstractGroup> otherGroups) {
+            if (groups.size() != otherGroups.size()) {
+                return false;
+            }
+            for (int i = 0; i < groups.size(); i++) {
+                if (groups.get(i) != otherGroups.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean dependsOn(Field field) {
+            return groups.stream().anyMatch(group -> group.dependsOn(field));
+        }
+
+        void update(BibEntry entry) {
+            if (matcher.isMatch(entry)) {
+                entries.add(entry);
+            } else {
+                entries.remove(entry);
+            }
+            numberOfMatches.set(entries.size());
+        }
+
+        void remove(BibEntry entry) {
+            entries.remove(entry);
+            numberOfMatches.set(entries.size());
+        }
+    }
+}
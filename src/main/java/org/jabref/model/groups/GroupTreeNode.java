@@ -15,6 +15,7 @@ import org.jabref.model.FieldChange;
 import org.jabref.model.TreeNode;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.matchers.MatcherSet;
 import org.jabref.model.search.matchers.MatcherSets;
@@ -124,6 +125,37 @@ public class GroupTreeNode extends TreeNode<GroupTreeNode> {
         return searchRule;
     }
 
+    /**
+     * Returns the groups combined by the {@link SearchMatcher} of this node (see {@link #getSearchMatcher()}). These are
+     * the group of this node and, depending on the hierarchical context, the groups of its children or of its parents.
+     */
+    public List<AbstractGroup> getGroupsOfSearchMatcher() {
+        List<AbstractGroup> groups = new ArrayList<>();
+        collectGroupsOfSearchMatcher(getGroup().getHierarchicalContext(), groups);
+        return groups;
+    }
+
+    private void collectGroupsOfSearchMatcher(GroupHierarchyType originalContext, List<AbstractGroup> groups) {
+        final GroupHierarchyType context = getGroup().getHierarchicalContext();
+        groups.add(getGroup());
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : getChildren()) {
+                child.collectGroupsOfSearchMatcher(originalContext, groups);
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !isRoot() && (originalContext
+                != GroupHierarchyType.INCLUDING)) {
+            // noinspection OptionalGetWithoutIsPresent
+            getParent().get().collectGroupsOfSearchMatcher(originalContext, groups);
+        }
+    }
+
+    /**
+     * Returns whether changing the given field of an entry may change whether this node matches the entry
+     */
+    public boolean dependsOn(Field field) {
+        return getGroupsOfSearchMatcher().stream().anyMatch(group -> group.dependsOn(field));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -36,6 +36,11 @@ public abstract class KeywordGroup extends AbstractGroup {
         return true;
     }
 
+    @Override
+    public boolean dependsOn(Field field) {
+        return searchField.equals(field);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
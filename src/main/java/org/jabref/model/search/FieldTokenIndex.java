@@ -0,0 +1,333 @@
+package org.jabref.model.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.strings.StringUtil;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Inverted index from the tokens of the (latex free) field values to the entries of a library.
+ * <p>
+ * The index is used to narrow down the entries a search query has to be evaluated on: Search rules determine the
+ * candidates using {@link #getEntriesContaining(String)} and evaluate the query only on these. The index does not
+ * replace the evaluation of the query, it only guarantees that no entry matching the query is missed. Thus, the index
+ * can be coarse: The field values are split at whitespace only and case and accents are ignored. A search term without
+ * whitespace contained in a field value is always contained in a single token of the value.
+ * <p>
+ * The index is built on its first use, so that creating it is cheap (e.g., when opening a library on the JavaFX
+ * thread). The build does not block the events of the {@link BibDatabase}: Changes during the build are recorded and
+ * applied afterwards. Then, the index is kept up to date using these events. Call {@link #shutdown()} if the index is
+ * no longer needed.
+ */
+public class FieldTokenIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Searching for a term requires a scan of all tokens. While typing, the term is extended character by character.
+    // Thus, the tokens matching the previous terms are kept to scan only these.
+    private static final int MAX_CACHED_TERMS = 64;
+
+    private final BibDatabase database;
+
+    // Serializes the builds of the index. The index is built without holding the monitor of this index, so that the
+    // events of the library (posted on the JavaFX thread) are not blocked by the build.
+    private final Object buildLock = new Object();
+
+    // Null until the index is built. Guarded by this.
+    private Tables tables;
+    // Changes of the library while the index is built, applied after the build. Guarded by this.
+    private List<Consumer<Tables>> pendingChanges;
+
+    /**
+     * The slots of all entries containing one token. The array is unsorted and grown on demand.
+     */
+    private static class Posting {
+        private int[] slots = new int[2];
+        private int size = 0;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    public FieldTokenIndex(BibDatabase database) {
+        this.database = database;
+        database.registerListener(this);
+    }
+
+    private Tables getTables() {
+        synchronized (buildLock) {
+            List<BibEntry> entriesToIndex;
+            synchronized (this) {
+                if (tables != null) {
+                    return tables;
+                }
+                // Changes after taking the snapshot are recorded and applied to the built tables
+                pendingChanges = new ArrayList<>();
+                entriesToIndex = List.copyOf(database.getEntries());
+            }
+
+            Tables builtTables = new Tables();
+            entriesToIndex.forEach(builtTables::addEntry);
+
+            synchronized (this) {
+                pendingChanges.forEach(change -> change.accept(builtTables));
+                pendingChanges = null;
+                tables = builtTables;
+                return tables;
+            }
+        }
+    }
+
+    public void shutdown() {
+        database.unregisterListener(this);
+    }
+
+    /**
+     * Normalizes a field value or a search term as done for the tokens of the index.
+     */
+    public static String normalize(String text) {
+        // The final sigma is lower cased depending on the context. We map it to the regular sigma to make the
+        // normalization of a part of a string a part of the normalization of the string.
+        return StringUtil.stripAccents(text).toLowerCase(Locale.ROOT).replace('\u03C2', '\u03C3');
+    }
+
+    /**
+     * Returns the slots of all entries having a field value which might contain the given term. The result is a
+     * superset of the entries containing the term (ignoring case and accents) in one of their fields.
+     *
+     * @return a new {@link BitSet} which can be modified by the caller. Use {@link #getEntries(BitSet)} to get the
+     * entries.
+     */
+    public BitSet getEntriesContaining(String term) {
+        List<String> parts = WHITESPACE.splitAsStream(normalize(term)).filter(part -> !part.isEmpty()).toList();
+        if (parts.isEmpty()) {
+            return getAllEntries();
+        }
+
+        Tables builtTables = getTables();
+        synchronized (this) {
+            BitSet result = null;
+            for (String part : parts) {
+                BitSet entriesContainingPart = new BitSet(builtTables.entries.size());
+                for (String token : builtTables.getTokensContaining(part)) {
+                    Posting posting = builtTables.postings.get(token);
+                    for (int i = 0; i < posting.size; i++) {
+                        entriesContainingPart.set(posting.slots[i]);
+                    }
+                }
+                if (result == null) {
+                    result = entriesContainingPart;
+                } else {
+                    result.and(entriesContainingPart);
+                }
+            }
+            return result;
+        }
+    }
+
+    public BitSet getAllEntries() {
+        Tables builtTables = getTables();
+        synchronized (this) {
+            BitSet result = new BitSet(builtTables.entries.size());
+            builtTables.slots.values().forEach(result::set);
+            return result;
+        }
+    }
+
+    /**
+     * Returns the entries of the given slots. The returned set uses identity to compare entries.
+     */
+    public synchronized Set<BibEntry> getEntries(BitSet slotsOfEntries) {
+        Set<BibEntry> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (tables == null) {
+            return result;
+        }
+        List<BibEntry> entries = tables.entries;
+        for (int slot = slotsOfEntries.nextSetBit(0); (slot >= 0) && (slot < entries.size()); slot = slotsOfEntries.nextSetBit(slot + 1)) {
+            BibEntry entry = entries.get(slot);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        List<BibEntry> addedEntries = event.getBibEntries();
+        apply(changedTables -> addedEntries.forEach(changedTables::addEntry));
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        List<BibEntry> removedEntries = event.getBibEntries();
+        apply(changedTables -> removedEntries.forEach(changedTables::removeEntry));
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        BibEntry changedEntry = event.getBibEntry();
+        apply(changedTables -> changedTables.updateEntry(changedEntry));
+    }
+
+    /**
+     * Applies a change of the library to the index. Changes before the index is built are ignored, as the build takes
+     * the current state of the library.
+     */
+    private synchronized void apply(Consumer<Tables> change) {
+        if (tables != null) {
+            change.accept(tables);
+        } else if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    /**
+     * The data of the index
+     */
+    private static class Tables {
+
+        // Each entry gets a slot number. Slots of removed entries are reused. An earlier result might thus contain the
+        // slot of an entry added later. This is fine, because the results are only candidates.
+        private final List<BibEntry> entries = new ArrayList<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final Map<BibEntry, Integer> slots = new IdentityHashMap<>();
+        private final Map<Integer, String[]> tokensOfSlot = new HashMap<>();
+        private final Map<String, Posting> postings = new HashMap<>();
+        private final Map<String, List<String>> tokensContainingTerm = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+                return size() > MAX_CACHED_TERMS;
+            }
+        };
+
+        private List<String> getTokensContaining(String part) {
+            List<String> cached = tokensContainingTerm.get(part);
+            if (cached != null) {
+                return cached;
+            }
+
+            // Tokens containing the part also contain each prefix of the part
+            Iterable<String> tokensToScan = postings.keySet();
+            for (int length = part.length() - 1; length > 0; length--) {
+                List<String> tokensOfPrefix = tokensContainingTerm.get(part.substring(0, length));
+                if (tokensOfPrefix != null) {
+                    tokensToScan = tokensOfPrefix;
+                    break;
+                }
+            }
+
+            List<String> result = new ArrayList<>();
+            for (String token : tokensToScan) {
+                if (token.contains(part)) {
+                    result.add(token);
+                }
+            }
+            tokensContainingTerm.put(part, result);
+            return result;
+        }
+
+        private void removeEntry(BibEntry entry) {
+            Integer slot = slots.remove(entry);
+            if (slot != null) {
+                removeTokens(slot);
+                entries.set(slot, null);
+                freeSlots.push(slot);
+            }
+        }
+
+        private void updateEntry(BibEntry entry) {
+            Integer slot = slots.get(entry);
+            if (slot != null) {
+                removeTokens(slot);
+                addTokens(slot, entry);
+            }
+        }
+
+        private void addEntry(BibEntry entry) {
+            if (slots.containsKey(entry)) {
+                return;
+            }
+            Integer slot = freeSlots.poll();
+            if (slot == null) {
+                slot = entries.size();
+                entries.add(entry);
+            } else {
+                entries.set(slot, entry);
+            }
+            slots.put(entry, slot);
+            addTokens(slot, entry);
+        }
+
+        private void addTokens(int slot, BibEntry entry) {
+            List<String> tokens = new ArrayList<>();
+            for (Field field : entry.getFields()) {
+                entry.getFieldLatexFree(field).ifPresent(value ->
+                        WHITESPACE.splitAsStream(normalize(value))
+                                  .filter(token -> !token.isEmpty())
+                                  .forEach(tokens::add));
+            }
+
+            String[] distinctTokens = tokens.stream().distinct().toArray(String[]::new);
+            for (String token : distinctTokens) {
+                Posting posting = postings.get(token);
+                if (posting == null) {
+                    posting = new Posting();
+                    postings.put(token, posting);
+                    tokensContainingTerm.clear();
+                }
+                posting.add(slot);
+            }
+            tokensOfSlot.put(slot, distinctTokens);
+        }
+
+        private void removeTokens(int slot) {
+            String[] tokens = tokensOfSlot.remove(slot);
+            if (tokens == null) {
+                return;
+            }
+            for (String token : tokens) {
+                Posting posting = postings.get(token);
+                posting.remove(slot);
+                if (posting.size == 0) {
+                    postings.remove(token);
+                    tokensContainingTerm.clear();
+                }
+            }
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package org.jabref.model.search.rules;
 
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.FieldTokenIndex;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
 import org.jabref.model.strings.StringUtil;
 
@@ -60,4 +63,24 @@ public class ContainsBasedSearchRule extends FullTextSearchRule {
 
         return getFulltextResults(query, bibEntry).numSearchResults() > 0;
     }
+
+    @Override
+    public Optional<BitSet> getCandidates(String query, FieldTokenIndex index) {
+        // Matches in the full text are not contained in the index
+        if (searchFlags.contains(SearchRules.SearchFlags.FULLTEXT)) {
+            return Optional.empty();
+        }
+
+        List<String> words = new SentenceAnalyzer(query).getWords();
+        if (words.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Each word has to be contained in one of the fields
+        BitSet candidates = index.getEntriesContaining(words.getFirst());
+        for (String word : words.subList(1, words.size())) {
+            candidates.and(index.getEntriesContaining(word));
+        }
+        return Optional.of(candidates);
+    }
 }
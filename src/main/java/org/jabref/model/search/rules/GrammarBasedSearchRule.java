@@ -1,6 +1,7 @@
 package org.jabref.model.search.rules;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
@@ -17,6 +18,7 @@ import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.pdf.search.SearchResult;
+import org.jabref.model.search.FieldTokenIndex;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.search.SearchBaseVisitor;
@@ -116,6 +118,14 @@ public class GrammarBasedSearchRule extends FullTextSearchRule {
         }
     }
 
+    @Override
+    public Optional<BitSet> getCandidates(String query, FieldTokenIndex index) {
+        if ((tree == null) || !Objects.equals(this.query, query)) {
+            return Optional.empty();
+        }
+        return new CandidateVisitor(searchFlags, index).visit(tree);
+    }
+
     public EnumSet<SearchFlags> getSearchFlags() {
         return searchFlags;
     }
@@ -257,4 +267,82 @@ public class GrammarBasedSearchRule extends FullTextSearchRule {
             }
         }
     }
+
+    /**
+     * Determines the candidates of a query using a {@link FieldTokenIndex}. An empty optional denotes that all entries
+     * are candidates.
+     * <p>
+     * Only comparisons which require the value to be contained in a field (=, CONTAINS, ==, MATCHES) can be answered
+     * by the index. These are combined following AND and OR, all other expressions lead to all entries.
+     */
+    static class CandidateVisitor extends SearchBaseVisitor<Optional<BitSet>> {
+
+        private final EnumSet<SearchFlags> searchFlags;
+        private final FieldTokenIndex index;
+
+        public CandidateVisitor(EnumSet<SearchFlags> searchFlags, FieldTokenIndex index) {
+            this.searchFlags = searchFlags;
+            this.index = index;
+        }
+
+        @Override
+        protected Optional<BitSet> defaultResult() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<BitSet> visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<BitSet> visitComparison(SearchParser.ComparisonContext context) {
+            String right = context.right.getText();
+            if (right.startsWith("\"") && right.endsWith("\"")) {
+                right = right.substring(1, right.length() - 1);
+            }
+
+            if (context.left == null) {
+                return SearchRules.getSearchRule(searchFlags).getCandidates(right, index);
+            }
+
+            String field = context.left.getText();
+            ComparisonOperator operator = ComparisonOperator.build(context.operator.getText());
+            // The type and the keywords are not matched against the field values
+            boolean isSpecialField = InternalField.TYPE_HEADER.getName().equalsIgnoreCase(field) || "anykeyword".equalsIgnoreCase(field);
+            if ((operator == ComparisonOperator.DOES_NOT_CONTAIN) || isSpecialField || searchFlags.contains(SearchFlags.REGULAR_EXPRESSION)) {
+                return Optional.empty();
+            }
+            return Optional.of(index.getEntriesContaining(right));
+        }
+
+        @Override
+        public Optional<BitSet> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<BitSet> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<BitSet> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Optional<BitSet> left = visit(ctx.left);
+            Optional<BitSet> right = visit(ctx.right);
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                if (left.isEmpty()) {
+                    return right;
+                }
+                right.ifPresent(left.get()::and);
+                return left;
+            } else {
+                if (left.isEmpty() || right.isEmpty()) {
+                    return Optional.empty();
+                }
+                left.get().or(right.get());
+                return left;
+            }
+        }
+    }
 }
@@ -1,7 +1,11 @@
 package org.jabref.model.search.rules;
 
+import java.util.BitSet;
+import java.util.Optional;
+
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.pdf.search.PdfSearchResults;
+import org.jabref.model.search.FieldTokenIndex;
 
 public interface SearchRule {
 
@@ -10,4 +14,15 @@ public interface SearchRule {
     PdfSearchResults getFulltextResults(String query, BibEntry bibEntry);
 
     boolean validateSearchStrings(String query);
+
+    /**
+     * Determines the entries which might match the query using the given index. Only these entries need to be checked
+     * using {@link #applyRule(String, BibEntry)}.
+     *
+     * @return the slots of the candidate entries (see {@link FieldTokenIndex#getEntries(BitSet)}), or an empty optional
+     * if the index cannot narrow down the entries for this query
+     */
+    default Optional<BitSet> getCandidates(String query, FieldTokenIndex index) {
+        return Optional.empty();
+    }
 }
@@ -39,6 +39,7 @@ public class AiPreferences {
     private final IntegerProperty contextWindowSize;
     private final IntegerProperty documentSplitterChunkSize;
     private final IntegerProperty documentSplitterOverlapSize;
+    private final IntegerProperty embeddingBatchSize;
     private final IntegerProperty ragMaxResultsCount;
     private final DoubleProperty ragMinScore;
 
@@ -60,6 +61,7 @@ public class AiPreferences {
                          int contextWindowSize,
                          int documentSplitterChunkSize,
                          int documentSplitterOverlapSize,
+                         int embeddingBatchSize,
                          int ragMaxResultsCount,
                          double ragMinScore
     ) {
@@ -85,6 +87,7 @@ public class AiPreferences {
         this.contextWindowSize = new SimpleIntegerProperty(contextWindowSize);
         this.documentSplitterChunkSize = new SimpleIntegerProperty(documentSplitterChunkSize);
         this.documentSplitterOverlapSize = new SimpleIntegerProperty(documentSplitterOverlapSize);
+        this.embeddingBatchSize = new SimpleIntegerProperty(embeddingBatchSize);
         this.ragMaxResultsCount = new SimpleIntegerProperty(ragMaxResultsCount);
         this.ragMinScore = new SimpleDoubleProperty(ragMinScore);
     }
@@ -297,6 +300,22 @@ public class AiPreferences {
         this.documentSplitterOverlapSize.set(documentSplitterOverlapSize);
     }
 
+    public IntegerProperty embeddingBatchSizeProperty() {
+        return embeddingBatchSize;
+    }
+
+    public int getEmbeddingBatchSize() {
+        if (getCustomizeExpertSettings()) {
+            return embeddingBatchSize.get();
+        } else {
+            return AiDefaultPreferences.EMBEDDING_BATCH_SIZE;
+        }
+    }
+
+    public void setEmbeddingBatchSize(int embeddingBatchSize) {
+        this.embeddingBatchSize.set(embeddingBatchSize);
+    }
+
     public IntegerProperty ragMaxResultsCountProperty() {
         return ragMaxResultsCount;
     }
@@ -163,13 +163,14 @@ class FieldValueSuggestionProviderTest {
     }
 
     @Test
-    void completePartOfWordReturnsWholeFieldValue() {
+    void completePartOfWordReturnsNothing() {
         BibEntry entry = new BibEntry();
         entry.setField(StandardField.TITLE, "test value");
         database.insertEntry(entry);
 
+        // Suggestions are looked up by the beginning of the words of the value
         Collection<String> result = autoCompleter.provideSuggestions(getRequest("lue"));
-        assertEquals(Collections.singletonList("test value"), result);
+        assertEquals(Collections.emptyList(), result);
     }
 
     @Test
@@ -0,0 +1,86 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionIndexTest {
+
+    private final BibEntry first = new BibEntry().withField(StandardField.JOURNAL, "Nature");
+    private final BibEntry second = new BibEntry().withField(StandardField.JOURNAL, "Nature");
+
+    private BibDatabase database;
+    private SuggestionIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase(List.of(first));
+        index = FieldValueSuggestionProvider.createIndex(StandardField.JOURNAL, database);
+    }
+
+    @Test
+    void containsEachValueOnce() {
+        database.insertEntry(second);
+
+        assertEquals(List.of("Nature"), index.getValues());
+    }
+
+    @Test
+    void keepsValueUntilLastEntryHavingItIsRemoved() {
+        database.insertEntry(second);
+
+        database.removeEntry(first);
+        assertEquals(List.of("Nature"), index.getValues());
+
+        database.removeEntry(second);
+        assertEquals(List.of(), index.getValues());
+    }
+
+    @Test
+    void changedFieldValueReplacesValue() {
+        first.setField(StandardField.JOURNAL, "Science");
+
+        assertEquals(List.of("Science"), index.getValues());
+    }
+
+    @Test
+    void changeOfOtherFieldIsIgnored() {
+        first.setField(StandardField.TITLE, "Title");
+
+        assertEquals(List.of("Nature"), index.getValues());
+    }
+
+    @Test
+    void findsValuesByBeginningOfWordsIgnoringCase() {
+        database.insertEntry(new BibEntry().withField(StandardField.JOURNAL, "Nature Physics"));
+        database.insertEntry(new BibEntry().withField(StandardField.JOURNAL, "Physical Review"));
+
+        assertEquals(List.of("Nature", "Nature Physics"), index.getValuesStartingWith("nat").toList());
+        assertEquals(List.of("Physical Review", "Nature Physics"), index.getValuesStartingWith("PHYSIC").toList());
+        assertEquals(List.of(), index.getValuesStartingWith("ature").toList());
+    }
+
+    @Test
+    void removedValueIsNotFound() {
+        database.removeEntry(first);
+
+        assertEquals(List.of(), index.getValuesStartingWith("nat").toList());
+    }
+
+    @Test
+    void changesAfterShutdownAreIgnored() {
+        assertEquals(List.of("Nature"), index.getValues());
+
+        index.shutdown();
+        first.setField(StandardField.JOURNAL, "Science");
+
+        assertEquals(List.of("Nature"), index.getValues());
+    }
+}
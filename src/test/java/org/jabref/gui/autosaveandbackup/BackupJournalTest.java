@@ -0,0 +1,167 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackupJournalTest {
+
+    private final BibEntry first = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("first")
+            .withField(StandardField.TITLE, "First");
+    private final BibEntry second = new BibEntry(StandardEntryType.Book)
+            .withCitationKey("second")
+            .withField(StandardField.TITLE, "Second");
+
+    private BibDatabaseContext context;
+    private BackupJournal journal;
+    private Path journalPath;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        context = new BibDatabaseContext(new BibDatabase(List.of(first, second)), new MetaData());
+        journal = new BackupJournal(context);
+        journal.startNewJournal(List.of(first, second), context.getDatabase().getEntries());
+        journalPath = BackupJournal.getJournalPath(tempDir.resolve("library.bib.bak"));
+    }
+
+    /**
+     * Simulates parsing the snapshot
+     */
+    private BibDatabase snapshot() {
+        return new BibDatabase(List.of((BibEntry) first.clone(), (BibEntry) second.clone()));
+    }
+
+    @Test
+    void journalPathIsNextToSnapshot() {
+        assertEquals(Path.of("backup", "library.bib.bak.journal"), BackupJournal.getJournalPath(Path.of("backup", "library.bib.bak")));
+    }
+
+    @Test
+    void nothingIsWrittenWithoutChanges() throws Exception {
+        assertFalse(journal.write(journalPath));
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    void replayAppliesFieldChanges() throws Exception {
+        BibDatabase snapshot = snapshot();
+        first.setField(StandardField.TITLE, "Changed");
+        second.clearField(StandardField.TITLE);
+        second.setType(StandardEntryType.InBook);
+        journal.write(journalPath);
+
+        BackupJournal.replay(journalPath, snapshot);
+
+        assertEquals(List.of(
+                new BibEntry(StandardEntryType.Article).withCitationKey("first").withField(StandardField.TITLE, "Changed"),
+                new BibEntry(StandardEntryType.InBook).withCitationKey("second")), snapshot.getEntries());
+    }
+
+    @Test
+    void replayAppliesAddedAndRemovedEntries() throws Exception {
+        BibDatabase snapshot = snapshot();
+        BibEntry third = new BibEntry(StandardEntryType.Misc).withCitationKey("third");
+        context.getDatabase().insertEntry(third);
+        context.getDatabase().removeEntry(first);
+        third.setField(StandardField.YEAR, "2024");
+        journal.write(journalPath);
+
+        BackupJournal.replay(journalPath, snapshot);
+
+        assertEquals(List.of(second, third), snapshot.getEntries());
+    }
+
+    @Test
+    void writeAppendsToExistingJournal() throws Exception {
+        BibDatabase snapshot = snapshot();
+        first.setField(StandardField.YEAR, "2023");
+        journal.write(journalPath);
+        first.setField(StandardField.YEAR, "2024");
+        journal.write(journalPath);
+
+        BackupJournal.replay(journalPath, snapshot);
+
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals("2024", snapshot.getEntries().getFirst().getField(StandardField.YEAR).orElseThrow());
+    }
+
+    @Test
+    void journalNotMatchingSnapshotIsIgnored() throws Exception {
+        BibDatabase snapshot = new BibDatabase(List.of((BibEntry) first.clone()));
+        first.setField(StandardField.TITLE, "Changed");
+        journal.write(journalPath);
+
+        BackupJournal.replay(journalPath, snapshot);
+
+        assertEquals("First", snapshot.getEntries().getFirst().getTitle().orElseThrow());
+    }
+
+    @Test
+    void incompleteLastLineIsIgnored() throws Exception {
+        BibDatabase snapshot = snapshot();
+        first.setField(StandardField.TITLE, "Changed");
+        journal.write(journalPath);
+        Files.writeString(journalPath, Files.readString(journalPath) + "{\"op\":\"fie");
+
+        BackupJournal.replay(journalPath, snapshot);
+
+        assertEquals("Changed", snapshot.getEntries().getFirst().getTitle().orElseThrow());
+    }
+
+    @Test
+    void changedMetaDataRequiresSnapshot() {
+        assertFalse(journal.isSnapshotRequired());
+
+        context.getMetaData().setDefaultFileDirectory("files");
+
+        assertTrue(journal.isSnapshotRequired());
+    }
+
+    @Test
+    void changedPreambleRequiresSnapshot() {
+        context.getDatabase().setPreamble("\\newcommand{\\noopsort}[1]{}");
+
+        assertTrue(journal.isSnapshotRequired());
+    }
+
+    @Test
+    void addedStringRequiresSnapshot() {
+        context.getDatabase().addString(new BibtexString("acm", "Association for Computing Machinery"));
+
+        assertTrue(journal.hasNonEntryContentChanged());
+        assertTrue(journal.isSnapshotRequired());
+    }
+
+    @Test
+    void changedCommentsRequireSnapshot() {
+        first.setCommentsBeforeEntry("% Read this first");
+
+        assertTrue(journal.isSnapshotRequired());
+    }
+
+    @Test
+    void newSnapshotIncludesChangedEpilog() {
+        context.getDatabase().setEpilog("% end");
+        journal.recordNonEntryContent();
+        journal.startNewJournal(List.of(first, second), context.getDatabase().getEntries());
+
+        assertFalse(journal.isSnapshotRequired());
+    }
+}
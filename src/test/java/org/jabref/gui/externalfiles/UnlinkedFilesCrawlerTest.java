@@ -1,8 +1,13 @@
 package org.jabref.gui.externalfiles;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.jabref.gui.util.FileNodeViewModel;
@@ -64,4 +69,48 @@ class UnlinkedFilesCrawlerTest {
             assertEquals(fileNodeViewModel.getFileCount(), count - 1);
         }
     }
+
+    @Test
+    void subdirectoriesAreReportedAsPartialResultsAndKeptInOrder(@TempDir Path testRoot) throws Exception {
+        List<Path> subDirectories = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Path subDir = testRoot.resolve("subdir" + i);
+            Files.createDirectories(subDir.resolve("nested"));
+            Files.createFile(subDir.resolve("nested").resolve("test.pdf"));
+            subDirectories.add(subDir);
+        }
+        Files.createDirectories(testRoot.resolve("empty"));
+
+        UnlinkedPDFFileFilter unlinkedPDFFileFilter = mock(UnlinkedPDFFileFilter.class);
+        when(unlinkedPDFFileFilter.accept(any(Path.class))).thenReturn(true);
+
+        List<Path> partialResults = Collections.synchronizedList(new ArrayList<>());
+        UnlinkedFilesCrawler unlinkedFilesCrawler = new UnlinkedFilesCrawler(testRoot, unlinkedPDFFileFilter, DateRange.ALL_TIME, ExternalFileSorter.DEFAULT, mock(BibDatabaseContext.class), mock(FilePreferences.class))
+                .onPartialResult(directoryNode -> partialResults.add(directoryNode.getPath()));
+
+        FileNodeViewModel fileNodeViewModel = unlinkedFilesCrawler.searchDirectory(testRoot, unlinkedPDFFileFilter);
+
+        assertEquals(10, fileNodeViewModel.getFileCount());
+        assertEquals(Set.copyOf(subDirectories), Set.copyOf(partialResults));
+        List<Path> resultDirectories = fileNodeViewModel.getChildren().stream().map(FileNodeViewModel::getPath).toList();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(testRoot)) {
+            List<Path> expectedDirectories = new ArrayList<>();
+            directoryStream.forEach(expectedDirectories::add);
+            expectedDirectories.retainAll(subDirectories);
+            assertEquals(expectedDirectories, resultDirectories);
+        }
+    }
+
+    @Test
+    void canceledSearchReturnsEmptyTree(@TempDir Path testRoot) throws Exception {
+        Files.createFile(testRoot.resolve("test.pdf"));
+
+        UnlinkedPDFFileFilter unlinkedPDFFileFilter = mock(UnlinkedPDFFileFilter.class);
+        when(unlinkedPDFFileFilter.accept(any(Path.class))).thenReturn(true);
+
+        UnlinkedFilesCrawler unlinkedFilesCrawler = new UnlinkedFilesCrawler(testRoot, unlinkedPDFFileFilter, DateRange.ALL_TIME, ExternalFileSorter.DEFAULT, mock(BibDatabaseContext.class), mock(FilePreferences.class));
+        unlinkedFilesCrawler.cancel();
+
+        assertEquals(new FileNodeViewModel(testRoot), unlinkedFilesCrawler.searchDirectory(testRoot, unlinkedPDFFileFilter));
+    }
 }
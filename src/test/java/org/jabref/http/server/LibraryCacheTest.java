@@ -0,0 +1,85 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.importer.ParserResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LibraryCacheTest {
+
+    private final LibraryCache libraryCache = new LibraryCache();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final LibraryCache.LibraryLoader loader = path -> {
+        loadCount.incrementAndGet();
+        return new ParserResult();
+    };
+
+    private Path library;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, "@Misc{key}");
+    }
+
+    @Test
+    void unchangedLibraryIsParsedOnce() throws IOException {
+        ParserResult first = libraryCache.get(library, loader);
+        ParserResult second = libraryCache.get(library, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void modifiedLibraryIsParsedAgain() throws IOException {
+        ParserResult first = libraryCache.get(library, loader);
+        Files.writeString(library, "@Misc{otherKey}");
+        Files.setLastModifiedTime(library, FileTime.from(Instant.now().plusSeconds(10)));
+        ParserResult second = libraryCache.get(library, loader);
+
+        assertNotSame(first, second);
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void libraryWithChangedSizeIsParsedAgain() throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(library);
+        libraryCache.get(library, loader);
+        Files.writeString(library, "@Misc{keyWithOtherLength}");
+        Files.setLastModifiedTime(library, lastModified);
+        libraryCache.get(library, loader);
+
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void loaderExceptionIsPassedOn() {
+        assertThrows(IOException.class, () -> libraryCache.get(library, path -> {
+            throw new IOException("test");
+        }));
+    }
+
+    @Test
+    void failedLoadIsRetried() throws IOException {
+        assertThrows(IOException.class, () -> libraryCache.get(library, path -> {
+            throw new IOException("test");
+        }));
+        libraryCache.get(library, loader);
+
+        assertEquals(1, loadCount.get());
+    }
+}
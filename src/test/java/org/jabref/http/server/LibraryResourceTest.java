@@ -15,6 +15,7 @@ class LibraryResourceTest extends ServerTest {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
     }
 
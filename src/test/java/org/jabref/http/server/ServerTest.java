@@ -63,6 +63,15 @@ abstract class ServerTest extends JerseyTest {
         });
     }
 
+    protected void addLibraryCacheToResourceConfig(ResourceConfig resourceConfig) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(new LibraryCache()).to(LibraryCache.class);
+            }
+        });
+    }
+
     protected void setAvailableLibraries(EnumSet<TestBibFile> files) {
         when(guiPreferences.getLastFilesOpened()).thenReturn(
                 FXCollections.observableArrayList(
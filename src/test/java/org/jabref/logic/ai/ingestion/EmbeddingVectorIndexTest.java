@@ -0,0 +1,77 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmbeddingVectorIndexTest {
+
+    private EmbeddingVectorIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmbeddingVectorIndex();
+        index.add("x", "a.pdf", new float[] {1, 0});
+        index.add("y", "a.pdf", new float[] {0, 2});
+        index.add("xy", "b.pdf", new float[] {3, 3});
+    }
+
+    @Test
+    void searchReturnsMostSimilarFirst() {
+        List<String> ids = index.search(new float[] {1, 0.1f}, null, 3, -1).stream().map(EmbeddingVectorIndex.ScoredId::id).toList();
+
+        assertEquals(List.of("x", "xy", "y"), ids);
+    }
+
+    @Test
+    void searchRespectsMaxResults() {
+        List<String> ids = index.search(new float[] {1, 0.1f}, null, 1, -1).stream().map(EmbeddingVectorIndex.ScoredId::id).toList();
+
+        assertEquals(List.of("x"), ids);
+    }
+
+    @Test
+    void searchRespectsMinimalSimilarity() {
+        List<String> ids = index.search(new float[] {1, 0}, null, 3, 0.5).stream().map(EmbeddingVectorIndex.ScoredId::id).toList();
+
+        assertEquals(List.of("x", "xy"), ids);
+    }
+
+    @Test
+    void searchComputesCosineSimilarity() {
+        assertEquals(1.0, index.search(new float[] {0, 5}, null, 1, -1).getFirst().cosineSimilarity(), 1e-6);
+    }
+
+    @Test
+    void searchRestrictedToFile() {
+        List<String> ids = index.search(new float[] {1, 0}, List.of("b.pdf"), 3, -1).stream().map(EmbeddingVectorIndex.ScoredId::id).toList();
+
+        assertEquals(List.of("xy"), ids);
+    }
+
+    @Test
+    void removedVectorIsNotFound() {
+        index.remove("x");
+
+        assertEquals(Set.of("y"), Set.copyOf(index.getIds(List.of("a.pdf"))));
+        assertEquals("xy", index.search(new float[] {1, 0}, null, 1, -1).getFirst().id());
+    }
+
+    @Test
+    void clearRemovesEverything() {
+        index.clear();
+
+        assertEquals(List.of(), index.getIds(null));
+        assertEquals(List.of(), index.search(new float[] {1, 0}, null, 1, -1));
+    }
+
+    @Test
+    void addingVectorOfOtherDimensionFails() {
+        assertThrows(IllegalArgumentException.class, () -> index.add("z", "a.pdf", new float[] {1, 2, 3}));
+    }
+}
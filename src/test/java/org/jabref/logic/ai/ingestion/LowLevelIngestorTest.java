@@ -0,0 +1,85 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.List;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import org.jabref.preferences.ai.AiPreferences;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LowLevelIngestorTest {
+
+    private final AiPreferences aiPreferences = mock(AiPreferences.class);
+    @SuppressWarnings("unchecked")
+    private final EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+    private final EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+
+    private final IntegerProperty workDone = new SimpleIntegerProperty();
+    private final IntegerProperty workMax = new SimpleIntegerProperty();
+
+    private LowLevelIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        when(aiPreferences.customizeExpertSettingsProperty()).thenReturn(new SimpleBooleanProperty());
+        when(aiPreferences.getDocumentSplitterChunkSize()).thenReturn(20);
+        when(aiPreferences.getDocumentSplitterOverlapSize()).thenReturn(0);
+        when(aiPreferences.getEmbeddingBatchSize()).thenReturn(4);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            return new Response<>(segments.stream().map(segment -> Embedding.from(new float[] {segment.text().length()})).toList());
+        });
+
+        ingestor = new LowLevelIngestor(aiPreferences, embeddingStore, embeddingModel);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void embedsSegmentsInBatchesAndStoresThemAtOnce() throws InterruptedException {
+        Document document = Document.from("word ".repeat(100));
+
+        ingestor.ingestDocument(document, new SimpleBooleanProperty(false), workDone, workMax);
+
+        ArgumentCaptor<List<TextSegment>> batches = ArgumentCaptor.forClass(List.class);
+        verify(embeddingModel, times((workMax.get() + 3) / 4)).embedAll(batches.capture());
+        assertTrue(batches.getAllValues().stream().allMatch(batch -> batch.size() <= 4));
+
+        ArgumentCaptor<List<Embedding>> embeddings = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<TextSegment>> segments = ArgumentCaptor.forClass(List.class);
+        verify(embeddingStore).addAll(embeddings.capture(), segments.capture());
+        assertEquals(workMax.get(), embeddings.getValue().size());
+        assertEquals(workMax.get(), segments.getValue().size());
+        assertEquals(workMax.get(), workDone.get());
+    }
+
+    @Test
+    void stoppedIngestionStoresNothing() {
+        Document document = Document.from("word ".repeat(100));
+
+        assertThrows(InterruptedException.class, () -> ingestor.ingestDocument(document, new SimpleBooleanProperty(true), workDone, workMax));
+
+        verify(embeddingStore, never()).addAll(any(), any());
+    }
+}
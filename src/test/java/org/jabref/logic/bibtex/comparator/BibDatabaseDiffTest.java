@@ -1,13 +1,16 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.Test;
 
@@ -134,6 +137,44 @@ class BibDatabaseDiffTest {
         assertEquals(entryTwo, diff.getEntryDifferences().getFirst().newEntry(), "there is another value as newEntry");
     }
 
+    @Test
+    void compareMatchesEntriesByCitationKeyAndTypeBeforeSimilarity() {
+        BibEntry original = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("key")
+                .withField(StandardField.TITLE, "test")
+                .withField(StandardField.AUTHOR, "author");
+        BibEntry changed = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("key")
+                .withField(StandardField.TITLE, "changed test")
+                .withField(StandardField.YEAR, "2001");
+        BibEntry similar = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("other")
+                .withField(StandardField.TITLE, "test")
+                .withField(StandardField.AUTHOR, "author");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(List.of(original)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(List.of(changed, similar)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(List.of(new BibEntryDiff(original, changed), new BibEntryDiff(null, similar)), diff.getEntryDifferences());
+    }
+
+    @Test
+    void compareOfEqualEntriesInDifferentOrderReportsNoDifferences() {
+        List<BibEntry> originalEntries = new ArrayList<>();
+        List<BibEntry> newEntries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            originalEntries.add(new BibEntry().withCitationKey("key" + i).withField(StandardField.TITLE, "title"));
+            newEntries.addFirst(new BibEntry().withCitationKey("key" + i).withField(StandardField.TITLE, "title"));
+        }
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(
+                new BibDatabaseContext(new BibDatabase(originalEntries)),
+                new BibDatabaseContext(new BibDatabase(newEntries)));
+
+        assertEquals(Collections.emptyList(), diff.getEntryDifferences());
+    }
+
     private BibDatabaseDiff compareEntries(BibEntry entryOne, BibEntry entryTwo) {
         BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryOne)));
         BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryTwo)));
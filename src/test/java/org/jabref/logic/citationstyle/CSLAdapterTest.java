@@ -0,0 +1,50 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jabref.logic.util.TestEntry;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CSLAdapterTest {
+
+    private final BibEntry testEntry = TestEntry.getTestEntry();
+    private final BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(List.of(testEntry)));
+    private final BibEntryTypesManager bibEntryTypesManager = new BibEntryTypesManager();
+    private final String style = CitationStyle.getDefault().getSource();
+    private final CSLAdapter adapter = new CSLAdapter();
+
+    @Test
+    void engineIsReusedForSameStyle() throws Exception {
+        adapter.makeBibliography(List.of(testEntry), style, CitationStyleOutputFormat.HTML, context, bibEntryTypesManager);
+        adapter.makeBibliography(List.of(testEntry), style, CitationStyleOutputFormat.TEXT, context, bibEntryTypesManager);
+
+        assertEquals(1, adapter.getNumberOfIdleEngines(style));
+    }
+
+    @Test
+    void concurrentCallsReturnSameBibliography() throws Exception {
+        List<String> expected = adapter.makeBibliography(List.of(testEntry), style, CitationStyleOutputFormat.HTML, context, bibEntryTypesManager);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Callable<List<String>> makeBibliography = () -> adapter.makeBibliography(List.of(testEntry), style, CitationStyleOutputFormat.HTML, context, bibEntryTypesManager);
+            for (Future<List<String>> result : executor.invokeAll(Collections.nCopies(8, makeBibliography))) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jabref.logic.l10n.Localization;
@@ -121,6 +122,24 @@ class CitationStyleGeneratorTest {
         assertEquals(expectedCitation, actualCitation);
     }
 
+    @Test
+    void generateCitationOfEachEntryEqualsGeneratingEachCitationOnItsOwn() {
+        List<BibEntry> entries = IntStream.range(0, 20)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                  .withField(StandardField.AUTHOR, "Last" + i + ", First")
+                                                  .withField(StandardField.TITLE, "Title " + i)
+                                                  .withField(StandardField.YEAR, String.valueOf(2000 + i)))
+                                          .toList();
+        String style = CitationStyle.getDefault().getSource();
+        CitationStyleOutputFormat format = CitationStyleOutputFormat.HTML;
+
+        List<String> expectedCitations = entries.stream()
+                                                .map(entry -> CitationStyleGenerator.generateCitation(List.of(entry), style, format, context, bibEntryTypesManager).getFirst())
+                                                .toList();
+
+        assertEquals(expectedCitations, CitationStyleGenerator.generateCitationOfEachEntry(entries, style, format, context, bibEntryTypesManager));
+    }
+
     @Test
     void textFormat() {
         String expectedCitation = "[1]B. Smith, B. Jones, and J. Williams, “Title of the test entry,” BibTeX Journal, vol. 34, no. 3, pp. 45–67, Jul. 2016, doi: 10.1001/bla.blubb.\n";
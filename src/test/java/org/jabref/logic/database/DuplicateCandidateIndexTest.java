@@ -0,0 +1,85 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateCandidateIndexTest {
+
+    private final BibEntry article = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Single Author")
+            .withField(StandardField.TITLE, "A serious paper about something")
+            .withField(StandardField.YEAR, "2017");
+    private final BibEntry unrelatedArticle = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Completely Different")
+            .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+            .withField(StandardField.YEAR, "1992");
+
+    @Test
+    void blockingKeysContainIdentifiersTitleWordPairsAndFirstAuthorWithYear() {
+        BibEntry entry = new BibEntry()
+                .withField(StandardField.DOI, "10.1000/182")
+                .withField(StandardField.TITLE, "{A} serious paper")
+                .withField(StandardField.AUTHOR, "Author, Single and Other, Second")
+                .withField(StandardField.YEAR, "2017");
+
+        assertEquals(Set.of("doi:10.1000/182", "title:a serious", "title:serious paper", "author:author:2017"),
+                DuplicateCandidateIndex.getBlockingKeys(entry));
+    }
+
+    @Test
+    void entryWithSlightlyDifferentTitleIsCandidate() {
+        BibEntry similarArticle = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about somethin")
+                .withField(StandardField.YEAR, "2017");
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(List.of(unrelatedArticle, article));
+
+        assertEquals(List.of(article), candidateIndex.getCandidates(similarArticle));
+    }
+
+    @Test
+    void entryWithSameDoiIsCandidate() {
+        BibEntry otherArticle = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Something completely different")
+                .withField(StandardField.DOI, "10.1000/182");
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(List.of(article, unrelatedArticle.withField(StandardField.DOI, "10.1000/182")));
+
+        assertEquals(List.of(unrelatedArticle), candidateIndex.getCandidates(otherArticle));
+    }
+
+    @Test
+    void entryWithoutBlockingKeyIsCandidateForAll() {
+        BibEntry emptyEntry = new BibEntry();
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(List.of(article, emptyEntry, unrelatedArticle));
+
+        assertEquals(List.of(article, unrelatedArticle), candidateIndex.getCandidates(emptyEntry));
+        assertEquals(List.of(emptyEntry), candidateIndex.getCandidates(article));
+    }
+
+    @Test
+    void candidatesAddedAfterDoNotContainEarlierEntries() {
+        BibEntry duplicate = (BibEntry) article.clone();
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(List.of(article, unrelatedArticle, duplicate));
+
+        assertEquals(List.of(duplicate), candidateIndex.getCandidatesAddedAfter(article));
+        assertEquals(List.of(), candidateIndex.getCandidatesAddedAfter(duplicate));
+    }
+
+    @Test
+    void removedEntryIsNoCandidate() {
+        BibEntry duplicate = (BibEntry) article.clone();
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(List.of(article, unrelatedArticle));
+
+        candidateIndex.remove(article);
+
+        assertEquals(List.of(), candidateIndex.getCandidates(duplicate));
+    }
+}
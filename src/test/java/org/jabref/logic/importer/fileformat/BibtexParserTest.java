@@ -336,6 +336,19 @@ class BibtexParserTest {
         assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
     }
 
+    @Test
+    void parseSetsParsedSerializationOfEntriesLargerThanReadBuffer() throws IOException {
+        String longTitle = "Title ".repeat(3000).trim();
+        String firstEntry = "@article{first," + OS.NEWLINE + "  title = {" + longTitle + "}}" + OS.NEWLINE;
+        String secondEntry = "@article{second," + OS.NEWLINE + "  title = {Short}}";
+        List<BibEntry> parsedEntries = parser.parse(new StringReader(firstEntry + secondEntry))
+                                             .getDatabase().getEntries();
+
+        assertEquals(firstEntry, parsedEntries.getFirst().getParsedSerialization());
+        assertEquals(Optional.of(longTitle), parsedEntries.getFirst().getTitle());
+        assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         ParserResult result = parser
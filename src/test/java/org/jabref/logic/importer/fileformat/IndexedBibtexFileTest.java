@@ -0,0 +1,83 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.IndexedBibtexFile.IndexedEntry;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IndexedBibtexFileTest {
+
+    private static final String CONTENT = """
+            % Comment with an e-mail address: someone@example.org
+            @string{me = {Myself}}
+            @Article{first,
+              title = {Set \\{x\\} and \\}},
+              author = me
+            }
+
+            @comment{jabref-meta: databaseType:bibtex;}
+            @book{ second , title = {Gödel}}
+            """;
+
+    private static IndexedBibtexFile of(String content, Charset encoding) {
+        return new IndexedBibtexFile(ByteBuffer.wrap(content.getBytes(encoding)), encoding);
+    }
+
+    @Test
+    void indexesEntriesOnly() {
+        IndexedBibtexFile file = of(CONTENT, StandardCharsets.UTF_8);
+
+        // All characters in front of the "ö" are single bytes in UTF-8
+        assertEquals(List.of(
+                new IndexedEntry("article", "first", CONTENT.indexOf("@Article"), CONTENT.indexOf("}\n\n@comment") + 1),
+                new IndexedEntry("book", "second", CONTENT.indexOf("@book"), CONTENT.getBytes(StandardCharsets.UTF_8).length - 1)),
+                file.getEntries());
+    }
+
+    @Test
+    void parsesSingleEntry() throws Exception {
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        IndexedBibtexFile file = of(CONTENT, StandardCharsets.UTF_8);
+
+        BibEntry entry = file.parseEntry(file.getEntries().getLast(), importFormatPreferences).orElseThrow();
+
+        assertEquals(StandardEntryType.Book, entry.getType());
+        assertEquals(Optional.of("second"), entry.getCitationKey());
+        assertEquals(Optional.of("Gödel"), entry.getField(StandardField.TITLE));
+    }
+
+    @Test
+    void fileInEncodingNotCompatibleWithAsciiIsNotIndexed() {
+        assertEquals(List.of(), of(CONTENT, StandardCharsets.UTF_16).getEntries());
+    }
+
+    @Test
+    void readDecodesWholeFile(@TempDir Path tempDir) throws Exception {
+        Path bibFile = tempDir.resolve("library.bib");
+        Files.writeString(bibFile, CONTENT, StandardCharsets.ISO_8859_1);
+
+        IndexedBibtexFile file = IndexedBibtexFile.read(bibFile, StandardCharsets.ISO_8859_1);
+
+        assertEquals(CONTENT, file.decode(StandardCharsets.ISO_8859_1.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)));
+        assertEquals("second", file.getEntries().getLast().citationKey());
+    }
+}
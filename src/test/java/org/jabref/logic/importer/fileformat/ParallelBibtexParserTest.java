@@ -0,0 +1,94 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParallelBibtexParserTest {
+
+    private ImportFormatPreferences importFormatPreferences;
+
+    @BeforeEach
+    void setUp() {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+    }
+
+    @Test
+    void splitsAfterNewlineFollowingEntry() {
+        String first = "@article{a,\n  title = {A {nested} title}}\n";
+        String second = "\n% comment in front of b\n@book{b, title = {B}}\n";
+        String third = "@misc{c, title = {C}}";
+
+        assertEquals(List.of(first, second, third), ParallelBibtexParser.splitIntoChunks(first + second + third, 1));
+    }
+
+    @Test
+    void keepsStringsAndCommentsTogetherWithFollowingEntry() {
+        String content = """
+                @article{a, title = {A}}
+                @string{me = {Myself}}
+                @article{b, author = me}
+                @comment{jabref-meta: databaseType:bibtex;}
+                """;
+
+        assertEquals(List.of(content), ParallelBibtexParser.splitIntoChunks(content, 1));
+    }
+
+    @Test
+    void doesNotSplitAtAtSignInsideEntry() {
+        String first = "@article{a,\n  note = {\n@misc{no entry}}}\n";
+        String second = "@misc{b}";
+
+        assertEquals(List.of(first, second), ParallelBibtexParser.splitIntoChunks(first + second, 1));
+    }
+
+    @Test
+    void ignoresEscapedBraces() {
+        String first = "@article{a,\n  title = {Set \\{x\\} and \\}}}\n";
+        String second = "@misc{b}";
+
+        assertEquals(List.of(first, second), ParallelBibtexParser.splitIntoChunks(first + second, 1));
+    }
+
+    @Test
+    void parseOfLargeFileEqualsParseAsWhole() throws IOException {
+        StringBuilder content = new StringBuilder("% Encoding: UTF-8\n\n@preamble{\"\\newcommand{\\noopsort}[1]{}\"}\n\n@string{journal = {Journal of Tests}}\n\n");
+        for (int i = 0; i < 10000; i++) {
+            content.append("% Entry ").append(i).append('\n')
+                   .append("@article{key").append(i).append(",\n")
+                   .append("  author = {Author ").append(i).append(" and Other Author},\n")
+                   .append("  title = {A {Title} with number ").append(i).append("},\n")
+                   .append("  journal = journal,\n")
+                   .append("  year = {").append(1900 + (i % 100)).append("}\n")
+                   .append("}\n\n");
+        }
+        content.append("@comment{jabref-meta: databaseType:bibtex;}\n\nEpilog text");
+
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(new StringReader(content.toString()));
+        ParserResult actual = new ParallelBibtexParser(importFormatPreferences, new DummyFileUpdateMonitor()).parse(new StringReader(content.toString()));
+
+        assertEquals(expected.getDatabase().getEntries(), actual.getDatabase().getEntries());
+        assertEquals(expected.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                actual.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(expected.getDatabase().getPreamble(), actual.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getStringValues().stream().map(string -> string.getName() + string.getContent()).toList(),
+                actual.getDatabase().getStringValues().stream().map(string -> string.getName() + string.getContent()).toList());
+        assertEquals(expected.getDatabase().getEpilog(), actual.getDatabase().getEpilog());
+        assertEquals(expected.getMetaData(), actual.getMetaData());
+        assertEquals(expected.warnings(), actual.warnings());
+    }
+}
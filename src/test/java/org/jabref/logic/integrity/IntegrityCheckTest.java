@@ -145,6 +145,48 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkEntriesInParallelReturnsMessagesInOrderOfEntries() {
+        BibDatabase bibDatabase = new BibDatabase();
+        for (int i = 0; i < 500; i++) {
+            bibDatabase.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + (i % 250))
+                    .withField(StandardField.TITLE, "title with & number " + i)
+                    .withField(StandardField.YEAR, (i % 3 == 0) ? "20xx" : "2020"));
+        }
+        BibDatabaseContext context = new BibDatabaseContext(bibDatabase);
+        IntegrityCheck integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+
+        List<IntegrityMessage> expected = bibDatabase.getEntries().stream().flatMap(entry -> integrityCheck.checkEntry(entry).stream()).toList();
+        List<IntegrityMessage> actual = integrityCheck.checkEntriesInParallel(bibDatabase.getEntries(), () -> false, checkedEntries -> {
+        });
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void statisticsCountRunsAndMessagesOfEachChecker() {
+        BibDatabaseContext context = createContext(StandardField.YEAR, "20xx");
+        IntegrityCheck integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+
+        integrityCheck.check();
+
+        IntegrityCheckStatistics.CheckerStatistics yearCheckerStatistics = integrityCheck.getStatistics().getStatistics().stream()
+                                                                                          .filter(statistics -> "YearChecker".equals(statistics.checkerName()))
+                                                                                          .findFirst()
+                                                                                          .orElseThrow();
+        assertEquals(1, yearCheckerStatistics.runs());
+        assertEquals(1, yearCheckerStatistics.messages());
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
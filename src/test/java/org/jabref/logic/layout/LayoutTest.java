@@ -68,6 +68,21 @@ class LayoutTest {
         assertEquals("Misc", layout("\\bibtextype", entry));
     }
 
+    @Test
+    void layoutIsReusableForManyEntries() throws IOException {
+        Layout layout = new LayoutHelper(new StringReader("\\begin{author&!editor}\\author: \\end{author&!editor}\\format[ToUpperCase]{\\title}"), layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+        BibEntry first = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Author").withField(StandardField.TITLE, "first");
+        BibEntry second = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Author").withField(StandardField.EDITOR, "Editor").withField(StandardField.TITLE, "second");
+
+        StringBuilder builder = new StringBuilder();
+        layout.doLayout(first, null, builder);
+        builder.append('|');
+        layout.doLayout(second, null, builder);
+
+        assertEquals("Author: FIRST|SECOND", builder.toString());
+    }
+
     @Test
     void HTMLChar() throws IOException {
         BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "This\nis\na\ntext");
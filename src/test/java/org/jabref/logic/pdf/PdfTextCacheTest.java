@@ -0,0 +1,83 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfTextCacheTest {
+
+    private static final Path MINIMAL = Path.of("src/test/resources/pdfs/minimal.pdf");
+    private static final Path THESIS = Path.of("src/test/resources/pdfs/thesis-example.pdf");
+    private static final Path INLINE_NOTE = Path.of("src/test/resources/pdfs/minimal-inlinenote.pdf");
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private PdfTextCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PdfTextCache(cacheDirectory, PdfTextCache.DEFAULT_MAX_SIZE);
+    }
+
+    @Test
+    void storesTextNamedByHashOfFile() throws IOException {
+        ExtractedPdfText text = cache.getText(MINIMAL);
+
+        assertTrue(text.getContent().contains("Hello World"));
+        assertEquals(List.of(text.fileHash() + ".txt.gz"), cachedFileNames());
+    }
+
+    @Test
+    void returnsCachedTextOnSecondRequest() throws IOException {
+        ExtractedPdfText extracted = cache.getText(THESIS);
+
+        assertEquals(extracted, new PdfTextCache(cacheDirectory, PdfTextCache.DEFAULT_MAX_SIZE).getText(THESIS));
+    }
+
+    @Test
+    void extractsAnnotationsPerPage() throws IOException {
+        ExtractedPdfText text = cache.getText(INLINE_NOTE);
+
+        assertTrue(text.pages().stream().anyMatch(page -> !page.annotations().isEmpty()));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedText() throws IOException {
+        PdfTextCache tinyCache = new PdfTextCache(cacheDirectory, 1);
+
+        tinyCache.getText(MINIMAL);
+        ExtractedPdfText newest = tinyCache.getText(THESIS);
+
+        assertEquals(List.of(newest.fileHash() + ".txt.gz"), cachedFileNames());
+    }
+
+    @Test
+    void stoppedExtractionIsNotCached() throws IOException {
+        Optional<ExtractedPdfText> text = cache.getText(THESIS, new SimpleBooleanProperty(true));
+
+        assertEquals(Optional.empty(), text);
+        assertEquals(List.of(), cachedFileNames());
+    }
+
+    private List<String> cachedFileNames() throws IOException {
+        if (!Files.exists(cacheDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.map(file -> file.getFileName().toString()).toList();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
@@ -14,6 +15,7 @@ import org.jabref.preferences.FilePreferences;
 import org.apache.lucene.document.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -28,6 +30,9 @@ class DocumentReaderTest {
     private BibDatabaseContext databaseContext;
     private FilePreferences filePreferences;
 
+    @TempDir
+    private Path textCacheDir;
+
     @BeforeEach
     void setup() {
         this.databaseContext = mock(BibDatabaseContext.class);
@@ -45,7 +50,7 @@ class DocumentReaderTest {
         entry.setFiles(Collections.singletonList(new LinkedFile("Wrong path", "NOT_PRESENT.pdf", "Type")));
 
         // when
-        final List<Document> emptyDocumentList = new DocumentReader(entry, filePreferences).readLinkedPdfs(databaseContext);
+        final List<Document> emptyDocumentList = new DocumentReader(entry, filePreferences, new PdfTextCache(textCacheDir, PdfTextCache.DEFAULT_MAX_SIZE)).readLinkedPdfs(databaseContext);
 
         // then
         assertEquals(Collections.emptyList(), emptyDocumentList);
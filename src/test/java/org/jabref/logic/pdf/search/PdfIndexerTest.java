@@ -1,20 +1,32 @@
 package org.jabref.logic.pdf.search;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.pdf.search.SearchFieldConstants;
 import org.jabref.preferences.FilePreferences;
 
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.NIOFSDirectory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,9 +42,11 @@ class PdfIndexerTest {
     private PdfIndexer indexer;
     private BibDatabase database;
     private BibDatabaseContext context = mock(BibDatabaseContext.class);
+    private PdfTextCache textCache;
 
     @BeforeEach
-    void setUp(@TempDir Path indexDir) throws IOException {
+    void setUp(@TempDir Path indexDir, @TempDir Path textCacheDir) throws IOException {
+        this.textCache = new PdfTextCache(textCacheDir, PdfTextCache.DEFAULT_MAX_SIZE);
         FilePreferences filePreferences = mock(FilePreferences.class);
         this.database = new BibDatabase();
 
@@ -42,7 +56,7 @@ class PdfIndexerTest {
         when(context.getFulltextIndexPath()).thenReturn(indexDir);
         when(context.getDatabase()).thenReturn(database);
         when(context.getEntries()).thenReturn(database.getEntries());
-        this.indexer = PdfIndexer.of(context, filePreferences);
+        this.indexer = PdfIndexer.of(context, filePreferences, textCache);
     }
 
     @Test
@@ -154,4 +168,97 @@ class PdfIndexerTest {
             assertEquals(34, reader.numDocs());
         }
     }
+
+    @Test
+    void fileLinkedByTwoEntriesIsIndexedOnce() throws IOException {
+        BibEntry thesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry sameThesis = new BibEntry(StandardEntryType.Misc)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry metadata = new BibEntry(StandardEntryType.Article)
+                .withFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName())));
+        database.insertEntries(thesis, sameThesis, metadata);
+
+        List<Integer> progress = new ArrayList<>();
+        indexer.createIndex();
+        indexer.addToIndex(database.getEntries(), (indexedFiles, files) -> progress.add(indexedFiles), () -> false);
+
+        try (IndexReader reader = DirectoryReader.open(indexer.indexWriter)) {
+            assertEquals(34, reader.numDocs());
+        }
+        assertEquals(List.of(0, 1, 2), progress);
+    }
+
+    @Test
+    void upToDateFilesAreNotIndexedAgain() throws IOException {
+        BibEntry thesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        database.insertEntry(thesis);
+        indexer.rebuildIndex();
+
+        List<Integer> numberOfFiles = new ArrayList<>();
+        indexer.addToIndex(database.getEntries(), (indexedFiles, files) -> numberOfFiles.add(files), () -> false);
+
+        assertEquals(List.of(0), numberOfFiles);
+        try (IndexReader reader = DirectoryReader.open(indexer.indexWriter)) {
+            assertEquals(33, reader.numDocs());
+        }
+    }
+
+    @Test
+    void removePathsFromIndexRemovesAllGivenFiles() throws IOException {
+        database.insertEntries(
+                new BibEntry(StandardEntryType.PhdThesis)
+                        .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName()))),
+                new BibEntry(StandardEntryType.Article)
+                        .withFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName()))),
+                new BibEntry(StandardEntryType.Article)
+                        .withFiles(List.of(new LinkedFile("Minimal", "minimal.pdf", StandardFileType.PDF.getName()))));
+        indexer.rebuildIndex();
+
+        indexer.removePathsFromIndex(List.of("thesis-example.pdf", "metaData.pdf"));
+
+        assertEquals(Set.of("minimal.pdf"), indexer.getListOfFilePaths());
+    }
+
+    @Test
+    void updateIndexRemovesFilesNoLongerLinked() throws IOException {
+        BibEntry thesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry metadata = new BibEntry(StandardEntryType.Article)
+                .withFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName())));
+        database.insertEntries(thesis, metadata);
+        indexer.rebuildIndex();
+
+        database.removeEntry(thesis);
+        indexer.updateIndex((indexedFiles, files) -> {
+        }, () -> false);
+
+        assertEquals(Set.of("metaData.pdf"), indexer.getListOfFilePaths());
+    }
+
+    @Test
+    void touchedFileWithSameContentIsNotIndexedAgain(@TempDir Path fileDir, @TempDir Path indexDir) throws IOException {
+        Files.copy(Path.of("src/test/resources/pdfs/metaData.pdf"), fileDir.resolve("metaData.pdf"));
+        BibDatabaseContext fileContext = mock(BibDatabaseContext.class);
+        when(fileContext.getFileDirectories(Mockito.any())).thenReturn(List.of(fileDir));
+        when(fileContext.getEntries()).thenReturn(database.getEntries());
+        PdfIndexer fileIndexer = PdfIndexer.of(fileContext, indexDir, mock(FilePreferences.class), textCache);
+        database.insertEntry(new BibEntry(StandardEntryType.Article)
+                .withFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName()))));
+        fileIndexer.rebuildIndex();
+
+        Files.setLastModifiedTime(fileDir.resolve("metaData.pdf"), FileTime.from(Instant.now().plusSeconds(60)));
+        List<Integer> numberOfFiles = new ArrayList<>();
+        fileIndexer.updateIndex((indexedFiles, files) -> numberOfFiles.add(files), () -> false);
+
+        assertEquals(List.of(0), numberOfFiles);
+        String modified = String.valueOf(FileFingerprint.of(fileDir.resolve("metaData.pdf")).modified());
+        try (IndexReader reader = DirectoryReader.open(fileIndexer.indexWriter)) {
+            assertEquals(1, reader.numDocs());
+            TopDocs topDocs = new IndexSearcher(reader).search(new TermQuery(new Term(SearchFieldConstants.PATH, "metaData.pdf")), 1);
+            assertEquals(modified, reader.storedFields().document(topDocs.scoreDocs[0].doc).get(SearchFieldConstants.MODIFIED));
+        }
+        fileIndexer.close();
+    }
 }
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
@@ -31,7 +32,7 @@ class PdfSearcherTest {
     private PdfSearcher search;
 
     @BeforeEach
-    void setUp(@TempDir Path indexDir) throws IOException {
+    void setUp(@TempDir Path indexDir, @TempDir Path textCacheDir) throws IOException {
         FilePreferences filePreferences = mock(FilePreferences.class);
 
         BibDatabase database = new BibDatabase();
@@ -56,7 +57,7 @@ class PdfSearcherTest {
                 .withFiles(Collections.singletonList(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
         database.insertEntry(exampleThesis);
 
-        PdfIndexer indexer = PdfIndexer.of(context, filePreferences);
+        PdfIndexer indexer = PdfIndexer.of(context, filePreferences, new PdfTextCache(textCacheDir, PdfTextCache.DEFAULT_MAX_SIZE));
         search = PdfSearcher.of(indexer);
 
         indexer.rebuildIndex();
@@ -11,6 +11,7 @@ import org.jabref.gui.StateManager;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.pdf.search.PdfIndexer;
 import org.jabref.logic.pdf.search.PdfIndexerManager;
 import org.jabref.logic.util.StandardFileType;
@@ -20,6 +21,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.FieldTokenIndex;
 import org.jabref.model.search.rules.SearchRules;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.FilePreferences;
@@ -72,6 +74,8 @@ class DatabaseSearcherWithBibFilesTest {
 
     @TempDir
     private Path indexDir;
+    @TempDir
+    private Path textCacheDir;
     private PdfIndexer pdfIndexer;
     private StateManager stateManager;
     private PreferencesService preferencesService;
@@ -100,9 +104,12 @@ class DatabaseSearcherWithBibFilesTest {
         when(preferencesService.getFilePreferences()).thenReturn(filePreferences);
         Injector.setModelOrService(PreferencesService.class, preferencesService);
 
+        PdfTextCache textCache = new PdfTextCache(textCacheDir, PdfTextCache.DEFAULT_MAX_SIZE);
+        PdfIndexerManager.setTextCache(textCache);
+
         pdfIndexer = PdfIndexerManager.getIndexer(context, filePreferences);
         // Alternative - For debugging with Luke (part of the Apache Lucene distribution)
-        // pdfIndexer = PdfIndexer.of(context, Path.of("C:\\temp\\index"), filePreferences);
+        // pdfIndexer = PdfIndexer.of(context, Path.of("C:\\temp\\index"), filePreferences, textCache);
 
         pdfIndexer.rebuildIndex();
         return database;
@@ -171,6 +178,15 @@ class DatabaseSearcherWithBibFilesTest {
         List<BibEntry> matches = new DatabaseSearcher(new SearchQuery(query, searchFlags), database).getMatches();
         assertEquals(expected, matches);
     }
+
+    @ParameterizedTest(name = "{index} => query={2}, searchFlags={3}, testFile={1}, expected={0}")
+    @MethodSource("searchLibrary")
+    void searchLibraryWithFieldTokenIndex(List<BibEntry> expected, String testFile, String query, EnumSet<SearchRules.SearchFlags> searchFlags) throws Exception {
+        BibDatabase database = initializeDatabaseFromPath(testFile);
+        FieldTokenIndex index = new FieldTokenIndex(database);
+        List<BibEntry> matches = new DatabaseSearcher(new SearchQuery(query, searchFlags), database, index).getMatches();
+        assertEquals(expected, matches);
+    }
 }
 
 
@@ -366,6 +366,20 @@ class DBMSProcessorTest {
                 .withCitationKey("infigame1981");
     }
 
+    @Test
+    void insertEntriesWithMoreFieldsThanOneBatch() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Author " + i)
+                                                               .withField(StandardField.TITLE, "Title " + i)
+                                                               .withField(StandardField.YEAR, Integer.toString(2000 + (i % 20))));
+        }
+
+        dbmsProcessor.insertEntries(entries);
+
+        assertEquals(entries, dbmsProcessor.getSharedEntries());
+    }
+
     @Test
     void insertMultipleEntries() throws SQLException {
         List<BibEntry> entries = new ArrayList<>();
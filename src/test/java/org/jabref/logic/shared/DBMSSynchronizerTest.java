@@ -18,6 +18,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -125,6 +126,27 @@ class DBMSSynchronizerTest {
         assertEquals(Collections.singletonList(expectedBibEntry), actualEntries);
     }
 
+    @Test
+    void filteredOutChangesOfSeveralEntriesArePushedWithNextPull() throws Exception {
+        BibEntry firstEntry = createExampleBibEntry(1);
+        BibEntry secondEntry = createExampleBibEntry(2);
+        bibDatabase.insertEntries(firstEntry, secondEntry);
+
+        // changes of the shared database are not pushed, thus the synchronizer only gets the filtered events
+        firstEntry.setField(StandardField.TITLE, "The micro multiplexer", EntriesEventSource.SHARED);
+        FieldChangedEvent firstChange = new FieldChangedEvent(firstEntry, StandardField.TITLE, "The micro multiplexer", "The nano processor1");
+        firstChange.setFilteredOut(true);
+        dbmsSynchronizer.listen(firstChange);
+        secondEntry.setField(StandardField.TITLE, "The pico demultiplexer", EntriesEventSource.SHARED);
+        FieldChangedEvent secondChange = new FieldChangedEvent(secondEntry, StandardField.TITLE, "The pico demultiplexer", "The nano processor2");
+        secondChange.setFilteredOut(true);
+        dbmsSynchronizer.listen(secondChange);
+
+        dbmsSynchronizer.pullChanges();
+
+        assertEquals(List.of(firstEntry, secondEntry), dbmsProcessor.getSharedEntries());
+    }
+
     @Test
     void entriesRemovedEventListener() throws Exception {
         BibEntry bibEntry = createExampleBibEntry(1);
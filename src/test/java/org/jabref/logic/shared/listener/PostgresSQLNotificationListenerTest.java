@@ -0,0 +1,71 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.shared.DBMSProcessor;
+import org.jabref.logic.shared.DBMSSynchronizer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PostgresSQLNotificationListenerTest {
+
+    private static final String OTHER_PROCESSOR_ID = "other";
+
+    private DBMSSynchronizer dbmsSynchronizer;
+    private PostgresSQLNotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        dbmsSynchronizer = mock(DBMSSynchronizer.class);
+        listener = new PostgresSQLNotificationListener(dbmsSynchronizer, mock(PGConnection.class));
+    }
+
+    @Test
+    void notifiedEntriesArePulled() {
+        listener.handleNotification(PostgresSQLNotificationListener.createPayload(OTHER_PROCESSOR_ID, 1, List.of(1, 2)));
+
+        verify(dbmsSynchronizer).pullChanges(Set.of(1, 2));
+        verify(dbmsSynchronizer, never()).pullChanges();
+    }
+
+    @Test
+    void allChangesArePulledIfNoEntriesAreNotified() {
+        listener.handleNotification(PostgresSQLNotificationListener.createPayload(OTHER_PROCESSOR_ID, 1));
+
+        verify(dbmsSynchronizer).pullChanges();
+    }
+
+    @Test
+    void allChangesArePulledAfterMissedNotification() {
+        listener.handleNotification(PostgresSQLNotificationListener.createPayload(OTHER_PROCESSOR_ID, 1, List.of(1)));
+        listener.handleNotification(PostgresSQLNotificationListener.createPayload(OTHER_PROCESSOR_ID, 3, List.of(3)));
+
+        verify(dbmsSynchronizer).pullChanges(Set.of(1));
+        verify(dbmsSynchronizer, never()).pullChanges(Set.of(3));
+        verify(dbmsSynchronizer).pullChanges();
+    }
+
+    @Test
+    void allChangesArePulledForNotificationWithoutSequenceNumber() {
+        listener.handleNotification(OTHER_PROCESSOR_ID);
+
+        verify(dbmsSynchronizer).pullChanges();
+        verify(dbmsSynchronizer, never()).pullChanges(anySet());
+    }
+
+    @Test
+    void ownNotificationsAreIgnored() {
+        listener.handleNotification(PostgresSQLNotificationListener.createPayload(DBMSProcessor.PROCESSOR_ID, 1, List.of(1)));
+
+        verifyNoInteractions(dbmsSynchronizer);
+    }
+}
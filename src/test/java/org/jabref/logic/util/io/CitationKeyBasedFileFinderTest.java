@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -70,6 +71,17 @@ class CitationKeyBasedFileFinderTest {
         assertEquals(Arrays.asList(jpgFile, pdfFile), results);
     }
 
+    @Test
+    void findAssociatedFilesInSnapshotEqualsWalkingDirectories() throws Exception {
+        List<String> extensions = Arrays.asList("jpg", "pdf");
+        List<Path> dirs = Arrays.asList(rootDir, graphicsDir, pdfsDir);
+        FileFinder snapshotFileFinder = new CitationKeyBasedFileFinder(false, Optional.of(DirectorySnapshot.of(dirs)));
+
+        List<Path> results = snapshotFileFinder.findAssociatedFiles(entry, dirs, extensions);
+
+        assertEquals(new CitationKeyBasedFileFinder(false).findAssociatedFiles(entry, dirs, extensions), results);
+    }
+
     @Test
     void findAssociatedFilesIgnoresFilesStartingWithKeyButContinueWithText() throws Exception {
         Files.createFile(pdfsDir.resolve("HipKro03a - Hello second paper.pdf"));
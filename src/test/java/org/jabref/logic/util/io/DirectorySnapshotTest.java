@@ -0,0 +1,45 @@
+package org.jabref.logic.util.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DirectorySnapshotTest {
+
+    private Path directory;
+    private Path subdirectory;
+    private Path file;
+    private Path fileInSubdirectory;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        directory = tempDir;
+        subdirectory = Files.createDirectory(directory.resolve("papers"));
+        file = Files.createFile(directory.resolve("Knuth1984.pdf"));
+        fileInSubdirectory = Files.createFile(subdirectory.resolve("Goedel1931.pdf"));
+    }
+
+    @Test
+    void recordsFilesOfSubdirectories() throws Exception {
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(directory));
+
+        assertEquals(List.of(file), snapshot.getFilesIn(directory));
+        assertEquals(List.of(fileInSubdirectory), snapshot.getFilesIn(subdirectory));
+        assertEquals(List.of(fileInSubdirectory), snapshot.getFilesStartingWith("Goedel"));
+    }
+
+    @Test
+    void recordsFilesOfNestedDirectoriesOnce() throws Exception {
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(subdirectory, directory));
+
+        assertEquals(List.of(fileInSubdirectory), snapshot.getFilesIn(subdirectory));
+        assertEquals(List.of(fileInSubdirectory), snapshot.getFilesBelow(subdirectory));
+        assertEquals(List.of(fileInSubdirectory), snapshot.getFilesStartingWith("Goedel"));
+    }
+}
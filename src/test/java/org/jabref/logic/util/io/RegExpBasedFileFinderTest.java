@@ -4,6 +4,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
@@ -70,6 +71,20 @@ class RegExpBasedFileFinderTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    void yearAuthFirstPageFindFilesInSnapshot() throws Exception {
+        // given
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(directory));
+        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[year]_[auth]_[firstpage].*\\\\.[extension]", ',', Optional.of(snapshot));
+
+        // when
+        List<Path> result = fileFinder.findAssociatedFiles(entry, List.of(directory), PDF_EXTENSION);
+        List<Path> expected = List.of(directory.resolve("directory/subdirectory/2003_Hippel_209.pdf"));
+
+        // then
+        assertEquals(expected, result);
+    }
+
     @Test
     void yearAuthFirstPageFindFiles() throws Exception {
         // given
@@ -345,6 +345,51 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void correctKeyCountAfterChangingKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void getEntryByCitationKeyFindsEntryAfterKeyWasSet() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        entry.setCitationKey("AAA");
+        assertEquals(Optional.of(entry), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void getEntryByCitationKeyDoesNotFindEntryAfterKeyWasCleared() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.clearCiteKey();
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void getEntryByCitationKeyIgnoresChangesOfRemovedEntry() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyKeepsDatabaseOrder() {
+        BibEntry first = new BibEntry().withCitationKey("AAA");
+        BibEntry second = new BibEntry().withCitationKey("BBB");
+        database.insertEntries(first, second);
+        second.setCitationKey("AAA");
+        first.setCitationKey("CCC");
+        first.setCitationKey("AAA");
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("AAA"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
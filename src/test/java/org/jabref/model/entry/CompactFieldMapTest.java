@@ -0,0 +1,101 @@
+package org.jabref.model.entry;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactFieldMapTest {
+
+    private final CompactFieldMap map = new CompactFieldMap();
+
+    @Test
+    void putReturnsPreviousValue() {
+        assertNull(map.put(StandardField.TITLE, "First"));
+        assertEquals("First", map.put(StandardField.TITLE, "Second"));
+
+        assertEquals(Map.of(StandardField.TITLE, "Second"), map);
+    }
+
+    @Test
+    void removeKeepsOtherFields() {
+        map.put(StandardField.AUTHOR, "Author");
+        map.put(StandardField.TITLE, "Title");
+        map.put(StandardField.YEAR, "2024");
+
+        assertEquals("Title", map.remove(StandardField.TITLE));
+        assertNull(map.remove(StandardField.TITLE));
+
+        assertEquals(Map.of(StandardField.AUTHOR, "Author", StandardField.YEAR, "2024"), map);
+    }
+
+    @Test
+    void unknownFieldsAreEqualByName() {
+        map.put(new UnknownField("custom"), "Value");
+
+        assertEquals("Value", map.get(new UnknownField("custom")));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void unknownFieldDoesNotFindStandardFieldAsInHashMap() {
+        map.put(StandardField.TITLE, "Title");
+
+        assertFalse(map.containsKey(new UnknownField("title")));
+    }
+
+    @Test
+    void iteratorWorksOnSnapshot() {
+        map.put(StandardField.AUTHOR, "Author");
+        map.put(StandardField.TITLE, "Title");
+
+        Iterator<Field> iterator = map.keySet().iterator();
+        assertEquals(StandardField.AUTHOR, iterator.next());
+        map.remove(StandardField.TITLE);
+
+        assertEquals(StandardField.TITLE, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void iteratorRemovesFromMap() {
+        map.put(StandardField.AUTHOR, "Author");
+        map.put(StandardField.TITLE, "Title");
+
+        map.keySet().removeIf(StandardField.AUTHOR::equals);
+
+        assertEquals(List.of(StandardField.TITLE), List.copyOf(map.keySet()));
+    }
+
+    @Test
+    void entrySetValueWritesThrough() {
+        map.put(StandardField.TITLE, "Title");
+
+        map.entrySet().iterator().next().setValue("Other");
+
+        assertEquals("Other", map.get(StandardField.TITLE));
+    }
+
+    @Test
+    void nullValueIsRejected() {
+        assertThrows(NullPointerException.class, () -> map.put(StandardField.TITLE, null));
+    }
+
+    @Test
+    void hashCodeEqualsHashCodeOfOtherMaps() {
+        map.put(StandardField.TITLE, "Title");
+        map.put(new UnknownField("custom"), "Value");
+
+        assertEquals(Map.of(StandardField.TITLE, "Title", new UnknownField("custom"), "Value").hashCode(), map.hashCode());
+    }
+}
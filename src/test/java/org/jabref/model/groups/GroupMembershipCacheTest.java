@@ -0,0 +1,81 @@
+package org.jabref.model.groups;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class GroupMembershipCacheTest {
+
+    private final BibEntry matchingEntry = new BibEntry().withField(StandardField.KEYWORDS, "A");
+    private final BibEntry otherEntry = new BibEntry().withField(StandardField.KEYWORDS, "B");
+
+    private BibDatabase database;
+    private GroupMembershipCache cache;
+    private WordKeywordGroup group;
+    private GroupTreeNode node;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        database.insertEntries(matchingEntry, otherEntry);
+        cache = new GroupMembershipCache(database);
+        group = spy(new WordKeywordGroup("A", GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, "A", true, ',', false));
+        node = new GroupTreeNode(group);
+    }
+
+    @Test
+    void countsMatchedEntries() {
+        assertEquals(1, cache.numberOfMatchesProperty(node).get());
+    }
+
+    @Test
+    void addedAndRemovedEntriesAreCounted() {
+        cache.numberOfMatchesProperty(node);
+
+        BibEntry addedEntry = new BibEntry().withField(StandardField.KEYWORDS, "A");
+        database.insertEntry(addedEntry);
+        assertEquals(2, cache.numberOfMatchesProperty(node).get());
+
+        database.removeEntry(matchingEntry);
+        assertEquals(1, cache.numberOfMatchesProperty(node).get());
+    }
+
+    @Test
+    void changeOfRelevantFieldUpdatesMatches() {
+        cache.numberOfMatchesProperty(node);
+
+        otherEntry.setField(StandardField.KEYWORDS, "A");
+
+        assertEquals(2, cache.numberOfMatchesProperty(node).get());
+    }
+
+    @Test
+    void changeOfOtherFieldDoesNotEvaluateGroup() {
+        cache.numberOfMatchesProperty(node);
+        clearInvocations(group);
+
+        otherEntry.setField(StandardField.TITLE, "Title");
+
+        verify(group, never()).contains(any());
+        assertEquals(1, cache.numberOfMatchesProperty(node).get());
+    }
+
+    @Test
+    void addedSubgroupOfIncludingGroupIsConsidered() {
+        cache.numberOfMatchesProperty(node);
+
+        node.addSubgroup(new WordKeywordGroup("B", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "B", true, ',', false));
+
+        assertEquals(2, cache.numberOfMatchesProperty(node).get());
+    }
+}
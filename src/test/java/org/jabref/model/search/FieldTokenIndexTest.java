@@ -0,0 +1,137 @@
+package org.jabref.model.search;
+
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.rules.SearchRule;
+import org.jabref.model.search.rules.SearchRules;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FieldTokenIndexTest {
+
+    private final BibEntry knuth = new BibEntry(StandardEntryType.Book)
+            .withField(StandardField.AUTHOR, "Donald E. Knuth")
+            .withField(StandardField.TITLE, "The Art of Computer Programming");
+    private final BibEntry goedel = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Kurt G{\\\"o}del")
+            .withField(StandardField.TITLE, "On Formally Undecidable Propositions");
+
+    private BibDatabase database;
+    private FieldTokenIndex index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase(List.of(knuth, goedel));
+        index = new FieldTokenIndex(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    private Set<BibEntry> entriesContaining(String term) {
+        return index.getEntries(index.getEntriesContaining(term));
+    }
+
+    private Optional<Set<BibEntry>> candidates(String query) {
+        SearchRule rule = SearchRules.getSearchRuleByQuery(query, EnumSet.noneOf(SearchRules.SearchFlags.class));
+        return rule.getCandidates(query, index).map(index::getEntries);
+    }
+
+    @Test
+    void findsPartOfTokenIgnoringCase() {
+        assertEquals(Set.of(knuth), entriesContaining("PROGRAM"));
+    }
+
+    @Test
+    void findsLatexFreeValueIgnoringAccents() {
+        assertEquals(Set.of(goedel), entriesContaining("Gödel"));
+    }
+
+    @Test
+    void termWithWhitespaceRequiresAllParts() {
+        assertEquals(Set.of(knuth), entriesContaining("art of"));
+        assertEquals(Set.of(), entriesContaining("art undecidable"));
+    }
+
+    @Test
+    void changedFieldIsReindexed() {
+        knuth.setField(StandardField.TITLE, "Concrete Mathematics");
+
+        assertEquals(Set.of(), entriesContaining("program"));
+        assertEquals(Set.of(knuth), entriesContaining("concrete"));
+    }
+
+    @Test
+    void addedAndRemovedEntriesAreConsidered() {
+        BibEntry turing = new BibEntry().withField(StandardField.AUTHOR, "Alan Turing");
+        database.insertEntry(turing);
+        database.removeEntry(knuth);
+
+        assertEquals(Set.of(turing), entriesContaining("tur"));
+        assertEquals(Set.of(), entriesContaining("knuth"));
+        assertEquals(Set.of(goedel, turing), index.getEntries(index.getAllEntries()));
+    }
+
+    @Test
+    void slotOfRemovedEntryIsReused() {
+        BitSet slotsBefore = index.getAllEntries();
+        database.removeEntry(knuth);
+        database.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "Alan Turing"));
+
+        assertEquals(slotsBefore, index.getAllEntries());
+    }
+
+    @Test
+    void entriesAddedBeforeFirstUseAreIndexed() {
+        BibEntry turing = new BibEntry().withField(StandardField.AUTHOR, "Alan Turing");
+        database.insertEntry(turing);
+
+        assertEquals(Set.of(turing), entriesContaining("turing"));
+        assertEquals(Set.of(knuth, goedel, turing), index.getEntries(index.getAllEntries()));
+    }
+
+        @Test
+    void extendedTermUsesPreviousResult() {
+        assertEquals(Set.of(knuth, goedel), entriesContaining("p"));
+        assertEquals(Set.of(knuth, goedel), entriesContaining("pro"));
+        assertEquals(Set.of(knuth), entriesContaining("prog"));
+    }
+
+    @Test
+    void containsBasedRuleRequiresAllWords() {
+        assertEquals(Optional.of(Set.of(knuth)), candidates("donald art"));
+    }
+
+    @Test
+    void grammarBasedRuleCombinesComparisons() {
+        assertEquals(Optional.of(Set.of(knuth)), candidates("author=knuth and title=art"));
+        assertEquals(Optional.of(Set.of(knuth, goedel)), candidates("author=knuth or title=\"undecidable propositions\""));
+        assertEquals(Optional.of(Set.of(goedel)), candidates("title=formally and not author=knuth"));
+    }
+
+    @Test
+    void grammarBasedRuleWithoutContainmentHasNoCandidates() {
+        assertEquals(Optional.empty(), candidates("author!=knuth"));
+        assertEquals(Optional.empty(), candidates("entrytype=book"));
+        assertEquals(Optional.empty(), candidates("author=knuth or not title=art"));
+    }
+
+    @Test
+    void candidatesAreEmptyBitSetIfNothingMatches() {
+        assertEquals(new BitSet(), index.getEntriesContaining("nothing"));
+    }
+}